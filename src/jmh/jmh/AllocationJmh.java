@@ -0,0 +1,79 @@
+package jmh;
+
+import elem.LevelElement;
+import model.Level;
+import model.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import persistence.JsonReader;
+import util.JsonParser;
+import util.Position;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of Level.handlePlayerCollisions on a shipped level for a player in open space, a player pushed out
+ * of a wall, and a player reset by an obstacle; once the JIT has warmed up, the GC profiler's gc.alloc.rate.norm
+ * should be (close to) 0 bytes per operation in every scenario
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AllocationJmh {
+    @Param({"./data/level/mainLevel0.json"})
+    public String levelFile;
+
+    @Param({"openSpace", "wallContact", "obstacleReset"})
+    public String scenario;
+
+    private Level level;
+    private Player player;
+    private double[] sample;
+
+    /**
+     * Loads the level and places the scenario's player sample next to its first wall or obstacle
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.level = JsonParser.jsonToLevel(JsonReader.readFile(this.levelFile));
+        this.player = new Player(new Position(0, 0), Color.WHITE);
+        LevelElement wall = this.level.getWalls().get(0);
+        LevelElement obst = this.level.getObstacles().get(0);
+        if (this.scenario.equals("wallContact")) {
+            this.sample = new double[]{wall.getPosition().getPosX() - Player.SIZE,
+                    wall.getPosition().getPosY() + wall.getHeight() / 2.0, 1.5, 0};
+        } else if (this.scenario.equals("obstacleReset")) {
+            this.sample = new double[]{obst.getPosition().getPosX() + obst.getWidth() / 2.0,
+                    obst.getPosition().getPosY() + obst.getHeight() / 2.0, 0.375, -0.375};
+        } else {
+            this.sample = new double[]{-1000, -1000, 0, 0};
+        }
+    }
+
+    /**
+     * @return the collision event status from placing the player at the scenario's sample and handling its collisions
+     */
+    @Benchmark
+    public int handlePlayerCollisions() {
+        this.player.setPosition(this.sample[0], this.sample[1]);
+        this.player.setDX(this.sample[2]);
+        this.player.setDY(this.sample[3]);
+        return this.level.handlePlayerCollisions(this.player).getStatus();
+    }
+}
@@ -0,0 +1,95 @@
+package jmh;
+
+import model.BatchResult;
+import model.BatchRunner;
+import model.Level;
+import model.TickInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import persistence.JsonReader;
+import util.JsonParser;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of simulating a batch of random input sequences against every level in the level directory
+ * (BatchRunner), on one worker thread and on one worker thread per available core
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BatchJmh {
+    public static final String LEVEL_DIRECTORY = "./data/level/";
+    public static final int SEQUENCES = 500;
+    public static final int SEQUENCE_LENGTH = 60;
+    public static final int HOLD_STEPS = 15;
+    public static final int MAX_TICKS = 900;
+
+    // number of worker threads (0 = one per available core)
+    @Param({"1", "0"})
+    public int parallelism;
+
+    private BatchRunner runner;
+
+    /**
+     * Loads every level in the level directory, in file name order, and creates the batch runner
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Setup
+    public void setup() throws IOException {
+        File[] files = new File(LEVEL_DIRECTORY).listFiles((dir, name) -> name.endsWith(".json"));
+        if (files == null) {
+            throw new IOException("Not a directory: " + LEVEL_DIRECTORY);
+        }
+        Arrays.sort(files);
+        List<Level> levels = new ArrayList<>();
+        for (File file : files) {
+            levels.add(JsonParser.jsonToLevel(JsonReader.readFile(file.getPath())));
+        }
+        int threads = this.parallelism > 0 ? this.parallelism : Runtime.getRuntime().availableProcessors();
+        this.runner = new BatchRunner(levels, MAX_TICKS, threads);
+    }
+
+    /**
+     * Creates a random input sequence, holding each movement input for HOLD_STEPS clock ticks
+     *
+     * @param index index of the sequence (the same index always creates the same sequence)
+     * @return the input sequence
+     */
+    private static TickInput[] createSequence(int index) {
+        Random random = new Random(index);
+        TickInput[] sequence = new TickInput[SEQUENCE_LENGTH];
+        for (int i = 0; i < sequence.length; i += HOLD_STEPS) {
+            Arrays.fill(sequence, i, Math.min(i + HOLD_STEPS, sequence.length),
+                    new TickInput(random.nextInt(3) - 1, random.nextInt(3) - 1));
+        }
+        return sequence;
+    }
+
+    /**
+     * @return the outcomes of running every sequence in every level, one result per level
+     */
+    @Benchmark
+    public BatchResult[] run() {
+        return this.runner.run(SEQUENCES, BatchJmh::createSequence);
+    }
+}
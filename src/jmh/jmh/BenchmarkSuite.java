@@ -0,0 +1,31 @@
+package jmh;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmark suite with the GC profiler, so every benchmark reports its allocation rate
+ * (gc.alloc.rate.norm, in bytes per operation) alongside its throughput
+ */
+public class BenchmarkSuite {
+
+    /**
+     * Runs the benchmarks
+     *
+     * @param args optional regular expressions selecting the benchmarks to run (all benchmarks if none are given)
+     * @throws RunnerException if a benchmark fails to run
+     */
+    public static void main(String[] args) throws RunnerException {
+        ChainedOptionsBuilder options = new OptionsBuilder().addProfiler(GCProfiler.class);
+        if (args.length == 0) {
+            options.include("jmh\\..*");
+        }
+        for (String pattern : args) {
+            options.include(pattern);
+        }
+        new Runner(options.build()).run();
+    }
+}
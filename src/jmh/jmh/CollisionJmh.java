@@ -0,0 +1,272 @@
+package jmh;
+
+import elem.Goal;
+import elem.Obstacle;
+import elem.Wall;
+import model.Level;
+import model.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import util.CollisionEvent;
+import util.ElementBounds;
+import util.Position;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of Level.handlePlayerCollisions (spatial index) on generated levels from tiny to huge, against a
+ * linear scan over every level element and a linear scan over the elements' packed bounds, cycling the player
+ * through a fixed set of positions + velocities spread over the level (the spatial index wins from the size where
+ * its score overtakes the linear scan's)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionJmh {
+    @Param({"4", "16", "64", "256", "1024", "16384", "65536"})
+    public int size;
+
+    private Level level;
+    private LinearScan linearScan;
+    private PackedScan packedScan;
+    private Player player;
+    private double[][] samples;
+    private int next;
+
+    /**
+     * Generates the level and player samples
+     */
+    @Setup
+    public void setup() {
+        this.level = GeneratedLevels.generateLevel(this.size, new Random(this.size));
+        this.linearScan = new LinearScan(this.level);
+        this.packedScan = new PackedScan(this.level);
+        this.samples = GeneratedLevels.generateSamples(this.level, new Random(-this.size));
+        this.player = new Player(new Position(0, 0), Color.WHITE);
+        this.next = 0;
+    }
+
+    /**
+     * Moves the player to the next sample's position and sets its velocity
+     */
+    private void applyNextSample() {
+        double[] sample = this.samples[this.next];
+        this.next = (this.next + 1) % this.samples.length;
+        this.player.setPosition(sample[0], sample[1]);
+        this.player.setDX(sample[2]);
+        this.player.setDY(sample[3]);
+    }
+
+    /**
+     * @return the collision event from handling the next sample's collisions
+     */
+    @Benchmark
+    public CollisionEvent handlePlayerCollisions() {
+        applyNextSample();
+        return this.level.handlePlayerCollisions(this.player);
+    }
+
+    /**
+     * @return the collision event status from handling the next sample's collisions with a linear scan
+     */
+    @Benchmark
+    public int linearScan() {
+        applyNextSample();
+        return this.linearScan.handlePlayerCollisions(this.player);
+    }
+
+    /**
+     * @return the collision event status from handling the next sample's collisions with a packed linear scan
+     */
+    @Benchmark
+    public int packedScan() {
+        applyNextSample();
+        return this.packedScan.handlePlayerCollisions(this.player);
+    }
+
+    /**
+     * Represents the original linear collision scan over every element in a level, kept as a baseline
+     */
+    public static class LinearScan {
+        private final Level level;
+        private final List<Wall> walls;
+        private final List<Obstacle> obstacles;
+        private final List<Goal> goals;
+
+        /**
+         * Creates a linear scan over the given level's elements
+         *
+         * @param level level to scan
+         */
+        public LinearScan(Level level) {
+            this.level = level;
+            this.walls = level.getWalls();
+            this.obstacles = level.getObstacles();
+            this.goals = level.getGoals();
+        }
+
+        /**
+         * Handles player collisions by checking every wall, then every obstacle, then every goal
+         *
+         * @param player player to check collisions for
+         * @return constant representing the appropriate collision event status
+         */
+        public int handlePlayerCollisions(Player player) {
+            handleWallCollisions(player);
+            for (Obstacle obst : this.obstacles) {
+                if (obst.isCollidingWithPlayer(player)) {
+                    this.level.startLevel(player);
+                    return Level.RESET;
+                }
+            }
+            for (Goal goal : this.goals) {
+                if (goal.isCollidingWithPlayer(player)) {
+                    return Level.GOAL_REACHED;
+                }
+            }
+            return Level.NO_STATE_CHANGE;
+        }
+
+        /**
+         * Handles player collisions with walls
+         *
+         * @param player player to check collisions for
+         */
+        private void handleWallCollisions(Player player) {
+            double startY = player.getPosition().getPosY();
+            double startX = player.getPosition().getPosX();
+            List<Wall> wallsToCheck = new ArrayList<>(this.walls);
+            List<Wall> filteredWalls = new ArrayList<>();
+            do {
+                filteredWalls.clear();
+                for (Wall wall : wallsToCheck) {
+                    if (wall.isCollidingWithPlayer(player)) {
+                        filteredWalls.add(wall);
+                    }
+                }
+                for (Wall wall : filteredWalls) {
+                    wall.onPlayerCollision(player);
+                    wallsToCheck.remove(wall);
+                }
+            } while (filteredWalls.size() > 0);
+            stopOnMove(player, startX, startY);
+        }
+    }
+
+    /**
+     * Represents a linear collision scan over the packed bounds of every element in a level, resolving walls in the
+     * same order as the original scan
+     */
+    public static class PackedScan {
+        private final Level level;
+        private final List<Wall> walls;
+        private final ElementBounds wallBounds;
+        private final ElementBounds obstacleBounds;
+        private final ElementBounds goalBounds;
+        private final boolean[] resolved;
+        private final int[] colliding;
+
+        /**
+         * Creates a packed linear scan over the given level's elements
+         *
+         * @param level level to scan
+         */
+        public PackedScan(Level level) {
+            this.level = level;
+            this.walls = level.getWalls();
+            this.wallBounds = new ElementBounds(this.walls);
+            this.obstacleBounds = new ElementBounds(level.getObstacles());
+            this.goalBounds = new ElementBounds(level.getGoals());
+            this.resolved = new boolean[this.walls.size()];
+            this.colliding = new int[this.walls.size()];
+        }
+
+        /**
+         * Handles player collisions by checking every wall, then every obstacle, then every goal
+         *
+         * @param player player to check collisions for
+         * @return constant representing the appropriate collision event status
+         */
+        public int handlePlayerCollisions(Player player) {
+            handleWallCollisions(player);
+            double posX = player.getPosition().getPosX();
+            double posY = player.getPosition().getPosY();
+            if (this.obstacleBounds.findFirstColliding(posX, posY) != -1) {
+                this.level.startLevel(player);
+                return Level.RESET;
+            }
+            if (this.goalBounds.findFirstColliding(posX, posY) != -1) {
+                return Level.GOAL_REACHED;
+            }
+            return Level.NO_STATE_CHANGE;
+        }
+
+        /**
+         * Handles player collisions with walls
+         *
+         * @param player player to check collisions for
+         */
+        private void handleWallCollisions(Player player) {
+            double startY = player.getPosition().getPosY();
+            double startX = player.getPosition().getPosX();
+            Arrays.fill(this.resolved, false);
+            int found;
+            do {
+                found = findCollidingWalls(player.getPosition().getPosX(), player.getPosition().getPosY());
+                for (int i = 0; i < found; i++) {
+                    this.walls.get(this.colliding[i]).onPlayerCollision(player);
+                    this.resolved[this.colliding[i]] = true;
+                }
+            } while (found > 0);
+            stopOnMove(player, startX, startY);
+        }
+
+        /**
+         * @param posX player x coordinate
+         * @param posY player y coordinate
+         * @return the number of unresolved walls colliding with the player, stored in list order in colliding
+         */
+        private int findCollidingWalls(double posX, double posY) {
+            int found = 0;
+            for (int i = 0; i < this.resolved.length; i++) {
+                if (!this.resolved[i] && this.wallBounds.isCollidingWithPlayer(i, posX, posY)) {
+                    this.colliding[found++] = i;
+                }
+            }
+            return found;
+        }
+    }
+
+    /**
+     * Stops the player's movement along each axis the walls pushed it along
+     *
+     * @param player player pushed out of walls
+     * @param startX player x coordinate before the walls were resolved
+     * @param startY player y coordinate before the walls were resolved
+     */
+    private static void stopOnMove(Player player, double startX, double startY) {
+        if (player.getPosition().getPosX() != startX) {
+            player.setDX(0);
+        }
+        if (player.getPosition().getPosY() != startY) {
+            player.setDY(0);
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package jmh;
+
+import elem.Goal;
+import elem.LevelElement;
+import elem.Obstacle;
+import elem.Wall;
+import model.Level;
+import model.Simulation;
+import util.Position;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Generates the levels + player samples the benchmarks run on
+ */
+public class GeneratedLevels {
+    public static final int SAMPLE_COUNT = 1024;
+    public static final double ELEMENT_SPACING = 48;
+    public static final int DENSE_FIELD_SCALE = 2;
+
+    /**
+     * Generates a level with the given number of elements spread at a constant density, so the play area grows
+     * with the element count as it does for generated levels
+     *
+     * @param size number of elements to generate
+     * @param random random number source
+     * @return the generated level
+     */
+    public static Level generateLevel(int size, Random random) {
+        double side = Math.sqrt(size) * ELEMENT_SPACING;
+        List<LevelElement> elements = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            Position pos = new Position(Math.floor(random.nextDouble() * side),
+                    Math.floor(random.nextDouble() * side));
+            elements.add(generateElement(pos, random));
+        }
+        return new Level("bench", size, new Position(-100, -100), 30, elements);
+    }
+
+    /**
+     * Generates a level with the given number of elements spread at a constant density, on a playing field large
+     * enough to hold them all (and never smaller than the screen)
+     *
+     * @param size number of elements to generate
+     * @param random random number source
+     * @return the generated level
+     */
+    public static Level generateFieldLevel(int size, Random random) {
+        Level level = generateLevel(size, random);
+        int side = (int) Math.ceil(Math.sqrt(size) * ELEMENT_SPACING);
+        level.setFieldSize(Math.max(side, Simulation.PLAYFIELD_WIDTH), Math.max(side, Simulation.PLAYFIELD_HEIGHT));
+        return level;
+    }
+
+    /**
+     * Generates a level with the given number of randomly placed + sized elements packed into a playing field
+     * DENSE_FIELD_SCALE times the screen's size in each direction, so every view holds many elements
+     *
+     * @param size number of elements to generate
+     * @param random random number source
+     * @return the generated level
+     */
+    public static Level generateDenseLevel(int size, Random random) {
+        int width = Simulation.PLAYFIELD_WIDTH * DENSE_FIELD_SCALE;
+        int height = Simulation.PLAYFIELD_HEIGHT * DENSE_FIELD_SCALE;
+        List<LevelElement> elements = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            elements.add(generateElement(new Position(random.nextInt(width), random.nextInt(height)), random));
+        }
+        Level level = new Level("dense", size, new Position(-100, -100), 30, elements);
+        level.setFieldSize(width, height);
+        return level;
+    }
+
+    /**
+     * Generates a randomly sized wall (60% of the time), obstacle (30%), or goal (10%) at the given position
+     *
+     * @param pos position of the element
+     * @param random random number source
+     * @return the generated element
+     */
+    private static LevelElement generateElement(Position pos, Random random) {
+        int width = 4 + random.nextInt(28);
+        int height = 4 + random.nextInt(28);
+        int type = random.nextInt(10);
+        if (type < 6) {
+            return new Wall(pos, width, height);
+        } else if (type < 9) {
+            return new Obstacle(pos, width, height);
+        } else {
+            return new Goal(pos, width, height, 0);
+        }
+    }
+
+    /**
+     * Generates player positions + velocities spread over the given level's area
+     *
+     * @param level level generated by generateLevel
+     * @param random random number source
+     * @return array of samples as {x, y, dx, dy}
+     */
+    public static double[][] generateSamples(Level level, Random random) {
+        double side = Math.sqrt(level.getAllElements().size()) * ELEMENT_SPACING;
+        double[][] samples = new double[SAMPLE_COUNT][];
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            samples[i] = new double[]{Math.floor(random.nextDouble() * side * 4) / 4,
+                    Math.floor(random.nextDouble() * side * 4) / 4,
+                    (random.nextInt(17) - 8) * 0.375, (random.nextInt(17) - 8) * 0.375};
+        }
+        return samples;
+    }
+
+    /**
+     * Generates the JSON text of a level with the given number of elements, in the shipped level file layout
+     *
+     * @param elementCount number of elements to generate
+     * @param random random number source
+     * @return the level's JSON text
+     */
+    public static String generateLevelJson(int elementCount, Random random) {
+        StringBuilder json = new StringBuilder("{\n  \"formatVersion\": 2,\n  \"metadata\": {\"namespace\": \"bench\","
+                + " \"id\": 0},\n  \"initialFrameRate\": 30,\n  \"spawn\": {\"posX\": 10, \"posY\": 10}");
+        String[] types = {"obstacles", "walls", "goals"};
+        for (int type = 0; type < types.length; type++) {
+            json.append(",\n  \"").append(types[type]).append("\": [");
+            for (int i = type; i < elementCount; i += types.length) {
+                json.append(i < types.length ? "\n" : ",\n").append("    {\"pos\": {\"posX\": ")
+                        .append(random.nextInt(950)).append(", \"posY\": ").append(random.nextInt(450))
+                        .append("}, \"width\": ").append(4 + random.nextInt(28)).append(", \"height\": ")
+                        .append(4 + random.nextInt(28)).append(type == 2 ? ", \"nextLevelID\": 1}" : "}");
+            }
+            json.append("\n  ]");
+        }
+        return json.append("\n}\n").toString();
+    }
+}
@@ -0,0 +1,89 @@
+package jmh;
+
+import model.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import persistence.JsonReader;
+import persistence.LevelFile;
+import persistence.LevelReader;
+import util.JsonParser;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * JMH benchmark of loading a generated level file with a large number of elements through the JSON object tree
+ * (JsonReader.readFile + JsonParser.jsonToLevel), through the streaming LevelReader, and from the equivalent binary
+ * level file (LevelFile); the GC profiler's gc.alloc.rate.norm gives the bytes allocated per load
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LevelLoadJmh {
+    @Param({"100000"})
+    public int elementCount;
+
+    private String target;
+    private String binaryTarget;
+
+    /**
+     * Writes the generated level to a temporary JSON level file and an equivalent temporary binary level file
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Setup
+    public void setup() throws IOException {
+        File file = File.createTempFile("framedLevel", ".json");
+        file.deleteOnExit();
+        Files.write(file.toPath(), GeneratedLevels.generateLevelJson(this.elementCount, new Random(0)).getBytes(UTF_8));
+        this.target = file.getPath();
+        File binaryFile = File.createTempFile("framedLevel", LevelFile.EXTENSION);
+        binaryFile.deleteOnExit();
+        this.binaryTarget = binaryFile.getPath();
+        LevelFile.writeLevel(this.binaryTarget, LevelReader.readLevel(this.target));
+    }
+
+    /**
+     * @return the level read into a JSON object tree and parsed from it
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public Level objectTree() throws IOException {
+        return JsonParser.jsonToLevel(JsonReader.readFile(this.target));
+    }
+
+    /**
+     * @return the level read from the JSON level file in a single streaming pass
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public Level streaming() throws IOException {
+        return LevelReader.readLevel(this.target);
+    }
+
+    /**
+     * @return the level read from the binary level file
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public Level binary() throws IOException {
+        return LevelFile.readLevel(this.binaryTarget);
+    }
+}
@@ -0,0 +1,71 @@
+package jmh;
+
+import model.Level;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import util.ElementBounds;
+import util.OverlapKernel;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of the vector overlap kernel against the scalar overlap kernel, scanning the packed obstacle + goal
+ * bounds of generated levels of increasing size for the first element colliding with the player (as Level does,
+ * stopping at the first obstacle hit)
+ * <p>
+ * The vector kernel is only loaded when the JVM runs with --add-modules jdk.incubator.vector and src/vector is
+ * compiled in; otherwise the "vector" kernel is the scalar kernel too
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OverlapKernelJmh {
+    @Param({"64", "1024", "16384", "262144"})
+    public int size;
+
+    @Param({"scalar", "vector"})
+    public String kernelName;
+
+    private OverlapKernel kernel;
+    private ElementBounds obstacles;
+    private ElementBounds goals;
+    private double[][] samples;
+    private int next;
+
+    /**
+     * Generates the level's packed bounds and the player samples, and picks the kernel
+     */
+    @Setup
+    public void setup() {
+        Level level = GeneratedLevels.generateLevel(this.size, new Random(this.size));
+        this.kernel = this.kernelName.equals("vector") ? ElementBounds.getKernel() : ElementBounds.SCALAR_KERNEL;
+        this.obstacles = new ElementBounds(level.getObstacles());
+        this.goals = new ElementBounds(level.getGoals());
+        this.samples = GeneratedLevels.generateSamples(level, new Random(-this.size));
+        this.next = 0;
+    }
+
+    /**
+     * @return the index of the first obstacle colliding with the next sample, or else of the first goal (-1 if none)
+     */
+    @Benchmark
+    public int findFirstColliding() {
+        double[] sample = this.samples[this.next];
+        this.next = (this.next + 1) % this.samples.length;
+        int hit = this.obstacles.findFirstColliding(sample[0], sample[1], this.kernel);
+        return hit != -1 ? hit : this.goals.findFirstColliding(sample[0], sample[1], this.kernel);
+    }
+}
@@ -0,0 +1,105 @@
+package jmh;
+
+import model.Level;
+import org.json.JSONObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import persistence.JsonReader;
+import persistence.LevelFile;
+import persistence.LevelReader;
+import util.JsonParser;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of reading (JsonReader.readFile) and parsing (JsonParser.jsonToLevel) the shipped level files,
+ * separately and together, against reading them in a single streaming pass (LevelReader.readLevel) and reading
+ * the equivalent binary level files (LevelFile.readLevel)
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParsingJmh {
+    public static final String LEVEL_DIRECTORY = "./data/level/";
+
+    @Param({"mainLevel-11", "mainLevel0", "mainLevel1", "mainLevel2"})
+    public String levelFile;
+
+    private String target;
+    private String binaryTarget;
+    private JSONObject json;
+
+    /**
+     * Reads the level file once, so parsing can be measured on its own, and converts it into a temporary binary
+     * level file
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Setup
+    public void setup() throws IOException {
+        this.target = LEVEL_DIRECTORY + this.levelFile + ".json";
+        this.json = JsonReader.readFile(this.target);
+        File binaryFile = File.createTempFile(this.levelFile, LevelFile.EXTENSION);
+        binaryFile.deleteOnExit();
+        this.binaryTarget = binaryFile.getPath();
+        LevelFile.writeLevel(this.binaryTarget, LevelReader.readLevel(this.target));
+    }
+
+    /**
+     * @return the level file's JSON object
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public JSONObject readFile() throws IOException {
+        return JsonReader.readFile(this.target);
+    }
+
+    /**
+     * @return the level parsed from the pre-read JSON object
+     */
+    @Benchmark
+    public Level jsonToLevel() {
+        return JsonParser.jsonToLevel(this.json);
+    }
+
+    /**
+     * @return the level read and parsed from the level file
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public Level readAndParse() throws IOException {
+        return JsonParser.jsonToLevel(JsonReader.readFile(this.target));
+    }
+
+    /**
+     * @return the level read from the level file in a single streaming pass
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public Level streaming() throws IOException {
+        return LevelReader.readLevel(this.target);
+    }
+
+    /**
+     * @return the level read from the equivalent binary level file
+     * @throws IOException if an I/O error occurs
+     */
+    @Benchmark
+    public Level binary() throws IOException {
+        return LevelFile.readLevel(this.binaryTarget);
+    }
+}
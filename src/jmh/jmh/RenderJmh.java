@@ -0,0 +1,143 @@
+package jmh;
+
+import elem.LevelElement;
+import model.Level;
+import model.Simulation;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ui.FramedGame;
+import ui.LevelLayer;
+import util.Camera;
+import util.Position;
+
+import java.awt.Color;
+import java.awt.Graphics;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of rendering a scrolling level layer with viewport culling (LevelLayer) against rendering every
+ * element of the level, as the camera sweeps diagonally across generated levels of increasing size, both spread out
+ * at a constant density ("sparse") and packed into a playing field only twice the screen's size ("dense"), where the
+ * camera sees a large share of the level
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class RenderJmh {
+    public static final int PATH_LENGTH = 256;
+
+    @Param({"1024", "10000", "65536", "100000"})
+    public int size;
+
+    @Param({"sparse", "dense"})
+    public String layout;
+
+    private Level level;
+    private BufferedImage image;
+    private LevelLayer layer;
+    private int[][] path;
+    private int next;
+
+    /**
+     * Generates the level, the camera path, and both renderers' images
+     */
+    @Setup
+    public void setup() {
+        this.level = this.layout.equals("dense") ? GeneratedLevels.generateDenseLevel(this.size, new Random(-this.size))
+                : GeneratedLevels.generateFieldLevel(this.size, new Random(this.size));
+        this.image = createImage();
+        this.layer = new LevelLayer(this.level, createImage());
+        this.path = generatePath(this.level);
+        this.next = 0;
+    }
+
+    /**
+     * @return a new image covering the screen's playing field area
+     */
+    private static BufferedImage createImage() {
+        return new BufferedImage(FramedGame.SCREEN_WIDTH, FramedGame.SCREEN_HEIGHT - FramedGame.STATUS_ROW_HEIGHT,
+                BufferedImage.TYPE_INT_RGB);
+    }
+
+    /**
+     * Generates the camera positions of a player sweeping diagonally across the given level's playing field
+     *
+     * @param level level to sweep
+     * @return array of camera positions as {x, y}
+     */
+    private static int[][] generatePath(Level level) {
+        Camera camera = new Camera(Simulation.PLAYFIELD_WIDTH, Simulation.PLAYFIELD_HEIGHT);
+        int[][] path = new int[PATH_LENGTH][];
+        for (int i = 0; i < PATH_LENGTH; i++) {
+            double t = (double) i / PATH_LENGTH;
+            camera.follow(new Position(t * level.getFieldWidth(), t * level.getFieldHeight()),
+                    level.getFieldWidth(), level.getFieldHeight());
+            path[i] = new int[]{camera.getPosX(), camera.getPosY()};
+        }
+        return path;
+    }
+
+    /**
+     * @return the next camera position on the path, as {x, y}
+     */
+    private int[] nextPosition() {
+        int[] pos = this.path[this.next];
+        this.next = (this.next + 1) % this.path.length;
+        return pos;
+    }
+
+    /**
+     * @return the frame rendered by drawing every element of the level, whether the camera can see it or not
+     */
+    @Benchmark
+    public BufferedImage fullRender() {
+        int[] pos = nextPosition();
+        Graphics2D g = this.image.createGraphics();
+        g.setColor(Color.BLACK);
+        g.fillRect(0, 0, this.image.getWidth(), this.image.getHeight());
+        g.translate(LevelLayer.FIELD_OFFSET_X - pos[0], -pos[1]);
+        renderAll(g, this.level.getObstacles());
+        renderAll(g, this.level.getWalls());
+        renderAll(g, this.level.getGoals());
+        g.dispose();
+        return this.image;
+    }
+
+    /**
+     * @param g graphics object translated onto the playing field
+     * @param elements elements to render
+     */
+    private void renderAll(Graphics g, List<? extends LevelElement> elements) {
+        for (int i = 0; i < elements.size(); i++) {
+            LevelElement elem = elements.get(i);
+            g.setColor(this.level.getElementCol(elem));
+            g.fillRect((int) elem.getPosition().getPosX(), (int) elem.getPosition().getPosY(),
+                    elem.getWidth(), elem.getHeight());
+        }
+    }
+
+    /**
+     * @return the frame rendered by drawing only the elements the camera can see, through the level layer
+     */
+    @Benchmark
+    public BufferedImage culledRender() {
+        int[] pos = nextPosition();
+        return this.layer.getImage(Color.BLACK, pos[0], pos[1]);
+    }
+}
@@ -0,0 +1,48 @@
+package jmh;
+
+import model.Player;
+import model.Simulation;
+import persistence.InputReplayer;
+import util.Position;
+
+import java.awt.Color;
+import java.io.IOException;
+
+/**
+ * Replays an input log as fast as possible, printing whether the replay still matches the recording and how many
+ * ticks were replayed per second
+ */
+public class ReplayRunner {
+    public static final String LEVEL_DIRECTORY = "./data/level/";
+
+    /**
+     * Replays the given input log
+     *
+     * @param args path of the input log to replay, and optionally the directory containing the level files
+     * @throws IOException if an I/O error occurs
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 0) {
+            System.out.println("Usage: ReplayRunner <input log> [level directory]");
+            return;
+        }
+        InputReplayer replayer = new InputReplayer(args[0], args.length > 1 ? args[1] : LEVEL_DIRECTORY);
+        Player player = new Player(new Position(0, 0), Color.WHITE);
+        Simulation simulation = replayer.createSimulation(player);
+
+        long start = System.nanoTime();
+        int result = replayer.replay(simulation);
+        double seconds = (System.nanoTime() - start) / 1e9;
+        replayer.close();
+
+        if (result == InputReplayer.DIVERGED) {
+            System.out.printf("Diverged after %d ticks: expected (%s, %s), was (%s, %s)%n", replayer.getTickCount(),
+                    replayer.getExpectedX(), replayer.getExpectedY(), player.getPosition().getPosX(),
+                    player.getPosition().getPosY());
+        } else {
+            System.out.printf("Replayed %d ticks, matching the recording%n", replayer.getTickCount());
+        }
+        System.out.printf("%.3f s of play replayed in %.3f s (%.0f ticks/s)%n", simulation.getElapsedTime() / 1e9,
+                seconds, replayer.getTickCount() / seconds);
+    }
+}
@@ -0,0 +1,107 @@
+package jmh;
+
+import model.Level;
+import model.Player;
+import model.Simulation;
+import model.TickInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import persistence.JsonReader;
+import util.JsonParser;
+import util.Position;
+
+import java.awt.Color;
+import java.io.IOException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of full headless ticks on a shipped level: one due tick (clock, graphical, or both) at a time, and
+ * one clock tick plus every graphical tick due before it at a time
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TickJmh {
+    public static final int INPUT_COUNT = 64;
+    public static final int HOLD_TICKS = 15;
+
+    @Param({"./data/level/mainLevel0.json"})
+    public String levelFile;
+
+    private Simulation simulation;
+    private TickInput[] inputs;
+    private int ticks;
+
+    /**
+     * Loads the level and creates the held movement inputs
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Setup
+    public void setup() throws IOException {
+        Level level = JsonParser.jsonToLevel(JsonReader.readFile(this.levelFile));
+        this.simulation = new Simulation(level, new Player(new Position(0, 0), Color.WHITE));
+        this.simulation.restartLevel();
+        this.inputs = new TickInput[INPUT_COUNT];
+        Random random = new Random(0);
+        for (int i = 0; i < INPUT_COUNT; i++) {
+            this.inputs[i] = new TickInput(random.nextInt(3) - 1, random.nextInt(3) - 1);
+        }
+        this.ticks = 0;
+    }
+
+    /**
+     * @return the next held input
+     */
+    private TickInput nextInput() {
+        this.ticks++;
+        return this.inputs[this.ticks / HOLD_TICKS % INPUT_COUNT];
+    }
+
+    /**
+     * Restarts the level if the player has reached a goal, so the player keeps moving through the level
+     *
+     * @param status game state change caused by the last tick
+     */
+    private void restartOnGoal(int status) {
+        if (status == Level.GOAL_REACHED) {
+            this.simulation.restartLevel();
+        }
+    }
+
+    /**
+     * @return the tick flags processed by advancing to and processing the next due tick
+     */
+    @Benchmark
+    public int tick() {
+        this.simulation.advance();
+        int ticks = this.simulation.tick(nextInput());
+        if ((ticks & Simulation.GRAPHICAL_TICK) != 0) {
+            restartOnGoal(this.simulation.getLastCollisionEvent().getStatus());
+        }
+        return ticks;
+    }
+
+    /**
+     * @return the game state change caused by stepping to just after the next clock tick
+     */
+    @Benchmark
+    public int step() {
+        int status = this.simulation.step(nextInput());
+        restartOnGoal(status);
+        return status;
+    }
+}
@@ -0,0 +1,81 @@
+package jmh;
+
+import elem.Wall;
+import model.Player;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import util.Position;
+
+import java.awt.Color;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JMH benchmark of Wall.onPlayerCollision at a range of player speeds, in both resolution modes, with the player
+ * overlapping the wall by up to one tick of movement from a random side
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WallJmh {
+    public static final int SAMPLE_COUNT = 1024;
+
+    @Param({"0.375", "3", "12", "48"})
+    public double speed;
+
+    @Param({"0", "1"})
+    public int resolutionMode;
+
+    private Wall wall;
+    private Player player;
+    private double[][] samples;
+    private int next;
+
+    /**
+     * Creates the wall and the colliding player samples
+     */
+    @Setup
+    public void setup() {
+        this.wall = new Wall(new Position(400, 200), 60, 60);
+        this.wall.setResolutionMode(this.resolutionMode);
+        this.player = new Player(new Position(0, 0), Color.WHITE);
+        this.samples = new double[SAMPLE_COUNT][];
+        Random random = new Random(0);
+        for (int i = 0; i < SAMPLE_COUNT; i++) {
+            double dx = (random.nextInt(3) - 1) * this.speed;
+            double dy = (random.nextInt(3) - 1) * this.speed;
+            double overlap = random.nextDouble() * Math.min(this.speed, 30 + Player.SIZE);
+            // enter the wall through the side opposite to the direction of movement
+            double x = dx > 0 ? 400 - Player.SIZE + overlap : dx < 0 ? 460 + Player.SIZE - overlap : 430;
+            double y = dy > 0 ? 200 - Player.SIZE + overlap : dy < 0 ? 260 + Player.SIZE - overlap : 230;
+            this.samples[i] = new double[]{x, y, dx, dy};
+        }
+        this.next = 0;
+    }
+
+    /**
+     * @return the player's x position after resolving the next sample's collision
+     */
+    @Benchmark
+    public double onPlayerCollision() {
+        double[] sample = this.samples[this.next];
+        this.next = (this.next + 1) % this.samples.length;
+        this.player.setPosition(sample[0], sample[1]);
+        this.player.setDX(sample[2]);
+        this.player.setDY(sample[3]);
+        this.wall.onPlayerCollision(this.player);
+        return this.player.getPosition().getPosX() + this.player.getPosition().getPosY();
+    }
+}
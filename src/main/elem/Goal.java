@@ -26,6 +26,17 @@ public class Goal extends LevelElement {
         this.elementCol = ColorManager.DEF_GOAL_COL;
     }
 
+    /**
+     * @return a copy of the goal with its own position, colour, and next level ID
+     */
+    @Override
+    public Goal copy() {
+        Goal copy = new Goal(new Position(this.pos.getPosX(), this.pos.getPosY()), this.width, this.height,
+                this.nextLevelID);
+        copy.setElementCol(this.elementCol);
+        return copy;
+    }
+
     /**
      * @return numerical ID of level to load once goal is reached
      */
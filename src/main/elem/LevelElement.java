@@ -2,6 +2,7 @@ package elem;
 
 import model.Player;
 import util.Position;
+import util.ReadOnlyPosition;
 
 import java.awt.*;
 
@@ -14,6 +15,7 @@ public abstract class LevelElement {
     protected int width;
     protected int height;
     protected Color elementCol;
+    private boolean frozen;
 
     /**
      * Creates a level element at the given position with the given width and height
@@ -32,11 +34,38 @@ public abstract class LevelElement {
      * Sets the element's colour to the given colour
      *
      * @param col new element colour
+     * @throws UnsupportedOperationException if the element is frozen
      */
     public void setElementCol(Color col) {
+        checkModifiable();
         this.elementCol = col;
     }
 
+    /**
+     * Makes the element immutable: its position becomes read-only, and none of its settings can be changed anymore;
+     * used for elements shared between level instances
+     * <p>
+     * Copies of a frozen element are not frozen
+     */
+    public void freeze() {
+        this.pos = new ReadOnlyPosition(this.pos.getPosX(), this.pos.getPosY());
+        this.frozen = true;
+    }
+
+    /**
+     * @throws UnsupportedOperationException if the element is frozen
+     */
+    protected void checkModifiable() {
+        if (this.frozen) {
+            throw new UnsupportedOperationException("Frozen level elements cannot be modified");
+        }
+    }
+
+    /**
+     * @return a copy of the element with its own position, which can be used independently of the element
+     */
+    public abstract LevelElement copy();
+
     /**
      * @param player player to check
      * @return true if the level element is colliding with the player, false otherwise
@@ -47,6 +76,87 @@ public abstract class LevelElement {
                 && posYIsWithinBounds(playerPos.getPosY(), Player.SIZE);
     }
 
+    /**
+     * Calculates when a player moving in a straight line from one position to another first touches the element
+     *
+     * @param startX player starting x coordinate
+     * @param startY player starting y coordinate
+     * @param endX player ending x coordinate
+     * @param endY player ending y coordinate
+     * @return the fraction of the path travelled before first touching the element (0 <= fraction <= 1), or
+     * positive infinity if the player never touches the element or is already touching it at the start of the path
+     */
+    public double calculateEntryTime(double startX, double startY, double endX, double endY) {
+        return calculateEntryTime(this.pos.getPosX(), this.pos.getPosY(), this.pos.getPosX() + this.width,
+                this.pos.getPosY() + this.height, startX, startY, endX, endY);
+    }
+
+    /**
+     * Calculates when a player moving in a straight line from one position to another first touches the element
+     * with the given bounds
+     *
+     * @param minX x coordinate of the element's left edge
+     * @param minY y coordinate of the element's top edge
+     * @param maxX x coordinate of the element's right edge
+     * @param maxY y coordinate of the element's bottom edge
+     * @param startX player starting x coordinate
+     * @param startY player starting y coordinate
+     * @param endX player ending x coordinate
+     * @param endY player ending y coordinate
+     * @return the fraction of the path travelled before first touching the element (0 <= fraction <= 1), or
+     * positive infinity if the player never touches the element or is already touching it at the start of the path
+     * @see #calculateEntryTime(double, double, double, double)
+     */
+    public static double calculateEntryTime(double minX, double minY, double maxX, double maxY, double startX,
+                                            double startY, double endX, double endY) {
+        if (minX <= startX + Player.SIZE && startX - Player.SIZE <= maxX
+                && minY <= startY + Player.SIZE && startY - Player.SIZE <= maxY) {
+            return Double.POSITIVE_INFINITY;
+        }
+        double lowX = minX - Player.SIZE;
+        double highX = maxX + Player.SIZE;
+        double lowY = minY - Player.SIZE;
+        double highY = maxY + Player.SIZE;
+        double entry = Math.max(calculateAxisEntryTime(startX, endX - startX, lowX, highX),
+                calculateAxisEntryTime(startY, endY - startY, lowY, highY));
+        double exit = Math.min(calculateAxisExitTime(startX, endX - startX, lowX, highX),
+                calculateAxisExitTime(startY, endY - startY, lowY, highY));
+        if (entry > exit || entry < 0 || entry > 1) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return entry;
+    }
+
+    /**
+     * @param start starting coordinate
+     * @param delta change in the coordinate over the path
+     * @param low lower endpoint of the element along the axis
+     * @param high upper endpoint of the element along the axis
+     * @return the fraction of the path travelled before the coordinate enters [low, high], negative infinity if it
+     * never leaves the endpoints, or positive infinity if it never enters them
+     */
+    private static double calculateAxisEntryTime(double start, double delta, double low, double high) {
+        if (delta == 0) {
+            return low <= start && start <= high ? Double.NEGATIVE_INFINITY : Double.POSITIVE_INFINITY;
+        }
+        return Math.min((low - start) / delta, (high - start) / delta);
+    }
+
+    /**
+     * @param start starting coordinate
+     * @param delta change in the coordinate over the path
+     * @param low lower endpoint of the element along the axis
+     * @param high upper endpoint of the element along the axis
+     * @return the fraction of the path travelled before the coordinate leaves [low, high], positive infinity if it
+     * never leaves the endpoints, or negative infinity if it never enters them
+     */
+    private static double calculateAxisExitTime(double start, double delta, double low, double high) {
+        if (delta == 0) {
+            return low <= start && start <= high ? Double.POSITIVE_INFINITY : Double.NEGATIVE_INFINITY;
+        }
+        return Math.max((low - start) / delta, (high - start) / delta);
+    }
+
     /**
      * @param posX x coordinate
      * @param sizeOffset offset amount to apply to the coordinate
@@ -115,6 +225,13 @@ public abstract class LevelElement {
         return this.elementCol;
     }
 
+    /**
+     * @return true if the element is frozen (immutable), false otherwise
+     */
+    public boolean isFrozen() {
+        return this.frozen;
+    }
+
     /**
      * @return extra data to display in the level analysis panel (none)
      */
@@ -21,4 +21,14 @@ public class Obstacle extends LevelElement {
         super(pos, width, height);
         this.elementCol = ColorManager.DEF_OBST_COL;
     }
+
+    /**
+     * @return a copy of the obstacle with its own position and colour
+     */
+    @Override
+    public Obstacle copy() {
+        Obstacle copy = new Obstacle(new Position(this.pos.getPosX(), this.pos.getPosY()), this.width, this.height);
+        copy.setElementCol(this.elementCol);
+        return copy;
+    }
 }
@@ -9,6 +9,10 @@ import util.Position;
  * the given position
  */
 public class Wall extends LevelElement {
+    public static final int COMPATIBLE_RESOLUTION = 0;
+    public static final int SWEPT_RESOLUTION = 1;
+
+    private int resolutionMode;
 
     /**
      * Creates a wall at the given position with the given width and height
@@ -21,46 +25,154 @@ public class Wall extends LevelElement {
     public Wall(Position pos, int width, int height) {
         super(pos, width, height);
         this.elementCol = ColorManager.DEF_WALL_COL;
+        this.resolutionMode = COMPATIBLE_RESOLUTION;
+    }
+
+    /**
+     * Sets the method used to move the player off of the wall upon collision
+     *
+     * @param resolutionMode COMPATIBLE_RESOLUTION or SWEPT_RESOLUTION
+     * @throws UnsupportedOperationException if the wall is frozen
+     */
+    public void setResolutionMode(int resolutionMode) {
+        checkModifiable();
+        this.resolutionMode = resolutionMode;
+    }
+
+    /**
+     * @return a copy of the wall with its own position, colour, and resolution mode
+     */
+    @Override
+    public Wall copy() {
+        Wall copy = new Wall(new Position(this.pos.getPosX(), this.pos.getPosY()), this.width, this.height);
+        copy.setElementCol(this.elementCol);
+        copy.setResolutionMode(this.resolutionMode);
+        return copy;
     }
 
     /**
-     * Stops the player from moving in the direction of the wall + moves the player off of the wall
+     * Stops the player from moving in the direction of the wall + moves the player off of the wall, using the wall's
+     * own resolution mode
      *
      * @param player player to move (must be colliding with the wall)
      */
     public void onPlayerCollision(Player player) {
-        // {fallback, core}
-        boolean[] activity = {false, true};
+        onPlayerCollision(player, this.resolutionMode);
+    }
+
+    /**
+     * Stops the player from moving in the direction of the wall + moves the player off of the wall, using the given
+     * resolution mode instead of the wall's own (so frozen walls can still be resolved in either mode)
+     *
+     * @param player player to move (must be colliding with the wall)
+     * @param resolutionMode COMPATIBLE_RESOLUTION or SWEPT_RESOLUTION
+     */
+    public void onPlayerCollision(Player player, int resolutionMode) {
+        if (resolutionMode == SWEPT_RESOLUTION) {
+            sweptCollisionCheck(player);
+            return;
+        }
         // fallback: set player dx/dy to a small amount to get the player un-stuck
-        if (player.getDY() == 0 && player.getDX() == 0) {
+        boolean fallbackActive = player.getDY() == 0 && player.getDX() == 0;
+        if (fallbackActive) {
             player.setDX(player.getMovementDir().getHorizontalDir() * 0.0625);
             player.setDY(player.getMovementDir().getVerticalDir() * 0.0625);
-            activity[0] = true;
         }
+        compatibleCollisionCheck(player);
+        handleFallback(player, fallbackActive);
+    }
 
-        // {x, y}
-        double[] reverseArr = {player.getPosition().getPosX(), player.getPosition().getPosY()};
-
+    /**
+     * Moves the player off of the wall by repeatedly reversing the player's movement until one of its coordinates
+     * leaves the wall; the reversals are accumulated one step at a time, so rounding at the wall's edges picks the
+     * same bounce axis as it always has
+     *
+     * @param player player to move
+     * @see #onPlayerCollision(Player)
+     */
+    private void compatibleCollisionCheck(Player player) {
+        double reverseX = player.getPosition().getPosX();
+        double reverseY = player.getPosition().getPosY();
         // basic checks using reversing: go until one is out of the wall
-        while (activity[1] && (posXIsWithinBounds(reverseArr[0], Player.SIZE)
-                || posYIsWithinBounds(reverseArr[1], Player.SIZE))) {
-            reverseArr[0] += -1 * player.getDX();
-            reverseArr[1] += -1 * player.getDY();
-
-            if (player.getDY() == 0 || (!posXIsWithinBounds(reverseArr[0], Player.SIZE)
-                    && posYIsWithinBounds(reverseArr[1], Player.SIZE))) {
-                bouncePlayerX(player, reverseArr[0]);
-                activity[1] = false;
-            } else if (player.getDX() == 0 || (posXIsWithinBounds(reverseArr[0], Player.SIZE)
-                    && !posYIsWithinBounds(reverseArr[1], Player.SIZE))) {
-                bouncePlayerY(player, reverseArr[1]);
-                activity[1] = false;
+        while (posXIsWithinBounds(reverseX, Player.SIZE) || posYIsWithinBounds(reverseY, Player.SIZE)) {
+            reverseX += -1 * player.getDX();
+            reverseY += -1 * player.getDY();
+            boolean insideX = posXIsWithinBounds(reverseX, Player.SIZE);
+            boolean insideY = posYIsWithinBounds(reverseY, Player.SIZE);
+            if (player.getDY() == 0 || (!insideX && insideY)) {
+                bouncePlayerX(player, reverseX);
+                return;
+            } else if (player.getDX() == 0 || (insideX && !insideY)) {
+                bouncePlayerY(player, reverseY);
+                return;
             }
         }
-
         // advanced checks using displacement + velocity
-        advancedCollisionCheck(player, reverseArr[0], reverseArr[1], activity[1]);
-        handleFallback(player, activity[0]);
+        advancedCollisionCheck(player, reverseX, reverseY, true);
+    }
+
+    /**
+     * Moves the player off of the wall along the axis the player entered the wall on last, found by comparing how
+     * long the player would need to move back along its velocity to leave the wall on each axis; a player with no
+     * velocity is moved off of the wall by the shortest distance possible
+     *
+     * @param player player to move (must be colliding with the wall)
+     * @see #onPlayerCollision(Player)
+     */
+    private void sweptCollisionCheck(Player player) {
+        double posX = player.getPosition().getPosX();
+        double posY = player.getPosition().getPosY();
+        double exitTimeX = calculateExitTime(posX, player.getDX(), this.pos.getPosX(), this.width);
+        double exitTimeY = calculateExitTime(posY, player.getDY(), this.pos.getPosY(), this.height);
+        if (Double.isInfinite(exitTimeX) && Double.isInfinite(exitTimeY)) {
+            minimumTranslationCheck(player, posX, posY);
+        } else if (exitTimeX < exitTimeY) {
+            bouncePlayerX(player, posX - exitTimeX * player.getDX());
+        } else if (exitTimeY < exitTimeX) {
+            bouncePlayerY(player, posY - exitTimeY * player.getDY());
+        } else {
+            bouncePlayerX(player, posX - exitTimeX * player.getDX());
+            bouncePlayerY(player, posY - exitTimeY * player.getDY());
+        }
+    }
+
+    /**
+     * Calculates how long a coordinate must move back along the given velocity to reach the edge of the span of the
+     * wall (widened by the player's size on both sides)
+     *
+     * @param start starting coordinate
+     * @param velocity velocity along the coordinate's axis
+     * @param wallStart coordinate of the wall's near edge along the axis
+     * @param wallLength wall length along the axis
+     * @return the time taken, in game ticks, or positive infinity if the coordinate never leaves the wall
+     */
+    private static double calculateExitTime(double start, double velocity, double wallStart, int wallLength) {
+        if (velocity > 0) {
+            return (start - (wallStart - Player.SIZE)) / velocity;
+        } else if (velocity < 0) {
+            return (wallStart + wallLength + Player.SIZE - start) / -velocity;
+        }
+        return Double.POSITIVE_INFINITY;
+    }
+
+    /**
+     * Moves a stationary player off of the wall through whichever side of the wall is closest to the player
+     *
+     * @param player player to move (must be colliding with the wall)
+     * @param posX player x coordinate
+     * @param posY player y coordinate
+     * @see #sweptCollisionCheck(Player)
+     */
+    private void minimumTranslationCheck(Player player, double posX, double posY) {
+        double left = posX + Player.SIZE - this.pos.getPosX();
+        double right = this.pos.getPosX() + this.width - posX + Player.SIZE;
+        double up = posY + Player.SIZE - this.pos.getPosY();
+        double down = this.pos.getPosY() + this.height - posY + Player.SIZE;
+        if (Math.min(left, right) <= Math.min(up, down)) {
+            bouncePlayerX(player, left <= right ? this.pos.getPosX() : this.pos.getPosX() + this.width);
+        } else {
+            bouncePlayerY(player, up <= down ? this.pos.getPosY() : this.pos.getPosY() + this.height);
+        }
     }
 
     /**
@@ -164,4 +276,11 @@ public class Wall extends LevelElement {
             player.setPosition(player.getPosition().getPosX(), this.pos.getPosY() + Player.SIZE + this.height + 0.25);
         }
     }
-}
+
+    /**
+     * @return the method used to move the player off of the wall upon collision
+     */
+    public int getResolutionMode() {
+        return this.resolutionMode;
+    }
+}
\ No newline at end of file
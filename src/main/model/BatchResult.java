@@ -0,0 +1,89 @@
+package model;
+
+/**
+ * Represents the combined outcome of a batch of headless simulation runs: how many runs reached a goal, how often
+ * the player was reset, and how many clock ticks the runs took
+ */
+public class BatchResult {
+    private long runs;
+    private long goalsReached;
+    private long resets;
+    private long ticks;
+    private long ticksToGoal;
+
+    /**
+     * Creates an empty batch result
+     */
+    public BatchResult() {
+        this.runs = 0;
+        this.goalsReached = 0;
+        this.resets = 0;
+        this.ticks = 0;
+        this.ticksToGoal = 0;
+    }
+
+    /**
+     * Adds the outcome of one run to the batch result
+     *
+     * @param goalReached true if the run ended by reaching a goal, false if it ran out of clock ticks
+     * @param runResets number of times the player was reset during the run
+     * @param runTicks number of clock ticks the run took
+     */
+    public void addRun(boolean goalReached, int runResets, int runTicks) {
+        this.runs++;
+        this.resets += runResets;
+        this.ticks += runTicks;
+        if (goalReached) {
+            this.goalsReached++;
+            this.ticksToGoal += runTicks;
+        }
+    }
+
+    /**
+     * Adds the outcomes of all the runs in the other batch result to the batch result
+     *
+     * @param other batch result to add
+     */
+    public void merge(BatchResult other) {
+        this.runs += other.runs;
+        this.goalsReached += other.goalsReached;
+        this.resets += other.resets;
+        this.ticks += other.ticks;
+        this.ticksToGoal += other.ticksToGoal;
+    }
+
+    /**
+     * @return the number of runs in the batch
+     */
+    public long getRuns() {
+        return this.runs;
+    }
+
+    /**
+     * @return the number of runs that reached a goal
+     */
+    public long getGoalsReached() {
+        return this.goalsReached;
+    }
+
+    /**
+     * @return the total number of times the player was reset, across all runs
+     */
+    public long getResets() {
+        return this.resets;
+    }
+
+    /**
+     * @return the total number of clock ticks simulated, across all runs
+     */
+    public long getTicks() {
+        return this.ticks;
+    }
+
+    /**
+     * @return the average number of clock ticks taken to reach a goal, or 0 if no run reached a goal
+     */
+    public double getAverageTicksToGoal() {
+        return this.goalsReached == 0 ? 0 : (double) this.ticksToGoal / this.goalsReached;
+    }
+}
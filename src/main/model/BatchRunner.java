@@ -0,0 +1,171 @@
+package model;
+
+import util.Position;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.IntFunction;
+
+/**
+ * Represents a runner that simulates batches of input sequences against a set of levels, spreading the runs over a
+ * fork-join pool
+ * <p>
+ * Levels keep per-check scratch state and the player's position, so each worker thread simulates its own instances
+ * of the levels and never shares a level or player with another thread; the instances all share one template of
+ * each level, so the levels' geometry is only held in memory once
+ */
+public class BatchRunner {
+    public static final int RUNS_PER_TASK = 16;
+
+    private final List<LevelTemplate> templates;
+    private final int maxTicks;
+    private final int parallelism;
+
+    /**
+     * Creates a runner for the given levels, using every available core
+     *
+     * @param levels levels to simulate the input sequences in (not modified)
+     * @param maxTicks maximum number of clock ticks per run (maxTicks > 0)
+     */
+    public BatchRunner(List<Level> levels, int maxTicks) {
+        this(levels, maxTicks, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a runner for the given levels, using the given number of worker threads
+     *
+     * @param levels levels to simulate the input sequences in (not modified)
+     * @param maxTicks maximum number of clock ticks per run (maxTicks > 0)
+     * @param parallelism number of worker threads (parallelism > 0)
+     */
+    public BatchRunner(List<Level> levels, int maxTicks, int parallelism) {
+        this.templates = new ArrayList<>(levels.size());
+        for (Level level : levels) {
+            this.templates.add(level.toTemplate());
+        }
+        this.maxTicks = maxTicks;
+        this.parallelism = parallelism;
+    }
+
+    /**
+     * Simulates every input sequence once in every level; each run starts the level, feeds the sequence's inputs to
+     * the player one clock tick at a time (repeating the sequence if needed), and ends when the player reaches a goal
+     * or maxTicks clock ticks have passed
+     *
+     * @param sequenceCount number of input sequences
+     * @param sequences function returning the input sequence with the given index (0 <= index < sequenceCount);
+     *                  called from the worker threads, so it must be thread-safe
+     * @return the outcome of the runs in each level, in the same order as the levels
+     */
+    public BatchResult[] run(int sequenceCount, IntFunction<TickInput[]> sequences) {
+        ThreadLocal<Level[]> workerLevels = ThreadLocal.withInitial(this::instantiateLevels);
+        ForkJoinPool pool = new ForkJoinPool(this.parallelism);
+        try {
+            return pool.invoke(new RunTask(workerLevels, sequences, 0, this.templates.size() * sequenceCount));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * @return new instances of all the runner's levels
+     */
+    private Level[] instantiateLevels() {
+        Level[] instances = new Level[this.templates.size()];
+        for (int i = 0; i < instances.length; i++) {
+            instances[i] = this.templates.get(i).instantiate();
+        }
+        return instances;
+    }
+
+    /**
+     * Simulates one input sequence in the given level, adding the outcome to the given result
+     *
+     * @param level level to simulate (must not be used by any other thread)
+     * @param sequence inputs for each clock tick (sequence.length > 0)
+     * @param result batch result to add the outcome to
+     */
+    private void runSequence(Level level, TickInput[] sequence, BatchResult result) {
+        Simulation simulation = new Simulation(level, new Player(new Position(0, 0), Color.WHITE));
+        simulation.restartLevel();
+        int resets = 0;
+        int ticks = 0;
+        int status = Level.NO_STATE_CHANGE;
+        while (status != Level.GOAL_REACHED && ticks < this.maxTicks) {
+            status = simulation.step(sequence[ticks % sequence.length]);
+            if (status == Level.RESET) {
+                resets++;
+            }
+            ticks++;
+        }
+        result.addRun(status == Level.GOAL_REACHED, resets, ticks);
+    }
+
+    /**
+     * Represents a range of runs (run i simulates sequence i / levels in level i % levels), split in
+     * half until it is small enough to simulate on one worker thread
+     */
+    private class RunTask extends RecursiveTask<BatchResult[]> {
+        private static final long serialVersionUID = 1L;
+
+        private final ThreadLocal<Level[]> workerLevels;
+        private final IntFunction<TickInput[]> sequences;
+        private final int from;
+        private final int to;
+
+        /**
+         * Creates a task simulating the runs in the given range
+         *
+         * @param workerLevels each worker thread's instances of the levels
+         * @param sequences function returning the input sequence with the given index
+         * @param from index of the first run (inclusive)
+         * @param to index of the last run (exclusive)
+         */
+        private RunTask(ThreadLocal<Level[]> workerLevels, IntFunction<TickInput[]> sequences, int from, int to) {
+            this.workerLevels = workerLevels;
+            this.sequences = sequences;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * @return the outcome of the task's runs in each level
+         */
+        @Override
+        protected BatchResult[] compute() {
+            if (this.to - this.from > RUNS_PER_TASK) {
+                int middle = (this.from + this.to) >>> 1;
+                RunTask second = new RunTask(this.workerLevels, this.sequences, middle, this.to);
+                second.fork();
+                BatchResult[] results = new RunTask(this.workerLevels, this.sequences, this.from, middle).compute();
+                BatchResult[] secondResults = second.join();
+                for (int i = 0; i < results.length; i++) {
+                    results[i].merge(secondResults[i]);
+                }
+                return results;
+            }
+            return runRange();
+        }
+
+        /**
+         * Simulates the task's runs on the current worker thread
+         *
+         * @return the outcome of the task's runs in each level
+         */
+        private BatchResult[] runRange() {
+            Level[] localLevels = this.workerLevels.get();
+            BatchResult[] results = new BatchResult[localLevels.length];
+            for (int i = 0; i < results.length; i++) {
+                results[i] = new BatchResult();
+            }
+            for (int run = this.from; run < this.to; run++) {
+                int level = run % localLevels.length;
+                runSequence(localLevels[level], this.sequences.apply(run / localLevels.length), results[level]);
+            }
+            return results;
+        }
+    }
+}
@@ -5,25 +5,84 @@ import elem.Obstacle;
 import elem.Wall;
 import elem.Goal;
 import util.CollisionEvent;
+import util.ElementBounds;
 import util.Position;
+import util.SpatialGrid;
 
+import java.awt.Color;
 import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.List;
 
 /**
  * Represents a level with level elements, player spawn position, and perceived frame rate
+ * <p>
+ * A level is either built from its own list of elements, or instantiated from a level template, in which case it
+ * shares the template's elements and spatial indices (and cannot have elements added or removed), and only holds
+ * its own session state: element colours, continuous collisions, swept wall resolution, and collision scratch space
+ *
+ * @see LevelTemplate
  */
 public class Level {
     public static final int NO_STATE_CHANGE = 0;
     public static final int GOAL_REACHED = 1;
     public static final int RESET = 2;
 
+    // fewest candidates worth replacing with a scan of every element's packed bounds (if they are at least half of
+    // the elements): one contiguous scan through the overlap kernel beats checking that many candidates one by one
+    public static final int KERNEL_SCAN_MIN_CANDIDATES = 32;
+
+    // entry time used when the player's path does not touch any element
+    private static final double NO_CONTACT = Double.POSITIVE_INFINITY;
+
+    // collision events without extra data are immutable, so they can be shared between calls
+    private static final CollisionEvent NO_STATE_CHANGE_EVENT = new CollisionEvent(NO_STATE_CHANGE);
+    private static final CollisionEvent RESET_EVENT = new CollisionEvent(RESET);
+
+    private final LevelTemplate template;
     private final String namespace;
     private final int id;
     private final Position spawn;
     private final float initialFrameRate;
     private final List<LevelElement> elements;
 
+    // size of the area the player can move in, starting at (0, 0)
+    private int fieldWidth;
+    private int fieldHeight;
+
+    // per-type views of the level's elements, kept in sync with the full element list
+    private final List<Wall> walls;
+    private final List<Obstacle> obstacles;
+    private final List<Goal> goals;
+    private final List<Wall> wallsView;
+    private final List<Obstacle> obstaclesView;
+    private final List<Goal> goalsView;
+
+    // spatial indices, (re)built on demand after the level's elements change
+    private SpatialGrid<Wall> wallGrid;
+    private SpatialGrid<Obstacle> obstacleGrid;
+    private SpatialGrid<Goal> goalGrid;
+
+    // wall resolution scratch space, reused between collision checks
+    private BitSet resolvedWalls;
+    private int[] wallResolutionOrder;
+
+    // continuous collisions: the player's path since the last collision check is swept against the level
+    private boolean continuousCollisions;
+    private boolean hasPathStart;
+    private double pathStartX;
+    private double pathStartY;
+    private int contactIndex;
+
+    // swept wall resolution: every wall is resolved in constant time instead of by reversing the player's movement
+    private boolean sweptWallResolution;
+
+    // session colours of each type of element, or null to use the elements' own colours
+    private Color obstacleCol;
+    private Color wallCol;
+    private Color goalCol;
+
     /**
      * Creates a level with a namespace, numerical id, a player spawn position, a starting
      * frame rate, and a list of level elements
@@ -35,11 +94,113 @@ public class Level {
      * @param elements list of level elements
      */
     public Level(String namespace, int id, Position spawn, float initialFrameRate, List<LevelElement> elements) {
+        this.template = null;
         this.namespace = namespace;
         this.id = id;
         this.spawn = spawn;
         this.initialFrameRate = initialFrameRate;
         this.elements = elements;
+        this.fieldWidth = Simulation.PLAYFIELD_WIDTH;
+        this.fieldHeight = Simulation.PLAYFIELD_HEIGHT;
+
+        this.walls = new ArrayList<>();
+        this.obstacles = new ArrayList<>();
+        this.goals = new ArrayList<>();
+        this.wallsView = Collections.unmodifiableList(this.walls);
+        this.obstaclesView = Collections.unmodifiableList(this.obstacles);
+        this.goalsView = Collections.unmodifiableList(this.goals);
+        for (LevelElement elem : elements) {
+            addToTypedList(elem);
+        }
+    }
+
+    /**
+     * Creates a new instance of the given level template, sharing the template's elements
+     *
+     * @param template template to instantiate
+     * @see LevelTemplate#instantiate()
+     */
+    Level(LevelTemplate template) {
+        this.template = template;
+        this.namespace = template.getNamespace();
+        this.id = template.getID();
+        this.spawn = template.getSpawn();
+        this.initialFrameRate = template.getInitialFrameRate();
+        this.elements = template.getAllElements();
+        this.fieldWidth = template.getFieldWidth();
+        this.fieldHeight = template.getFieldHeight();
+
+        // the template's lists are already unmodifiable
+        this.walls = template.getWalls();
+        this.obstacles = template.getObstacles();
+        this.goals = template.getGoals();
+        this.wallsView = this.walls;
+        this.obstaclesView = this.obstacles;
+        this.goalsView = this.goals;
+        this.continuousCollisions = template.hasContinuousCollisions();
+        this.sweptWallResolution = template.hasSweptWallResolution();
+    }
+
+    /**
+     * Creates a copy of the level that can be simulated independently of the level (e.g. on another thread); levels
+     * instantiated from a template are copied as a new instance of the template, and other levels are copied along
+     * with all their elements
+     *
+     * @return the copy of the level
+     */
+    public Level copy() {
+        if (this.template != null) {
+            Level copy = this.template.instantiate();
+            copy.setContinuousCollisions(this.continuousCollisions);
+            copy.setSweptWallResolution(this.sweptWallResolution);
+            copy.setElementColours(this.obstacleCol, this.wallCol, this.goalCol);
+            return copy;
+        }
+        List<LevelElement> elementCopies = new ArrayList<>();
+        for (LevelElement elem : this.elements) {
+            elementCopies.add(elem == null ? null : elem.copy());
+        }
+        Level copy = new Level(this.namespace, this.id, new Position(this.spawn.getPosX(), this.spawn.getPosY()),
+                this.initialFrameRate, elementCopies);
+        copy.setFieldSize(this.fieldWidth, this.fieldHeight);
+        copy.setContinuousCollisions(this.continuousCollisions);
+        copy.setSweptWallResolution(this.sweptWallResolution);
+        copy.setElementColours(this.obstacleCol, this.wallCol, this.goalCol);
+        return copy;
+    }
+
+    /**
+     * @return the template the level was instantiated from, or a new template of the level if it was not
+     *         instantiated from one
+     */
+    public LevelTemplate toTemplate() {
+        return this.template != null ? this.template : new LevelTemplate(this);
+    }
+
+    /**
+     * Sets the colours the level's elements are displayed in for this level only, without changing the elements
+     *
+     * @param obstacleCol obstacle colour, or null to use each obstacle's own colour
+     * @param wallCol wall colour, or null to use each wall's own colour
+     * @param goalCol goal colour, or null to use each goal's own colour
+     */
+    public void setElementColours(Color obstacleCol, Color wallCol, Color goalCol) {
+        this.obstacleCol = obstacleCol;
+        this.wallCol = wallCol;
+        this.goalCol = goalCol;
+    }
+
+    /**
+     * Sets the size of the area the player can move in; levels larger than the screen scroll to follow the player
+     *
+     * @param fieldWidth width of the playing field (fieldWidth > 0)
+     * @param fieldHeight height of the playing field (fieldHeight > 0)
+     * @throws UnsupportedOperationException if the level was instantiated from a template
+     */
+    public void setFieldSize(int fieldWidth, int fieldHeight) {
+        checkModifiable();
+        this.fieldWidth = fieldWidth;
+        this.fieldHeight = fieldHeight;
     }
 
     /**
@@ -53,24 +214,142 @@ public class Level {
         player.setPosition(spawn.getPosX(), spawn.getPosY());
         player.setDX(0);
         player.setDY(0);
+        setPathStart(player);
+    }
+
+    /**
+     * Sets whether the level sweeps the player's whole path since the last collision check against its elements,
+     * so elements passed through between checks are still collided with, or only checks the player's current
+     * position
+     *
+     * @param continuousCollisions true to sweep the player's path, false to only check the player's position
+     */
+    public void setContinuousCollisions(boolean continuousCollisions) {
+        this.continuousCollisions = continuousCollisions;
+    }
+
+    /**
+     * Sets whether every wall of the level moves the player off of it with swept resolution, or with its own
+     * resolution mode (compatible resolution, unless changed)
+     *
+     * @param sweptWallResolution true to resolve every wall with Wall.SWEPT_RESOLUTION, false to use each wall's own
+     *                            resolution mode
+     * @see Wall#setResolutionMode(int)
+     */
+    public void setSweptWallResolution(boolean sweptWallResolution) {
+        this.sweptWallResolution = sweptWallResolution;
+    }
+
+    /**
+     * Marks the player's current position as the start of the path swept by the next collision check
+     *
+     * @param player player in the level
+     */
+    private void setPathStart(Player player) {
+        this.pathStartX = player.getPosition().getPosX();
+        this.pathStartY = player.getPosition().getPosY();
+        this.hasPathStart = true;
     }
 
     /**
      * Adds a level element to the level
      *
      * @param elem element to add
+     * @throws UnsupportedOperationException if the level was instantiated from a template
      */
     public void addElement(LevelElement elem) {
+        checkModifiable();
         this.elements.add(elem);
+        addToTypedList(elem);
+        invalidateSpatialIndex();
     }
 
     /**
      * Removes a level element from the level
      *
      * @param index index of level element to remove
+     * @throws UnsupportedOperationException if the level was instantiated from a template
      */
     public void removeElement(int index) {
-        this.elements.remove(index);
+        checkModifiable();
+        LevelElement elem = this.elements.remove(index);
+        if (elem instanceof Wall) {
+            this.walls.remove(elem);
+        } else if (elem instanceof Obstacle) {
+            this.obstacles.remove(elem);
+        } else if (elem instanceof Goal) {
+            this.goals.remove(elem);
+        }
+        invalidateSpatialIndex();
+    }
+
+    /**
+     * @throws UnsupportedOperationException if the level was instantiated from a template, so its elements are
+     *                                       shared with other levels
+     */
+    private void checkModifiable() {
+        if (this.template != null) {
+            throw new UnsupportedOperationException("Levels instantiated from a template share its elements");
+        }
+    }
+
+    /**
+     * Adds a level element to the list of elements of its type (null elements are ignored)
+     *
+     * @param elem element to add
+     */
+    private void addToTypedList(LevelElement elem) {
+        if (elem instanceof Wall) {
+            this.walls.add((Wall) elem);
+        } else if (elem instanceof Obstacle) {
+            this.obstacles.add((Obstacle) elem);
+        } else if (elem instanceof Goal) {
+            this.goals.add((Goal) elem);
+        }
+    }
+
+    /**
+     * Discards the level's spatial indices so they are rebuilt with the level's current elements when next needed
+     */
+    private void invalidateSpatialIndex() {
+        this.wallGrid = null;
+        this.obstacleGrid = null;
+        this.goalGrid = null;
+    }
+
+    /**
+     * Builds the level's spatial indices if they are not already built
+     */
+    private void buildSpatialIndex() {
+        if (this.wallGrid != null) {
+            return;
+        }
+        if (this.template != null) {
+            // share the template's cells instead of indexing the same elements again
+            this.wallGrid = this.template.createWallGrid();
+            this.obstacleGrid = this.template.createObstacleGrid();
+            this.goalGrid = this.template.createGoalGrid();
+        } else {
+            this.wallGrid = new SpatialGrid<>(this.walls);
+            this.obstacleGrid = new SpatialGrid<>(this.obstacles);
+            this.goalGrid = new SpatialGrid<>(this.goals);
+        }
+        this.resolvedWalls = new BitSet(this.walls.size());
+        this.wallResolutionOrder = new int[this.walls.size()];
+    }
+
+    /**
+     * Finds every element in the given grid that may be colliding with the player
+     *
+     * @param grid spatial index to search
+     * @param player player to find collision candidates for
+     * @return the number of candidates found
+     * @see SpatialGrid#query(double, double, double, double)
+     */
+    private int queryPlayerCandidates(SpatialGrid<?> grid, Player player) {
+        Position playerPos = player.getPosition();
+        return grid.query(playerPos.getPosX() - Player.SIZE, playerPos.getPosY() - Player.SIZE,
+                playerPos.getPosX() + Player.SIZE, playerPos.getPosY() + Player.SIZE);
     }
 
     /**
@@ -82,8 +361,87 @@ public class Level {
      */
     public CollisionEvent handlePlayerCollisions(Player player) {
         // priority: wall > obstacle > goal
-        handleWallCollisions(player, getWalls());
-        return handleStateChangingEvents(player);
+        buildSpatialIndex();
+        if (this.continuousCollisions && this.hasPathStart) {
+            CollisionEvent pathEvent = handlePathCollisions(player);
+            if (pathEvent != NO_STATE_CHANGE_EVENT) {
+                return pathEvent;
+            }
+        }
+        handleWallCollisions(player, this.wallGrid);
+        CollisionEvent collisionEvent = handleStateChangingEvents(player);
+        setPathStart(player);
+        return collisionEvent;
+    }
+
+    /**
+     * Sweeps the player's path since the last collision check against the level's elements in a single pass, and
+     * handles the first element the player touched along it; a player that touched a wall first is moved back to
+     * where it touched the wall, so the wall can be resolved as usual
+     *
+     * @param player player to check collisions for
+     * @return collision event representing the appropriate game state change, or a NO_STATE_CHANGE event if the
+     * player's current position should still be checked
+     * @see #handlePlayerCollisions(Player)
+     */
+    private CollisionEvent handlePathCollisions(Player player) {
+        double endX = player.getPosition().getPosX();
+        double endY = player.getPosition().getPosY();
+        double wallTime = findFirstContact(this.wallGrid, endX, endY, NO_CONTACT);
+        double obstacleTime = findFirstContact(this.obstacleGrid, endX, endY, wallTime);
+        double goalTime = findFirstContact(this.goalGrid, endX, endY, obstacleTime);
+        if (goalTime < obstacleTime) {
+            moveAlongPath(player, endX, endY, goalTime);
+            setPathStart(player);
+            return new CollisionEvent(GOAL_REACHED, this.goals.get(this.contactIndex).getNextLevelID());
+        } else if (obstacleTime < wallTime) {
+            startLevel(player);
+            return RESET_EVENT;
+        } else if (wallTime < NO_CONTACT) {
+            moveAlongPath(player, endX, endY, wallTime);
+        }
+        return NO_STATE_CHANGE_EVENT;
+    }
+
+    /**
+     * Finds the element in the given grid that the player's path since the last collision check touches first,
+     * storing its list index as the level's contact index
+     *
+     * @param grid spatial index to search
+     * @param endX player's current x coordinate
+     * @param endY player's current y coordinate
+     * @param limit entry time the element must be touched before to be found
+     * @return the entry time of the element found, or the limit if no element was found
+     * @see ElementBounds#calculateEntryTime(int, double, double, double, double)
+     */
+    private double findFirstContact(SpatialGrid<?> grid, double endX, double endY, double limit) {
+        ElementBounds bounds = grid.getBounds();
+        double first = limit;
+        int candidates = grid.query(Math.min(this.pathStartX, endX) - Player.SIZE,
+                Math.min(this.pathStartY, endY) - Player.SIZE, Math.max(this.pathStartX, endX) + Player.SIZE,
+                Math.max(this.pathStartY, endY) + Player.SIZE);
+        for (int i = 0; i < candidates; i++) {
+            int index = grid.getCandidateIndex(i);
+            double entryTime = bounds.calculateEntryTime(index, this.pathStartX, this.pathStartY, endX, endY);
+            if (entryTime < first) {
+                first = entryTime;
+                this.contactIndex = index;
+            }
+        }
+        return first;
+    }
+
+    /**
+     * Moves the player to the given point along its path since the last collision check
+     *
+     * @param player player to move
+     * @param endX player's current x coordinate
+     * @param endY player's current y coordinate
+     * @param time fraction of the path travelled (0 <= time <= 1)
+     */
+    private void moveAlongPath(Player player, double endX, double endY, double time) {
+        player.setPosition(this.pathStartX + time * (endX - this.pathStartX),
+                this.pathStartY + time * (endY - this.pathStartY));
     }
 
     /**
@@ -95,11 +453,11 @@ public class Level {
      * @see #handlePlayerCollisions(Player)
      */
     private CollisionEvent handleStateChangingEvents(Player player) {
-        int status = handleObstacleCollisions(player, getObstacles());
-        if (status != 0) {
-            return new CollisionEvent(status);
+        int status = handleObstacleCollisions(player, this.obstacleGrid);
+        if (status == RESET) {
+            return RESET_EVENT;
         } else {
-            return handleGoalCollisions(player, getGoals());
+            return handleGoalCollisions(player, this.goalGrid);
         }
     }
 
@@ -107,26 +465,27 @@ public class Level {
      * Handles player collisions with walls
      * 
      * @param player player to check collisions for
+     * @param walls spatial index of the level's walls
      * @see #handlePlayerCollisions(Player)
      */
-    private void handleWallCollisions(Player player, List<Wall> walls) {
+    private void handleWallCollisions(Player player, SpatialGrid<Wall> walls) {
         double startY = player.getPosition().getPosY();
         double startX = player.getPosition().getPosX();
 
-        List<Wall> wallsToCheck = new ArrayList<>(walls);
-        List<Wall> filteredWalls = new ArrayList<>();
+        // every wall is resolved at most once, so each pass appends its walls to the resolution order
+        int resolvedCount = 0;
+        int passCount;
         do {
-            filteredWalls.clear();
-            for (Wall wall : wallsToCheck) {
-                if (wall.isCollidingWithPlayer(player)) {
-                    filteredWalls.add(wall);
-                }
-            }
-            for (Wall wall : filteredWalls) {
-                wall.onPlayerCollision(player);
-                wallsToCheck.remove(wall);
+            passCount = findCollidingWalls(player, walls, resolvedCount);
+            for (int i = resolvedCount; i < resolvedCount + passCount; i++) {
+                resolveWallCollision(this.walls.get(this.wallResolutionOrder[i]), player);
             }
-        } while (filteredWalls.size() > 0);
+            resolvedCount += passCount;
+        } while (passCount > 0);
+
+        for (int i = 0; i < resolvedCount; i++) {
+            this.resolvedWalls.clear(this.wallResolutionOrder[i]);
+        }
 
         // finalize collisions
         if (player.getPosition().getPosX() != startX) {
@@ -137,19 +496,61 @@ public class Level {
         }
     }
 
+    /**
+     * Moves the player off of the given wall, with swept resolution if the level uses it for every wall, or with the
+     * wall's own resolution mode otherwise
+     *
+     * @param wall wall to resolve (must be colliding with the player)
+     * @param player player to move
+     */
+    private void resolveWallCollision(Wall wall, Player player) {
+        if (this.sweptWallResolution) {
+            wall.onPlayerCollision(player, Wall.SWEPT_RESOLUTION);
+        } else {
+            wall.onPlayerCollision(player);
+        }
+    }
+
+    /**
+     * Finds every unresolved wall currently colliding with the player (in list order), marks them as resolved, and
+     * appends their indices to the wall resolution order
+     *
+     * @param player player to check collisions for
+     * @param walls spatial index of the level's walls
+     * @param resolvedCount number of walls already resolved
+     * @return the number of colliding walls found
+     * @see #handleWallCollisions(Player, SpatialGrid)
+     */
+    private int findCollidingWalls(Player player, SpatialGrid<Wall> walls, int resolvedCount) {
+        ElementBounds bounds = walls.getBounds();
+        double posX = player.getPosition().getPosX();
+        double posY = player.getPosition().getPosY();
+        int found = 0;
+        // the player moves with every bounce, so candidates are re-queried on each pass
+        int candidates = queryPlayerCandidates(walls, player);
+        for (int i = 0; i < candidates; i++) {
+            int index = walls.getCandidateIndex(i);
+            if (!this.resolvedWalls.get(index) && bounds.isCollidingWithPlayer(index, posX, posY)) {
+                this.resolvedWalls.set(index);
+                this.wallResolutionOrder[resolvedCount + found] = index;
+                found++;
+            }
+        }
+        return found;
+    }
+
     /**
      * Handles player collisions with obstacles
      * 
      * @param player player to check collisions for
+     * @param obstacles spatial index of the level's obstacles
      * @return constant representing the appropriate collision event status
      * @see #handlePlayerCollisions(Player)
      */
-    private int handleObstacleCollisions(Player player, List<Obstacle> obstacles) {
-        for (Obstacle obst : obstacles) {
-            if (obst.isCollidingWithPlayer(player)) {
-                startLevel(player);
-                return RESET;
-            }
+    private int handleObstacleCollisions(Player player, SpatialGrid<Obstacle> obstacles) {
+        if (findFirstColliding(obstacles, player) != -1) {
+            startLevel(player);
+            return RESET;
         }
         return NO_STATE_CHANGE;
     }
@@ -158,33 +559,42 @@ public class Level {
      * Handles player collisions with goals
      *
      * @param player player to check collisions for
+     * @param goals spatial index of the level's goals
      * @return collision event representing the appropriate game state change
      * @see #handlePlayerCollisions(Player)
      */
-    private CollisionEvent handleGoalCollisions(Player player, List<Goal> goals) {
-        for (Goal goal : goals) {
-            if (goal.isCollidingWithPlayer(player)) {
-                return new CollisionEvent(GOAL_REACHED, goal.getNextLevelID());
-            }
+    private CollisionEvent handleGoalCollisions(Player player, SpatialGrid<Goal> goals) {
+        int index = findFirstColliding(goals, player);
+        if (index != -1) {
+            return new CollisionEvent(GOAL_REACHED, goals.getElements().get(index).getNextLevelID());
         }
-        return new CollisionEvent(NO_STATE_CHANGE);
+        return NO_STATE_CHANGE_EVENT;
     }
 
     /**
-     * Filters a list of level elements by class
+     * Finds the first element in the given grid, in list order, that is colliding with the player, checking the
+     * player's candidates one by one, or scanning every element through the overlap kernel if the candidates are
+     * at least KERNEL_SCAN_MIN_CANDIDATES long and at least half of the elements
      *
-     * @param elements list of level elements to filter
-     * @param className name of class to filter by (must be a subclass of LevelElement)
-     * @return a filtered list of level elements
+     * @param grid spatial index to search
+     * @param player player to check collisions for
+     * @return the list index of the first colliding element, or -1 if no element is colliding with the player
+     * @see ElementBounds#findFirstColliding(double, double)
      */
-    private List<LevelElement> filterListByClass(List<LevelElement> elements, String className) {
-        List<LevelElement> output = new ArrayList<>();
-        for (LevelElement elem : elements) {
-            if (elem != null && elem.getClass().getName().equals(className)) {
-                output.add(elem);
+    private int findFirstColliding(SpatialGrid<?> grid, Player player) {
+        ElementBounds bounds = grid.getBounds();
+        double posX = player.getPosition().getPosX();
+        double posY = player.getPosition().getPosY();
+        int candidates = queryPlayerCandidates(grid, player);
+        if (candidates >= KERNEL_SCAN_MIN_CANDIDATES && candidates * 2 >= bounds.size()) {
+            return bounds.findFirstColliding(posX, posY);
+        }
+        for (int i = 0; i < candidates; i++) {
+            if (bounds.isCollidingWithPlayer(grid.getCandidateIndex(i), posX, posY)) {
+                return grid.getCandidateIndex(i);
             }
         }
-        return output;
+        return -1;
     }
 
     /**
@@ -216,45 +626,108 @@ public class Level {
     }
 
     /**
-     * @return the list of all level elements the level contains
+     * @return the list of all level elements the level contains (add or remove elements through the level instead
+     * of modifying this list, so the level's per-type views stay in sync; unmodifiable if the level was instantiated
+     * from a template)
      */
     public List<LevelElement> getAllElements() {
         return this.elements;
     }
 
     /**
-     * @return the list of all obstacles the level contains
+     * @return a new spatial index over the level's obstacles, with its own query state, so it can be queried
+     *         independently of the level's collision checks (e.g. by the renderer)
+     */
+    public SpatialGrid<Obstacle> createObstacleIndex() {
+        return this.template != null ? this.template.createObstacleGrid() : new SpatialGrid<>(this.obstacles);
+    }
+
+    /**
+     * @return a new spatial index over the level's walls, with its own query state, so it can be queried
+     *         independently of the level's collision checks (e.g. by the renderer)
+     */
+    public SpatialGrid<Wall> createWallIndex() {
+        return this.template != null ? this.template.createWallGrid() : new SpatialGrid<>(this.walls);
+    }
+
+    /**
+     * @return a new spatial index over the level's goals, with its own query state, so it can be queried
+     *         independently of the level's collision checks (e.g. by the renderer)
+     */
+    public SpatialGrid<Goal> createGoalIndex() {
+        return this.template != null ? this.template.createGoalGrid() : new SpatialGrid<>(this.goals);
+    }
+
+    /**
+     * @return an unmodifiable view of all obstacles the level contains
      */
     public List<Obstacle> getObstacles() {
-        List<Obstacle> output = new ArrayList<>();
-        for (LevelElement elem : filterListByClass(this.elements, "elem.Obstacle")) {
-            Obstacle cleanElem = (Obstacle) elem;
-            output.add(cleanElem);
-        }
-        return output;
+        return this.obstaclesView;
     }
 
     /**
-     * @return the list of all walls the level contains
+     * @return an unmodifiable view of all walls the level contains
      */
     public List<Wall> getWalls() {
-        List<Wall> output = new ArrayList<>();
-        for (LevelElement elem : filterListByClass(this.elements, "elem.Wall")) {
-            Wall cleanElem = (Wall) elem;
-            output.add(cleanElem);
-        }
-        return output;
+        return this.wallsView;
     }
 
     /**
-     * @return the list of all walls the level contains
+     * @return an unmodifiable view of all goals the level contains
      */
     public List<Goal> getGoals() {
-        List<Goal> output = new ArrayList<>();
-        for (LevelElement elem : filterListByClass(this.elements, "elem.Goal")) {
-            Goal cleanElem = (Goal) elem;
-            output.add(cleanElem);
+        return this.goalsView;
+    }
+
+    /**
+     * @param elem one of the level's elements
+     * @return the colour the element is displayed in within this level
+     */
+    public Color getElementCol(LevelElement elem) {
+        Color col = null;
+        if (elem instanceof Obstacle) {
+            col = this.obstacleCol;
+        } else if (elem instanceof Wall) {
+            col = this.wallCol;
+        } else if (elem instanceof Goal) {
+            col = this.goalCol;
         }
-        return output;
+        return col != null ? col : elem.getElementCol();
+    }
+
+    /**
+     * @return true if the level sweeps the player's whole path since the last collision check, false otherwise
+     */
+    public boolean hasContinuousCollisions() {
+        return this.continuousCollisions;
+    }
+
+    /**
+     * @return true if every wall of the level is resolved with swept resolution, false if each wall uses its own
+     *         resolution mode
+     */
+    public boolean hasSweptWallResolution() {
+        return this.sweptWallResolution;
+    }
+
+    /**
+     * @return width of the area the player can move in
+     */
+    public int getFieldWidth() {
+        return this.fieldWidth;
+    }
+
+    /**
+     * @return height of the area the player can move in
+     */
+    public int getFieldHeight() {
+        return this.fieldHeight;
+    }
+
+    /**
+     * @return true if the level's playing field is the standard, screen-sized one, false otherwise
+     */
+    public boolean hasDefaultFieldSize() {
+        return this.fieldWidth == Simulation.PLAYFIELD_WIDTH && this.fieldHeight == Simulation.PLAYFIELD_HEIGHT;
     }
 }
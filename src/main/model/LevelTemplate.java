@@ -0,0 +1,218 @@
+package model;
+
+import elem.Goal;
+import elem.LevelElement;
+import elem.Obstacle;
+import elem.Wall;
+import util.Position;
+import util.SpatialGrid;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Represents the immutable part of a level: its namespace, numerical ID, player spawn position, starting frame rate,
+ * playing field size, and the geometry of its level elements, along with the spatial indices built over them
+ * <p>
+ * A template can be shared between any number of sessions and threads; each session plays its own level instance
+ * (see instantiate), which shares the template's elements and spatial indices and only holds the session's mutable
+ * state (colours, collision scratch space). The template's elements are frozen, so they cannot be modified
+ * through any instance
+ */
+public final class LevelTemplate {
+    private final String namespace;
+    private final int id;
+    private final double spawnX;
+    private final double spawnY;
+    private final float initialFrameRate;
+    private final boolean continuousCollisions;
+    private final boolean sweptWallResolution;
+    private final int fieldWidth;
+    private final int fieldHeight;
+
+    private final List<LevelElement> elements;
+    private final List<Wall> walls;
+    private final List<Obstacle> obstacles;
+    private final List<Goal> goals;
+
+    // built once, then only used to create each instance's own grids over the same cells
+    private final SpatialGrid<Wall> wallGrid;
+    private final SpatialGrid<Obstacle> obstacleGrid;
+    private final SpatialGrid<Goal> goalGrid;
+
+    /**
+     * Creates a template of the given level, with its own copies of the level's elements (later changes to the level
+     * do not affect the template)
+     *
+     * @param level level to create a template of
+     */
+    public LevelTemplate(Level level) {
+        this.namespace = level.getNamespace();
+        this.id = level.getID();
+        this.spawnX = level.getSpawn().getPosX();
+        this.spawnY = level.getSpawn().getPosY();
+        this.initialFrameRate = level.getInitialFrameRate();
+        this.continuousCollisions = level.hasContinuousCollisions();
+        this.sweptWallResolution = level.hasSweptWallResolution();
+        this.fieldWidth = level.getFieldWidth();
+        this.fieldHeight = level.getFieldHeight();
+
+        List<LevelElement> elementCopies = copyAndFreeze(level.getAllElements());
+        this.elements = Collections.unmodifiableList(elementCopies);
+        this.walls = filterElements(elementCopies, Wall.class);
+        this.obstacles = filterElements(elementCopies, Obstacle.class);
+        this.goals = filterElements(elementCopies, Goal.class);
+
+        this.wallGrid = new SpatialGrid<>(this.walls);
+        this.obstacleGrid = new SpatialGrid<>(this.obstacles);
+        this.goalGrid = new SpatialGrid<>(this.goals);
+    }
+
+    /**
+     * @param elements list of level elements (may contain null elements)
+     * @return a new list of frozen copies of the elements, in list order
+     */
+    private static List<LevelElement> copyAndFreeze(List<LevelElement> elements) {
+        List<LevelElement> elementCopies = new ArrayList<>(elements.size());
+        for (LevelElement elem : elements) {
+            LevelElement copy = elem == null ? null : elem.copy();
+            if (copy != null) {
+                // shared by every instance, so no instance may change it
+                copy.freeze();
+            }
+            elementCopies.add(copy);
+        }
+        return elementCopies;
+    }
+
+    /**
+     * @param elements list of level elements
+     * @param type type of level element to keep
+     * @param <T> type of level element to keep
+     * @return an unmodifiable list of the elements of the given type, in list order
+     */
+    private static <T extends LevelElement> List<T> filterElements(List<LevelElement> elements, Class<T> type) {
+        List<T> filtered = new ArrayList<>();
+        for (LevelElement elem : elements) {
+            if (type.isInstance(elem)) {
+                filtered.add(type.cast(elem));
+            }
+        }
+        return Collections.unmodifiableList(filtered);
+    }
+
+    /**
+     * Creates a new instance of the level, sharing the template's elements and spatial indices
+     *
+     * @return the new level instance
+     */
+    public Level instantiate() {
+        return new Level(this);
+    }
+
+    /**
+     * @return a new spatial index over the template's walls, sharing the template's cells
+     */
+    SpatialGrid<Wall> createWallGrid() {
+        return new SpatialGrid<>(this.wallGrid);
+    }
+
+    /**
+     * @return a new spatial index over the template's obstacles, sharing the template's cells
+     */
+    SpatialGrid<Obstacle> createObstacleGrid() {
+        return new SpatialGrid<>(this.obstacleGrid);
+    }
+
+    /**
+     * @return a new spatial index over the template's goals, sharing the template's cells
+     */
+    SpatialGrid<Goal> createGoalGrid() {
+        return new SpatialGrid<>(this.goalGrid);
+    }
+
+    /**
+     * @return the level's namespace
+     */
+    public String getNamespace() {
+        return this.namespace;
+    }
+
+    /**
+     * @return the level's numerical id
+     */
+    public int getID() {
+        return this.id;
+    }
+
+    /**
+     * @return a new position at the level's spawn position
+     */
+    public Position getSpawn() {
+        return new Position(this.spawnX, this.spawnY);
+    }
+
+    /**
+     * @return level's initial perceived frame rate
+     */
+    public float getInitialFrameRate() {
+        return this.initialFrameRate;
+    }
+
+    /**
+     * @return true if instances of the level start out sweeping the player's whole path, false otherwise
+     */
+    public boolean hasContinuousCollisions() {
+        return this.continuousCollisions;
+    }
+
+    /**
+     * @return true if instances of the level start out resolving every wall with swept resolution, false otherwise
+     */
+    public boolean hasSweptWallResolution() {
+        return this.sweptWallResolution;
+    }
+
+    /**
+     * @return width of the area the player can move in
+     */
+    public int getFieldWidth() {
+        return this.fieldWidth;
+    }
+
+    /**
+     * @return height of the area the player can move in
+     */
+    public int getFieldHeight() {
+        return this.fieldHeight;
+    }
+
+    /**
+     * @return an unmodifiable list of all level elements the level contains
+     */
+    public List<LevelElement> getAllElements() {
+        return this.elements;
+    }
+
+    /**
+     * @return an unmodifiable list of all obstacles the level contains
+     */
+    public List<Obstacle> getObstacles() {
+        return this.obstacles;
+    }
+
+    /**
+     * @return an unmodifiable list of all walls the level contains
+     */
+    public List<Wall> getWalls() {
+        return this.walls;
+    }
+
+    /**
+     * @return an unmodifiable list of all goals the level contains
+     */
+    public List<Goal> getGoals() {
+        return this.goals;
+    }
+}
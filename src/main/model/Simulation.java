@@ -0,0 +1,292 @@
+package model;
+
+import util.CollisionEvent;
+import util.FrameDelayTracker;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents the game logic of FRAMED, independent of any display: a level, the player, and the schedule of clock
+ * ticks (player input + movement) and graphical ticks (collision checks) that drive them
+ * <p>
+ * The simulation keeps its own virtual time, so it can be stepped as fast as needed, or paced in real time by
+ * waiting for the delay until the next tick between calls
+ */
+public class Simulation {
+    public static final float CLOCK_FRAME_RATE = 30;
+    public static final List<Float> FRAME_RATES = new ArrayList<>(Arrays.asList(0.5F, 0.55F, 0.6F, 0.65F, 0.7F,
+            0.8F, 0.9F, 1F, 1.1F, 1.2F, 1.35F, 1.5F, 1.65F, 1.8F, 2F, 2.25F, 2.5F, 2.75F, 3F, 3.5F, 4F, 4.5F, 5F, 6F,
+            7F, 8F, 9F, 10F, 11F, 12F, 13.5F, 15.5F, 17.5F, 20F, 25F, 30F));
+    public static final int PLAYFIELD_WIDTH = 950;
+    public static final int PLAYFIELD_HEIGHT = 450;
+
+    public static final double ACCELERATION = 0.375;
+    public static final double DECELERATION = 0.9375;
+
+    public static final int NO_TICK = 0;
+    public static final int CLOCK_TICK = 1;
+    public static final int GRAPHICAL_TICK = 2;
+
+    private Level level;
+    private final Player player;
+    private final FrameDelayTracker fdt;
+    private float graphicalFrameRate;
+    private CollisionEvent lastCollisionEvent;
+
+    /**
+     * Creates a simulation of the given player in the given level, with both a clock tick and a graphical tick due
+     * after one tick of each
+     *
+     * @param level level to simulate
+     * @param player player in the level
+     */
+    public Simulation(Level level, Player player) {
+        this.level = level;
+        this.player = player;
+        this.graphicalFrameRate = level.getInitialFrameRate();
+        this.fdt = new FrameDelayTracker(0, 0);
+        this.fdt.scheduleNextClockTick(CLOCK_FRAME_RATE);
+        this.fdt.scheduleNextGraphicalTick(this.graphicalFrameRate);
+        this.lastCollisionEvent = new CollisionEvent(Level.NO_STATE_CHANGE);
+    }
+
+    /**
+     * Advances the simulation to just after its next clock tick without waiting, processing every tick due along
+     * the way; stops early if the player reaches a goal
+     *
+     * @param input player input for the clock tick
+     * @return constant representing the last game state change caused by a collision during the step
+     */
+    public int step(TickInput input) {
+        int status = Level.NO_STATE_CHANGE;
+        int ticks;
+        do {
+            ticks = tick(input);
+            if ((ticks & GRAPHICAL_TICK) != 0 && this.lastCollisionEvent.getStatus() != Level.NO_STATE_CHANGE) {
+                status = this.lastCollisionEvent.getStatus();
+            }
+            advance();
+        } while ((ticks & CLOCK_TICK) == 0 && status != Level.GOAL_REACHED);
+        return status;
+    }
+
+    /**
+     * Processes every tick due at the current time: a clock tick, a graphical tick, or both
+     *
+     * @param input player input, used only if a clock tick is due
+     * @return combination of the tick flags (CLOCK_TICK, GRAPHICAL_TICK) processed, or NO_TICK
+     */
+    public int tick(TickInput input) {
+        int ticks = NO_TICK;
+        if (isClockTickDue()) {
+            handleClockTick(input);
+            this.fdt.scheduleNextClockTick(CLOCK_FRAME_RATE);
+            ticks |= CLOCK_TICK;
+        }
+        if (this.fdt.getGraphicalFrameDelayNanos() == 0) {
+            handleGraphicalTick();
+            this.fdt.scheduleNextGraphicalTick(this.graphicalFrameRate);
+            ticks |= GRAPHICAL_TICK;
+        }
+        return ticks;
+    }
+
+    /**
+     * Advances the simulation's virtual time to the next due tick
+     *
+     * @return the time advanced, in nanoseconds
+     */
+    public long advance() {
+        long delay = this.fdt.getMinFrameDelayNanos();
+        this.fdt.reduceFrameDelaysNanos(delay);
+        return delay;
+    }
+
+    /**
+     * Processes a clock tick: <br>
+     * - applies the player's input <br>
+     * - moves the player, keeping it within the playing field
+     *
+     * @param input player input for the tick
+     */
+    private void handleClockTick(TickInput input) {
+        applyInput(input);
+        this.player.move();
+        constrainPlayerToBounds();
+    }
+
+    /**
+     * Processes a graphical tick: checks the player's collisions with the level, restarting the level if the player
+     * was reset
+     */
+    private void handleGraphicalTick() {
+        this.lastCollisionEvent = this.level.handlePlayerCollisions(this.player);
+        if (this.lastCollisionEvent.getStatus() == Level.RESET) {
+            restartLevel();
+        }
+    }
+
+    /**
+     * Applies the given player input: takes the input's actions in the order they were taken, then accelerates the
+     * player in each direction it is being moved in, and slows it down in each direction it is not
+     *
+     * @param input player input to apply
+     */
+    public void applyInput(TickInput input) {
+        for (int i = 0; i < input.getActionCount(); i++) {
+            takeAction(input.getAction(i));
+        }
+
+        if (input.getHorizontalDir() != 0) {
+            this.player.changeDX(input.getHorizontalDir() * ACCELERATION);
+        } else if (this.player.getDX() != 0) {
+            this.player.setDX(slowDown(this.player.getDX()));
+        }
+        if (input.getVerticalDir() != 0) {
+            this.player.changeDY(input.getVerticalDir() * ACCELERATION);
+        } else if (this.player.getDY() != 0) {
+            this.player.setDY(slowDown(this.player.getDY()));
+        }
+    }
+
+    /**
+     * Takes one player action
+     *
+     * @param action action to take (TickInput.RESTART, INCREASE_FRAME_RATE, or DECREASE_FRAME_RATE)
+     */
+    private void takeAction(int action) {
+        if (action == TickInput.RESTART) {
+            restartLevel();
+        } else if (action == TickInput.INCREASE_FRAME_RATE) {
+            increaseFrameRate();
+        } else if (action == TickInput.DECREASE_FRAME_RATE) {
+            decreaseFrameRate();
+        }
+    }
+
+    /**
+     * @param velocity velocity along one axis
+     * @return the velocity after one tick of deceleration (never changes direction)
+     */
+    private static double slowDown(double velocity) {
+        double slowed = Math.max(Math.abs(velocity) - DECELERATION, 0);
+        return velocity >= 0 ? slowed : slowed * -1;
+    }
+
+    /**
+     * Constrains the player to the level's playing field, moving it back within it if outside
+     */
+    private void constrainPlayerToBounds() {
+        // constrain X
+        if (this.player.getPosition().getPosX() < Player.SIZE) {
+            this.player.setPosition(Player.SIZE, this.player.getPosition().getPosY());
+            this.player.setDX(0);
+        } else if (this.player.getPosition().getPosX() > this.level.getFieldWidth() - Player.SIZE) {
+            this.player.setPosition(this.level.getFieldWidth() - Player.SIZE, this.player.getPosition().getPosY());
+            this.player.setDX(0);
+        }
+        // constrain Y
+        if (this.player.getPosition().getPosY() < Player.SIZE) {
+            this.player.setPosition(this.player.getPosition().getPosX(), Player.SIZE);
+            this.player.setDY(0);
+        } else if (this.player.getPosition().getPosY() > this.level.getFieldHeight() - Player.SIZE) {
+            this.player.setPosition(this.player.getPosition().getPosX(), this.level.getFieldHeight() - Player.SIZE);
+            this.player.setDY(0);
+        }
+    }
+
+    /**
+     * Resets the current level to its initial state
+     */
+    public void restartLevel() {
+        this.graphicalFrameRate = this.level.getInitialFrameRate();
+        this.level.startLevel(this.player);
+    }
+
+    /**
+     * Increases the level's graphical frame rate to the next rate in FRAME_RATES
+     */
+    public void increaseFrameRate() {
+        int index = FRAME_RATES.indexOf(this.graphicalFrameRate);
+        if (index != FRAME_RATES.size() - 1) {
+            this.graphicalFrameRate = FRAME_RATES.get(index + 1);
+        }
+    }
+
+    /**
+     * Decreases the level's graphical frame rate to the previous rate in FRAME_RATES
+     */
+    public void decreaseFrameRate() {
+        int index = FRAME_RATES.indexOf(this.graphicalFrameRate);
+        if (index != 0) {
+            this.graphicalFrameRate = FRAME_RATES.get(index - 1);
+        }
+    }
+
+    /**
+     * Replaces the simulated level with the given level (the level is not started until it is restarted)
+     *
+     * @param level new level to simulate
+     */
+    public void setLevel(Level level) {
+        this.level = level;
+    }
+
+    /**
+     * @return true if a clock tick is due at the current time, false otherwise
+     */
+    public boolean isClockTickDue() {
+        return this.fdt.getClockFrameDelayNanos() == 0;
+    }
+
+    /**
+     * @return the time until the next due tick, in nanoseconds
+     */
+    public long getNextTickDelay() {
+        return this.fdt.getMinFrameDelayNanos();
+    }
+
+    /**
+     * @return the simulation's virtual time, in nanoseconds since it was created
+     */
+    public long getElapsedTime() {
+        return this.fdt.getElapsedNanos();
+    }
+
+    /**
+     * @return the simulated level
+     */
+    public Level getLevel() {
+        return this.level;
+    }
+
+    /**
+     * @return the simulated player
+     */
+    public Player getPlayer() {
+        return this.player;
+    }
+
+    /**
+     * @return the simulation's current graphical frame rate (as FPS)
+     */
+    public float getGraphicalFrameRate() {
+        return this.graphicalFrameRate;
+    }
+
+    /**
+     * @return the simulation's frame delay tracker
+     */
+    public FrameDelayTracker getFdt() {
+        return this.fdt;
+    }
+
+    /**
+     * @return the collision event from the simulation's last graphical tick
+     */
+    public CollisionEvent getLastCollisionEvent() {
+        return this.lastCollisionEvent;
+    }
+}
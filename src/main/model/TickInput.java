@@ -0,0 +1,76 @@
+package model;
+
+/**
+ * Represents the player's input for one clock tick: the directions the player is being moved in, and the one-off
+ * actions taken during the tick, in the order they were taken (the same action may be taken more than once)
+ */
+public class TickInput {
+    public static final int RESTART = 1;
+    public static final int INCREASE_FRAME_RATE = 2;
+    public static final int DECREASE_FRAME_RATE = 3;
+
+    // most actions a single tick can hold; more than this in one clock tick can only come from a stuck key
+    public static final int MAX_ACTIONS = 15;
+
+    public static final TickInput NONE = new TickInput(0, 0);
+
+    private final int horizontalDir;
+    private final int verticalDir;
+    private final int[] actions;
+
+    /**
+     * Creates a tick input with the given movement directions and actions
+     *
+     * @param horizontalDir horizontal movement direction (-1 = left, 0 = none, 1 = right)
+     * @param verticalDir vertical movement direction (-1 = up, 0 = none, 1 = down)
+     * @param actions actions taken (RESTART, INCREASE_FRAME_RATE, DECREASE_FRAME_RATE), in the order they were
+     *                taken (at most MAX_ACTIONS)
+     */
+    public TickInput(int horizontalDir, int verticalDir, int... actions) {
+        this.horizontalDir = Integer.signum(horizontalDir);
+        this.verticalDir = Integer.signum(verticalDir);
+        this.actions = actions.clone();
+    }
+
+    /**
+     * @param action action to check
+     * @return true if the given action was taken at least once during the tick, false otherwise
+     */
+    public boolean hasAction(int action) {
+        for (int taken : this.actions) {
+            if (taken == action) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * @return the horizontal movement direction (-1 = left, 0 = none, 1 = right)
+     */
+    public int getHorizontalDir() {
+        return this.horizontalDir;
+    }
+
+    /**
+     * @return the vertical movement direction (-1 = up, 0 = none, 1 = down)
+     */
+    public int getVerticalDir() {
+        return this.verticalDir;
+    }
+
+    /**
+     * @return the number of actions taken during the tick
+     */
+    public int getActionCount() {
+        return this.actions.length;
+    }
+
+    /**
+     * @param index position of the action in the order actions were taken (0 <= index < getActionCount())
+     * @return the action taken at the given position
+     */
+    public int getAction(int index) {
+        return this.actions[index];
+    }
+}
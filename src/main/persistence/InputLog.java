@@ -0,0 +1,120 @@
+package persistence;
+
+import model.TickInput;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+
+/** (static)
+ * Represents a static utility class describing the FRAMED input log format
+ * <p>
+ * An input log starts with a header (magic number, format version, namespace + numerical ID of the starting level),
+ * followed by a stream of records, each starting with its record type: <br>
+ * - TICKS: input (varint), tick count (varint); a run of ticks processed with the same input <br>
+ * - PAUSED_INPUT: input (varint); an input applied while the game was paused <br>
+ * - RESTART: the level was restarted <br>
+ * - LEVEL: namespace, numerical ID; a new level was loaded <br>
+ * - CHECKPOINT: player x position, player y position (doubles); the player's position at that point of the log
+ */
+public class InputLog {
+    public static final int MAGIC = 0x46524D44; // "FRMD"
+    public static final int FORMAT_VERSION = 2;
+
+    public static final int TICKS = 1;
+    public static final int PAUSED_INPUT = 2;
+    public static final int RESTART = 3;
+    public static final int LEVEL = 4;
+    public static final int CHECKPOINT = 5;
+
+    /**
+     * Encodes a tick input into a number: bits 0-1 hold the horizontal direction + 1, bits 2-3 hold the vertical
+     * direction + 1, bits 4-7 hold the number of actions, and each action follows in the order it was taken, two bits
+     * per action (so inputs without actions fit in a single varint byte)
+     *
+     * @param input input to encode
+     * @return the encoded input
+     */
+    public static long encodeInput(TickInput input) {
+        long encoded = (input.getHorizontalDir() + 1) | (input.getVerticalDir() + 1) << 2
+                | input.getActionCount() << 4;
+        for (int i = 0; i < input.getActionCount(); i++) {
+            encoded |= (long) input.getAction(i) << (8 + 2 * i);
+        }
+        return encoded;
+    }
+
+    /**
+     * Decodes a tick input encoded by encodeInput
+     *
+     * @param encoded encoded input
+     * @return the decoded input
+     * @throws IOException if the encoded input is malformed
+     * @see #encodeInput(TickInput)
+     */
+    public static TickInput decodeInput(long encoded) throws IOException {
+        int[] actions = new int[(int) (encoded >> 4 & 15)];
+        for (int i = 0; i < actions.length; i++) {
+            actions[i] = (int) (encoded >> (8 + 2 * i) & 3);
+            if (actions[i] == 0) {
+                throw new IOException("Malformed input: " + encoded);
+            }
+        }
+        if ((encoded & 3) == 3 || (encoded >> 2 & 3) == 3 || encoded >> (8 + 2 * actions.length) != 0) {
+            throw new IOException("Malformed input: " + encoded);
+        }
+        return new TickInput((int) (encoded & 3) - 1, (int) (encoded >> 2 & 3) - 1, actions);
+    }
+
+    /**
+     * Writes a non-negative number using as few bytes as possible (7 bits per byte, high bit set on all bytes but
+     * the last)
+     *
+     * @param out output to write to
+     * @param value number to write (value >= 0)
+     * @throws IOException if an I/O error occurs
+     */
+    public static void writeVarLong(DataOutput out, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) (value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+
+    /**
+     * Reads a number written by writeVarLong
+     *
+     * @param in input to read from
+     * @return the number read
+     * @throws IOException if an I/O error occurs, or the number is malformed
+     * @see #writeVarLong(DataOutput, long)
+     */
+    public static long readVarLong(DataInput in) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            int next = in.readUnsignedByte();
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint");
+    }
+
+    /**
+     * Reads the type of the next record, or reports the end of the log
+     *
+     * @param in input to read from
+     * @return the type of the next record, or -1 if the log has ended
+     * @throws IOException if an I/O error occurs
+     */
+    public static int readRecordType(DataInput in) throws IOException {
+        try {
+            return in.readUnsignedByte();
+        } catch (EOFException e) {
+            return -1;
+        }
+    }
+}
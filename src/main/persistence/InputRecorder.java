@@ -0,0 +1,206 @@
+package persistence;
+
+import model.Player;
+import model.Simulation;
+import model.TickInput;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * Represents a recorder that writes every input and level change fed to a simulation to an input log, so the
+ * session can be replayed later
+ * <p>
+ * Runs of ticks with the same clock tick input are stored as a single record (ticks without a clock tick do not end
+ * a run, as their input is never used), and the player's position is stored every
+ * CHECKPOINT_INTERVAL ticks so replays can be checked against the recording. Like a PrintStream, the recorder
+ * never throws while recording: the first I/O error stops the recording and is thrown when the recorder is closed
+ *
+ * @see InputLog
+ */
+public class InputRecorder {
+    public static final int CHECKPOINT_INTERVAL = 300;
+    private static final long NO_INPUT = -1;
+
+    private final DataOutputStream out;
+    private long runInput;
+    private long runLength;
+    private long tickCount;
+    private IOException error;
+
+    /**
+     * Creates a recorder writing to the target file, starting in the given level
+     *
+     * @param target destination of the input log
+     * @param namespace namespace of the starting level
+     * @param id numerical ID of the starting level
+     * @throws IOException if an I/O error occurs
+     */
+    public InputRecorder(String target, String namespace, int id) throws IOException {
+        this(new FileOutputStream(target), namespace, id);
+    }
+
+    /**
+     * Creates a recorder writing to the given stream, starting in the given level
+     *
+     * @param out stream to write the input log to
+     * @param namespace namespace of the starting level
+     * @param id numerical ID of the starting level
+     * @throws IOException if an I/O error occurs
+     */
+    public InputRecorder(OutputStream out, String namespace, int id) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out));
+        this.out.writeInt(InputLog.MAGIC);
+        this.out.writeByte(InputLog.FORMAT_VERSION);
+        this.out.writeUTF(namespace);
+        this.out.writeInt(id);
+        this.runInput = NO_INPUT;
+        this.runLength = 0;
+        this.tickCount = 0;
+    }
+
+    /**
+     * Records one processed tick (clock, graphical, or both), and the player's position if a checkpoint is due
+     *
+     * @param ticks combination of the tick flags processed (Simulation.CLOCK_TICK, Simulation.GRAPHICAL_TICK)
+     * @param input input the tick was processed with (only used if a clock tick was processed)
+     * @param player player after the tick was processed
+     */
+    public synchronized void recordTick(int ticks, TickInput input, Player player) {
+        if ((ticks & Simulation.CLOCK_TICK) != 0) {
+            long encoded = InputLog.encodeInput(input);
+            if (this.runInput != NO_INPUT && encoded != this.runInput) {
+                flushRun();
+            }
+            this.runInput = encoded;
+        }
+        this.runLength++;
+        this.tickCount++;
+        if (this.tickCount % CHECKPOINT_INTERVAL == 0) {
+            flushRun();
+            writeCheckpoint(player);
+        }
+    }
+
+    /**
+     * Records an input applied while the game was paused
+     *
+     * @param input input applied
+     */
+    public synchronized void recordPausedInput(TickInput input) {
+        flushRun();
+        try {
+            this.out.writeByte(InputLog.PAUSED_INPUT);
+            InputLog.writeVarLong(this.out, InputLog.encodeInput(input));
+        } catch (IOException e) {
+            stop(e);
+        }
+    }
+
+    /**
+     * Records a level restart
+     */
+    public synchronized void recordRestart() {
+        flushRun();
+        try {
+            this.out.writeByte(InputLog.RESTART);
+        } catch (IOException e) {
+            stop(e);
+        }
+    }
+
+    /**
+     * Records a level change
+     *
+     * @param namespace namespace of the new level
+     * @param id numerical ID of the new level
+     */
+    public synchronized void recordLevel(String namespace, int id) {
+        flushRun();
+        try {
+            this.out.writeByte(InputLog.LEVEL);
+            this.out.writeUTF(namespace);
+            this.out.writeInt(id);
+        } catch (IOException e) {
+            stop(e);
+        }
+    }
+
+    /**
+     * Writes out the current run of ticks, if any
+     */
+    private void flushRun() {
+        if (this.runLength > 0 && this.error == null) {
+            try {
+                this.out.writeByte(InputLog.TICKS);
+                InputLog.writeVarLong(this.out,
+                        this.runInput == NO_INPUT ? InputLog.encodeInput(TickInput.NONE) : this.runInput);
+                InputLog.writeVarLong(this.out, this.runLength);
+            } catch (IOException e) {
+                stop(e);
+            }
+        }
+        this.runInput = NO_INPUT;
+        this.runLength = 0;
+    }
+
+    /**
+     * Writes a checkpoint with the player's current position
+     *
+     * @param player player to record the position of
+     */
+    private void writeCheckpoint(Player player) {
+        try {
+            this.out.writeByte(InputLog.CHECKPOINT);
+            this.out.writeDouble(player.getPosition().getPosX());
+            this.out.writeDouble(player.getPosition().getPosY());
+        } catch (IOException e) {
+            stop(e);
+        }
+    }
+
+    /**
+     * Stops recording after an I/O error, keeping the error to be thrown on close
+     *
+     * @param e error that occurred
+     */
+    private void stop(IOException e) {
+        if (this.error == null) {
+            this.error = e;
+        }
+    }
+
+    /**
+     * Writes out any buffered records and closes the input log
+     *
+     * @throws IOException if an I/O error occurred at any point during the recording
+     */
+    public synchronized void close() throws IOException {
+        flushRun();
+        try {
+            this.out.close();
+        } catch (IOException e) {
+            stop(e);
+        }
+        if (this.error != null) {
+            throw this.error;
+        }
+    }
+
+    /**
+     * @return the number of ticks recorded
+     */
+    public long getTickCount() {
+        return this.tickCount;
+    }
+
+    /**
+     * @return true if an I/O error has stopped the recording, false otherwise
+     */
+    public boolean checkError() {
+        return this.error != null;
+    }
+}
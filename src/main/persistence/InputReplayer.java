@@ -0,0 +1,211 @@
+package persistence;
+
+import model.Level;
+import model.Player;
+import model.Simulation;
+import model.TickInput;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Represents a replayer that feeds an input log back into a simulation, without waiting between ticks
+ * <p>
+ * The log is read one record at a time, so logs of any length can be replayed; checkpoints in the log are compared
+ * against the simulated player's position to detect replays that no longer match the recording
+ *
+ * @see InputLog
+ * @see InputRecorder
+ */
+public class InputReplayer {
+    public static final int END_OF_LOG = 0;
+    public static final int REPLAYED = 1;
+    public static final int DIVERGED = 2;
+
+    private final DataInputStream in;
+    private final String levelDirectory;
+    private final String namespace;
+    private final int levelID;
+    private TickInput runInput;
+    private long runRemaining;
+    private long tickCount;
+    private double expectedX;
+    private double expectedY;
+
+    /**
+     * Creates a replayer reading from the source file, loading levels from the given directory
+     *
+     * @param source location of the input log
+     * @param levelDirectory directory containing the level files
+     * @throws IOException if an I/O error occurs, or the source is not an input log
+     */
+    public InputReplayer(String source, String levelDirectory) throws IOException {
+        this(new FileInputStream(source), levelDirectory);
+    }
+
+    /**
+     * Creates a replayer reading from the given stream, loading levels from the given directory
+     *
+     * @param in stream to read the input log from
+     * @param levelDirectory directory containing the level files
+     * @throws IOException if an I/O error occurs, or the stream does not contain an input log
+     */
+    public InputReplayer(InputStream in, String levelDirectory) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(in));
+        this.levelDirectory = levelDirectory;
+        if (this.in.readInt() != InputLog.MAGIC) {
+            throw new IOException("Not an input log");
+        } else if (this.in.readUnsignedByte() != InputLog.FORMAT_VERSION) {
+            throw new IOException("Unsupported input log version");
+        }
+        this.namespace = this.in.readUTF();
+        this.levelID = this.in.readInt();
+        this.runRemaining = 0;
+        this.tickCount = 0;
+    }
+
+    /**
+     * Creates a simulation of the given player in the log's starting level
+     *
+     * @param player player to simulate (the player is placed when the log restarts the level)
+     * @return the simulation to replay the log into
+     * @throws IOException if an I/O error occurs
+     */
+    public Simulation createSimulation(Player player) throws IOException {
+        return new Simulation(loadLevel(this.namespace, this.levelID), player);
+    }
+
+    /**
+     * Replays the rest of the log into the given simulation, stopping early if the replay diverges from the recording
+     *
+     * @param simulation simulation created by createSimulation
+     * @return END_OF_LOG if the whole log was replayed, or DIVERGED if the replay diverged from the recording
+     * @throws IOException if an I/O error occurs, or the log is malformed
+     */
+    public int replay(Simulation simulation) throws IOException {
+        int result;
+        do {
+            result = replayNext(simulation);
+        } while (result == REPLAYED);
+        return result;
+    }
+
+    /**
+     * Replays the next tick or event of the log into the given simulation
+     *
+     * @param simulation simulation created by createSimulation
+     * @return REPLAYED if a tick or event was replayed, END_OF_LOG if the log has ended, or DIVERGED if the player's
+     *         position does not match the next checkpoint
+     * @throws IOException if an I/O error occurs, or the log is malformed
+     */
+    public int replayNext(Simulation simulation) throws IOException {
+        if (this.runRemaining > 0) {
+            replayTick(simulation);
+            return REPLAYED;
+        }
+        int type = InputLog.readRecordType(this.in);
+        switch (type) {
+            case -1:
+                return END_OF_LOG;
+            case InputLog.TICKS:
+                readRun();
+                return replayNext(simulation);
+            case InputLog.PAUSED_INPUT:
+                simulation.applyInput(InputLog.decodeInput(InputLog.readVarLong(this.in)));
+                return REPLAYED;
+            case InputLog.RESTART:
+                simulation.restartLevel();
+                return REPLAYED;
+            case InputLog.LEVEL:
+                simulation.setLevel(loadLevel(this.in.readUTF(), this.in.readInt()));
+                return REPLAYED;
+            case InputLog.CHECKPOINT:
+                return checkPosition(simulation.getPlayer());
+            default:
+                throw new IOException("Unknown record type: " + type);
+        }
+    }
+
+    /**
+     * Reads the input and length of the next run of ticks
+     *
+     * @throws IOException if an I/O error occurs, or the run is malformed
+     */
+    private void readRun() throws IOException {
+        this.runInput = InputLog.decodeInput(InputLog.readVarLong(this.in));
+        this.runRemaining = InputLog.readVarLong(this.in);
+    }
+
+    /**
+     * Advances the simulation to its next due tick and processes it with the current run's input
+     *
+     * @param simulation simulation to advance
+     */
+    private void replayTick(Simulation simulation) {
+        simulation.advance();
+        simulation.tick(this.runInput);
+        this.runRemaining--;
+        this.tickCount++;
+    }
+
+    /**
+     * Reads a checkpoint and compares it against the player's position
+     *
+     * @param player simulated player
+     * @return REPLAYED if the player is at the recorded position, DIVERGED otherwise
+     * @throws IOException if an I/O error occurs
+     */
+    private int checkPosition(Player player) throws IOException {
+        this.expectedX = this.in.readDouble();
+        this.expectedY = this.in.readDouble();
+        if (player.getPosition().getPosX() != this.expectedX || player.getPosition().getPosY() != this.expectedY) {
+            return DIVERGED;
+        }
+        return REPLAYED;
+    }
+
+    /**
+     * Loads the level with the given namespace and level ID from the level directory
+     *
+     * @param namespace the namespace of the level to be loaded
+     * @param id the numerical ID of the level to be loaded
+     * @return the loaded level
+     * @throws IOException if an I/O error occurs
+     */
+    private Level loadLevel(String namespace, int id) throws IOException {
+        return LevelCache.readLevel(this.levelDirectory, namespace, id);
+    }
+
+    /**
+     * Closes the input log
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    public void close() throws IOException {
+        this.in.close();
+    }
+
+    /**
+     * @return the number of ticks replayed
+     */
+    public long getTickCount() {
+        return this.tickCount;
+    }
+
+    /**
+     * @return the player's x position at the last checkpoint read
+     */
+    public double getExpectedX() {
+        return this.expectedX;
+    }
+
+    /**
+     * @return the player's y position at the last checkpoint read
+     */
+    public double getExpectedY() {
+        return this.expectedY;
+    }
+}
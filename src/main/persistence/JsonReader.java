@@ -2,13 +2,27 @@ package persistence;
 
 import org.json.JSONObject;
 
-import java.io.FileReader;
+import java.io.EOFException;
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.InvalidPathException;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
 
-/**
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/** (static)
  * Represents a static utility class for reading JSON objects from files
+ * <p>
+ * Files are read in bulk into a buffer the size of the file and decoded as UTF-8; files of at least
+ * MAPPING_THRESHOLD bytes (e.g. large level packs) are memory-mapped instead of being copied into the heap
  */
 public class JsonReader {
+    public static final long MAPPING_THRESHOLD = 1 << 22; // 4 MiB
 
     /**
      * Reads a JSON file from the target destination
@@ -18,18 +32,98 @@ public class JsonReader {
      * @throws IOException if an I/O error occurs
      */
     public static JSONObject readFile(String target) throws IOException {
-        FileReader fileReader = new FileReader(target);
-        int lastChar;
-        StringBuilder output = new StringBuilder();
-        while (true) {
-            lastChar = fileReader.read();
-            if (lastChar == -1) {
-                break;
-            } else {
-                output.append((char) lastChar);
+        return new JSONObject(readText(target));
+    }
+
+    /**
+     * Reads a JSON file from the target destination through a memory mapping, regardless of its size
+     *
+     * @param target the destination of the file to be read
+     * @return JSON object read from the file
+     * @throws IOException if an I/O error occurs
+     */
+    public static JSONObject readMappedFile(String target) throws IOException {
+        try (FileChannel channel = openChannel(target)) {
+            return new JSONObject(UTF_8.decode(mapChannel(channel)).toString());
+        }
+    }
+
+    /**
+     * Reads the entire contents of a UTF-8 text file from the target destination
+     *
+     * @param target the destination of the file to be read
+     * @return the file's contents
+     * @throws IOException if an I/O error occurs
+     */
+    public static String readText(String target) throws IOException {
+        ByteBuffer buffer = readBytes(target);
+        if (buffer.hasArray()) {
+            return new String(buffer.array(), UTF_8);
+        }
+        return UTF_8.decode(buffer).toString();
+    }
+
+    /**
+     * Reads the entire contents of the file at the target destination, mapping it into memory instead if it is at
+     * least MAPPING_THRESHOLD bytes long
+     *
+     * @param target the destination of the file to be read
+     * @return the file's contents (backed by an array of the file's exact length if the file was read, or a direct
+     *         buffer if it was mapped)
+     * @throws IOException if an I/O error occurs
+     */
+    static ByteBuffer readBytes(String target) throws IOException {
+        try (FileChannel channel = openChannel(target)) {
+            if (channel.size() >= MAPPING_THRESHOLD) {
+                return mapChannel(channel);
             }
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer) == -1) {
+                    throw new EOFException("File shrank while being read: " + target);
+                }
+            }
+            buffer.flip();
+            return buffer;
+        }
+    }
+
+    /**
+     * Maps the entire file at the target destination into memory, read-only
+     *
+     * @param target the destination of the file to be mapped
+     * @return the mapped file contents
+     * @throws IOException if an I/O error occurs
+     */
+    public static MappedByteBuffer mapFile(String target) throws IOException {
+        // the mapping stays valid once the channel is closed
+        try (FileChannel channel = openChannel(target)) {
+            return mapChannel(channel);
         }
-        fileReader.close();
-        return new JSONObject(output.toString());
+    }
+
+    /**
+     * Opens a read-only channel to the target file
+     *
+     * @param target the destination of the file to be opened
+     * @return the opened channel
+     * @throws IOException if an I/O error occurs (FileNotFoundException if the file does not exist, or its name is
+     *                     invalid)
+     */
+    static FileChannel openChannel(String target) throws IOException {
+        try {
+            return FileChannel.open(Paths.get(target), StandardOpenOption.READ);
+        } catch (NoSuchFileException | InvalidPathException e) {
+            throw new FileNotFoundException(target + " (No such file or directory)");
+        }
+    }
+
+    /**
+     * @param channel open channel to map
+     * @return the channel's entire file mapped into memory, read-only
+     * @throws IOException if an I/O error occurs
+     */
+    private static MappedByteBuffer mapChannel(FileChannel channel) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
     }
 }
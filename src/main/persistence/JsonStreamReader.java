@@ -0,0 +1,631 @@
+package persistence;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.Arrays;
+
+/**
+ * Represents a pull-style JSON reader, which reads a JSON document one token at a time from a character stream
+ * without building a tree of the document
+ * <p>
+ * Objects and arrays are read by calling the matching begin/end methods around their contents, and values are read
+ * with the next method matching their type; any value that is not needed can be skipped
+ */
+public class JsonStreamReader implements Closeable {
+    public static final int BEGIN_OBJECT = 1;
+    public static final int END_OBJECT = 2;
+    public static final int BEGIN_ARRAY = 3;
+    public static final int END_ARRAY = 4;
+    public static final int NAME = 5;
+    public static final int STRING = 6;
+    public static final int NUMBER = 7;
+    public static final int BOOLEAN = 8;
+    public static final int NULL = 9;
+    public static final int END_DOCUMENT = 10;
+
+    public static final int BUFFER_SIZE = 8192;
+
+    private static final int NOT_PEEKED = 0;
+
+    private static final int EMPTY_DOCUMENT = 0;
+    private static final int NONEMPTY_DOCUMENT = 1;
+    private static final int EMPTY_OBJECT = 2;
+    private static final int NONEMPTY_OBJECT = 3;
+    private static final int DANGLING_NAME = 4;
+    private static final int EMPTY_ARRAY = 5;
+    private static final int NONEMPTY_ARRAY = 6;
+
+    private final Reader in;
+    private final char[] buffer;
+    private int pos;
+    private int limit;
+    private long bufferStart;
+    private int[] stack;
+    private int depth;
+    private int peeked;
+
+    /**
+     * Creates a JSON reader reading from the given character stream
+     *
+     * @param in character stream containing a JSON document
+     */
+    public JsonStreamReader(Reader in) {
+        this.in = in;
+        this.buffer = new char[BUFFER_SIZE];
+        this.pos = 0;
+        this.limit = 0;
+        this.bufferStart = 0;
+        this.stack = new int[32];
+        this.stack[0] = EMPTY_DOCUMENT;
+        this.depth = 1;
+        this.peeked = NOT_PEEKED;
+    }
+
+    /**
+     * @return the type of the next token (BEGIN_OBJECT, END_OBJECT, BEGIN_ARRAY, END_ARRAY, NAME, STRING, NUMBER,
+     *         BOOLEAN, NULL, or END_DOCUMENT), without consuming it
+     * @throws IOException if an I/O error occurs, or the document is malformed
+     */
+    public int peek() throws IOException {
+        if (this.peeked == NOT_PEEKED) {
+            this.peeked = readTokenType();
+        }
+        return this.peeked;
+    }
+
+    /**
+     * @return true if the current object or array has another element, false otherwise
+     * @throws IOException if an I/O error occurs, or the document is malformed
+     */
+    public boolean hasNext() throws IOException {
+        int next = peek();
+        return next != END_OBJECT && next != END_ARRAY && next != END_DOCUMENT;
+    }
+
+    /**
+     * Consumes the start of an object
+     *
+     * @throws IOException if an I/O error occurs, or the next token is not the start of an object
+     */
+    public void beginObject() throws IOException {
+        expect(BEGIN_OBJECT);
+        push(EMPTY_OBJECT);
+    }
+
+    /**
+     * Consumes the end of the current object
+     *
+     * @throws IOException if an I/O error occurs, or the next token is not the end of an object
+     */
+    public void endObject() throws IOException {
+        expect(END_OBJECT);
+        this.depth--;
+    }
+
+    /**
+     * Consumes the start of an array
+     *
+     * @throws IOException if an I/O error occurs, or the next token is not the start of an array
+     */
+    public void beginArray() throws IOException {
+        expect(BEGIN_ARRAY);
+        push(EMPTY_ARRAY);
+    }
+
+    /**
+     * Consumes the end of the current array
+     *
+     * @throws IOException if an I/O error occurs, or the next token is not the end of an array
+     */
+    public void endArray() throws IOException {
+        expect(END_ARRAY);
+        this.depth--;
+    }
+
+    /**
+     * @return the next property name
+     * @throws IOException if an I/O error occurs, or the next token is not a property name
+     */
+    public String nextName() throws IOException {
+        expect(NAME);
+        return readString();
+    }
+
+    /**
+     * Consumes the next property name and finds it in the given names, without creating a string for it if it can
+     * be compared in place
+     *
+     * @param names property names to look for
+     * @return the index of the property name in names, or -1 if it is not one of them
+     * @throws IOException if an I/O error occurs, or the next token is not a property name
+     */
+    public int selectName(String[] names) throws IOException {
+        expect(NAME);
+        int end = this.pos;
+        while (end < this.limit && this.buffer[end] != '"' && this.buffer[end] != '\\') {
+            end++;
+        }
+        if (end == this.limit || this.buffer[end] != '"') {
+            // the name continues past the buffer, or contains escape sequences
+            return Arrays.asList(names).indexOf(readString());
+        }
+        int start = this.pos;
+        this.pos = end + 1;
+        for (int i = 0; i < names.length; i++) {
+            if (regionEquals(names[i], start, end - start)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @param name string to compare
+     * @param start start of the buffer region to compare
+     * @param length length of the buffer region to compare
+     * @return true if the buffer region holds exactly the given string, false otherwise
+     */
+    private boolean regionEquals(String name, int start, int length) {
+        if (name.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (this.buffer[start + i] != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the next string value
+     * @throws IOException if an I/O error occurs, or the next token is not a string
+     */
+    public String nextString() throws IOException {
+        expect(STRING);
+        return readString();
+    }
+
+    /**
+     * @return the next number value
+     * @throws IOException if an I/O error occurs, or the next token is not a number
+     */
+    public double nextDouble() throws IOException {
+        expect(NUMBER);
+        return readNumber();
+    }
+
+    /**
+     * @return the next number value, with any fractional part dropped
+     * @throws IOException if an I/O error occurs, or the next token is not a number
+     */
+    public int nextInt() throws IOException {
+        return (int) nextDouble();
+    }
+
+    /**
+     * @return the next boolean value
+     * @throws IOException if an I/O error occurs, or the next token is not a boolean
+     */
+    public boolean nextBoolean() throws IOException {
+        expect(BOOLEAN);
+        if (this.buffer[this.pos] == 't') {
+            readLiteral("true");
+            return true;
+        }
+        readLiteral("false");
+        return false;
+    }
+
+    /**
+     * Consumes the next value, including all the contents of an object or array
+     *
+     * @throws IOException if an I/O error occurs, or the value is malformed
+     */
+    public void skipValue() throws IOException {
+        int next = peek();
+        if (next == BEGIN_OBJECT) {
+            beginObject();
+            while (hasNext()) {
+                nextName();
+                skipValue();
+            }
+            endObject();
+        } else if (next == BEGIN_ARRAY) {
+            beginArray();
+            while (hasNext()) {
+                skipValue();
+            }
+            endArray();
+        } else {
+            skipPrimitive(next);
+        }
+    }
+
+    /**
+     * Consumes the next string, number, boolean, or null value
+     *
+     * @param next type of the next token
+     * @throws IOException if an I/O error occurs, or the next token is not a primitive value
+     */
+    private void skipPrimitive(int next) throws IOException {
+        if (next == STRING) {
+            nextString();
+        } else if (next == NUMBER) {
+            nextDouble();
+        } else if (next == BOOLEAN) {
+            nextBoolean();
+        } else if (next == NULL) {
+            expect(NULL);
+            readLiteral("null");
+        } else {
+            throw syntaxError("Expected a value");
+        }
+    }
+
+    /**
+     * Consumes the next token, which must be of the given type
+     *
+     * @param type expected token type
+     * @throws IOException if an I/O error occurs, or the next token is of another type
+     */
+    private void expect(int type) throws IOException {
+        if (peek() != type) {
+            throw syntaxError("Unexpected token");
+        }
+        this.peeked = NOT_PEEKED;
+    }
+
+    /**
+     * Enters a new object or array
+     *
+     * @param context EMPTY_OBJECT or EMPTY_ARRAY
+     */
+    private void push(int context) {
+        if (this.depth == this.stack.length) {
+            this.stack = Arrays.copyOf(this.stack, this.depth * 2);
+        }
+        this.stack[this.depth++] = context;
+    }
+
+    /**
+     * Reads past any separators before the next token, and determines the next token's type
+     *
+     * @return the type of the next token
+     * @throws IOException if an I/O error occurs, or the document is malformed
+     */
+    private int readTokenType() throws IOException {
+        int context = this.stack[this.depth - 1];
+        if (context == EMPTY_OBJECT || context == NONEMPTY_OBJECT) {
+            return readNameType(context);
+        } else if (context == DANGLING_NAME) {
+            this.stack[this.depth - 1] = NONEMPTY_OBJECT;
+            if (nextNonWhitespace() != ':') {
+                throw syntaxError("Expected ':'");
+            }
+        } else if (context == EMPTY_ARRAY) {
+            this.stack[this.depth - 1] = NONEMPTY_ARRAY;
+        } else if (context == NONEMPTY_ARRAY) {
+            char c = nextNonWhitespace();
+            if (c == ']') {
+                return END_ARRAY;
+            } else if (c != ',') {
+                throw syntaxError("Expected ',' or ']'");
+            }
+        } else if (context == EMPTY_DOCUMENT) {
+            this.stack[this.depth - 1] = NONEMPTY_DOCUMENT;
+        } else if (hasMoreContent()) {
+            throw syntaxError("Expected the end of the document");
+        } else {
+            return END_DOCUMENT;
+        }
+        return readValueType(context);
+    }
+
+    /**
+     * Reads past any separators before the next property name in an object, and determines the next token's type
+     *
+     * @param context EMPTY_OBJECT or NONEMPTY_OBJECT
+     * @return NAME, or END_OBJECT if the object has ended
+     * @throws IOException if an I/O error occurs, or the object is malformed
+     */
+    private int readNameType(int context) throws IOException {
+        this.stack[this.depth - 1] = DANGLING_NAME;
+        char c = nextNonWhitespace();
+        if (context == NONEMPTY_OBJECT) {
+            if (c == '}') {
+                return END_OBJECT;
+            } else if (c != ',') {
+                throw syntaxError("Expected ',' or '}'");
+            }
+            c = nextNonWhitespace();
+        }
+        if (c == '"') {
+            return NAME;
+        } else if (c == '}' && context == EMPTY_OBJECT) {
+            return END_OBJECT;
+        }
+        throw syntaxError("Expected a property name");
+    }
+
+    /**
+     * Determines the type of the next value from its first character; strings have their opening quote consumed,
+     * while other values are left unconsumed
+     *
+     * @param context context the value is in
+     * @return the type of the next token
+     * @throws IOException if an I/O error occurs, or the value is malformed
+     */
+    private int readValueType(int context) throws IOException {
+        char c = nextNonWhitespace();
+        switch (c) {
+            case '{':
+                return BEGIN_OBJECT;
+            case '[':
+                return BEGIN_ARRAY;
+            case '"':
+                return STRING;
+            case ']':
+                if (context == EMPTY_ARRAY) {
+                    return END_ARRAY;
+                }
+                throw syntaxError("Expected a value");
+            default:
+                this.pos--;
+                return readUnquotedValueType(c);
+        }
+    }
+
+    /**
+     * @param c first character of a value that is not an object, array, or string
+     * @return the type of the value
+     * @throws IOException if the value is malformed
+     */
+    private int readUnquotedValueType(char c) throws IOException {
+        if (c == 't' || c == 'f') {
+            return BOOLEAN;
+        } else if (c == 'n') {
+            return NULL;
+        } else if (c == '-' || (c >= '0' && c <= '9')) {
+            return NUMBER;
+        }
+        throw syntaxError("Expected a value");
+    }
+
+    /**
+     * Reads the rest of a string whose opening quote has been consumed, including the closing quote
+     *
+     * @return the string read
+     * @throws IOException if an I/O error occurs, or the string is malformed
+     */
+    private String readString() throws IOException {
+        StringBuilder builder = null;
+        while (true) {
+            int start = this.pos;
+            while (this.pos < this.limit) {
+                char c = this.buffer[this.pos++];
+                if (c == '"') {
+                    if (builder == null) {
+                        return new String(this.buffer, start, this.pos - start - 1);
+                    }
+                    return builder.append(this.buffer, start, this.pos - start - 1).toString();
+                } else if (c == '\\') {
+                    builder = builder == null ? new StringBuilder() : builder;
+                    builder.append(this.buffer, start, this.pos - start - 1).append(readEscape());
+                    start = this.pos;
+                }
+            }
+            builder = builder == null ? new StringBuilder() : builder;
+            builder.append(this.buffer, start, this.pos - start);
+            if (!fill(1)) {
+                throw syntaxError("Unterminated string");
+            }
+        }
+    }
+
+    /**
+     * Reads the rest of an escape sequence whose backslash has been consumed
+     *
+     * @return the escaped character
+     * @throws IOException if an I/O error occurs, or the escape sequence is malformed
+     */
+    private char readEscape() throws IOException {
+        if (this.pos == this.limit && !fill(1)) {
+            throw syntaxError("Unterminated escape sequence");
+        }
+        char c = this.buffer[this.pos++];
+        switch (c) {
+            case 'u':
+                return readUnicodeEscape();
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case '"':
+            case '\\':
+            case '/':
+                return c;
+            default:
+                throw syntaxError("Invalid escape sequence");
+        }
+    }
+
+    /**
+     * @return the character given by the four hex digits of a unicode escape sequence
+     * @throws IOException if an I/O error occurs, or the digits are malformed
+     */
+    private char readUnicodeEscape() throws IOException {
+        if (this.limit - this.pos < 4 && !fill(4)) {
+            throw syntaxError("Unterminated escape sequence");
+        }
+        int value = 0;
+        for (int i = 0; i < 4; i++) {
+            int digit = Character.digit(this.buffer[this.pos++], 16);
+            if (digit == -1) {
+                throw syntaxError("Invalid unicode escape sequence");
+            }
+            value = value * 16 + digit;
+        }
+        return (char) value;
+    }
+
+    /**
+     * Reads a number, parsing integers of up to 18 digits directly from the buffer
+     *
+     * @return the number read
+     * @throws IOException if an I/O error occurs, or the number is malformed
+     */
+    private double readNumber() throws IOException {
+        int length = findNumberLength();
+        int start = this.pos;
+        this.pos += length;
+        boolean negative = this.buffer[start] == '-';
+        int digitStart = negative ? start + 1 : start;
+        if (this.pos - digitStart > 0 && this.pos - digitStart <= 18) {
+            long value = 0;
+            int i = digitStart;
+            while (i < this.pos && this.buffer[i] >= '0' && this.buffer[i] <= '9') {
+                value = value * 10 + this.buffer[i++] - '0';
+            }
+            if (i == this.pos) {
+                return negative ? -(double) value : value;
+            }
+        }
+        try {
+            return Double.parseDouble(new String(this.buffer, start, length));
+        } catch (NumberFormatException e) {
+            throw syntaxError("Malformed number");
+        }
+    }
+
+    /**
+     * Finds the length of the number at the current position, loading the whole number into the buffer
+     *
+     * @return the number of characters in the number
+     * @throws IOException if an I/O error occurs, or the number is too long
+     */
+    private int findNumberLength() throws IOException {
+        int length = 0;
+        while (true) {
+            while (this.pos + length < this.limit && isNumberChar(this.buffer[this.pos + length])) {
+                length++;
+            }
+            if (this.pos + length < this.limit) {
+                return length;
+            } else if (length >= this.buffer.length) {
+                throw syntaxError("Number too long");
+            } else if (!fill(length + 1)) {
+                return length;
+            }
+        }
+    }
+
+    /**
+     * @param c character to check
+     * @return true if the character can be part of a number, false otherwise
+     */
+    private static boolean isNumberChar(char c) {
+        return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E';
+    }
+
+    /**
+     * Consumes the given literal
+     *
+     * @param literal literal expected at the current position
+     * @throws IOException if an I/O error occurs, or the literal is not at the current position
+     */
+    private void readLiteral(String literal) throws IOException {
+        if (this.limit - this.pos < literal.length() && !fill(literal.length())) {
+            throw syntaxError("Expected " + literal);
+        }
+        for (int i = 0; i < literal.length(); i++) {
+            if (this.buffer[this.pos + i] != literal.charAt(i)) {
+                throw syntaxError("Expected " + literal);
+            }
+        }
+        this.pos += literal.length();
+    }
+
+    /**
+     * Consumes and returns the next character that is not whitespace
+     *
+     * @return the next non-whitespace character
+     * @throws IOException if an I/O error occurs, or the document has ended
+     */
+    private char nextNonWhitespace() throws IOException {
+        while (this.pos < this.limit || fill(1)) {
+            char c = this.buffer[this.pos++];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return c;
+            }
+        }
+        throw syntaxError("Unexpected end of document");
+    }
+
+    /**
+     * Skips whitespace up to the next character, without consuming it
+     *
+     * @return true if there is a non-whitespace character left in the document, false otherwise
+     * @throws IOException if an I/O error occurs
+     */
+    private boolean hasMoreContent() throws IOException {
+        while (this.pos < this.limit || fill(1)) {
+            char c = this.buffer[this.pos];
+            if (c != ' ' && c != '\n' && c != '\r' && c != '\t') {
+                return true;
+            }
+            this.pos++;
+        }
+        return false;
+    }
+
+    /**
+     * Moves the unconsumed characters to the start of the buffer, then reads from the stream until at least the
+     * given number of characters are unconsumed
+     *
+     * @param minimum number of unconsumed characters needed (minimum <= BUFFER_SIZE)
+     * @return true if enough characters were read, false if the stream ended first
+     * @throws IOException if an I/O error occurs
+     */
+    private boolean fill(int minimum) throws IOException {
+        if (this.pos > 0) {
+            System.arraycopy(this.buffer, this.pos, this.buffer, 0, this.limit - this.pos);
+            this.bufferStart += this.pos;
+            this.limit -= this.pos;
+            this.pos = 0;
+        }
+        while (this.limit < minimum) {
+            int read = this.in.read(this.buffer, this.limit, this.buffer.length - this.limit);
+            if (read == -1) {
+                return false;
+            }
+            this.limit += read;
+        }
+        return true;
+    }
+
+    /**
+     * @param message description of the error
+     * @return an exception describing a syntax error at the current position
+     */
+    private IOException syntaxError(String message) {
+        return new IOException(message + " at character " + (this.bufferStart + this.pos));
+    }
+
+    /**
+     * Closes the underlying character stream
+     *
+     * @throws IOException if an I/O error occurs
+     */
+    @Override
+    public void close() throws IOException {
+        this.in.close();
+    }
+}
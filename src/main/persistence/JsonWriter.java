@@ -1,10 +1,16 @@
 package persistence;
 
+import elem.Goal;
+import elem.LevelElement;
+import model.Level;
+import org.json.JSONArray;
 import org.json.JSONObject;
 import util.ColorManager;
+import util.Position;
 
 import java.io.FileWriter;
 import java.io.IOException;
+import java.util.List;
 
 /** (static)
  * Represents a static utility class for writing JSON objects to files
@@ -39,6 +45,79 @@ public class JsonWriter {
         writeToFile(target, json.toString(2));
     }
 
+    /**
+     * Writes a level to the target level file, in the same format as the level files in data/level
+     *
+     * @param target target destination to write the level to
+     * @param level level to write
+     * @throws IOException if an I/O error occurs
+     * @see #writeToFile(String, String)
+     */
+    public static void writeLevel(String target, Level level) throws IOException {
+        JSONObject json = new JSONObject();
+        json.put("formatVersion", 2); // constant for maintaining level format consistency
+        json.put("metadata", new JSONObject()
+                .put("namespace", level.getNamespace())
+                .put("id", level.getID()));
+        json.put("initialFrameRate", level.getInitialFrameRate());
+        json.put("spawn", positionToJson(level.getSpawn()));
+        json.put("obstacles", elementsToJson(level.getObstacles()));
+        json.put("walls", elementsToJson(level.getWalls()));
+        JSONArray goals = elementsToJson(level.getGoals());
+        for (int i = 0; i < goals.length(); i++) {
+            goals.getJSONObject(i).put("nextLevelID", level.getGoals().get(i).getNextLevelID());
+        }
+        json.put("goals", goals);
+        putOptionalProperties(json, level);
+
+        writeToFile(target, json.toString(2));
+    }
+
+    /**
+     * Adds the level properties that are only written when they differ from their defaults to a level's JSON object
+     *
+     * @param json JSON object of the level
+     * @param level level being written
+     */
+    private static void putOptionalProperties(JSONObject json, Level level) {
+        if (level.hasContinuousCollisions()) {
+            json.put("continuousCollisions", true);
+        }
+        if (level.hasSweptWallResolution()) {
+            json.put("sweptWallResolution", true);
+        }
+        if (!level.hasDefaultFieldSize()) {
+            json.put("fieldSize", new JSONObject()
+                    .put("width", level.getFieldWidth())
+                    .put("height", level.getFieldHeight()));
+        }
+    }
+
+    /**
+     * @param elements level elements of one type
+     * @return JSON array of the elements' positions and sizes
+     */
+    private static JSONArray elementsToJson(List<? extends LevelElement> elements) {
+        JSONArray json = new JSONArray();
+        for (LevelElement elem : elements) {
+            json.put(new JSONObject()
+                    .put("pos", positionToJson(elem.getPosition()))
+                    .put("width", elem.getWidth())
+                    .put("height", elem.getHeight()));
+        }
+        return json;
+    }
+
+    /**
+     * @param pos position
+     * @return JSON object of the position
+     */
+    private static JSONObject positionToJson(Position pos) {
+        return new JSONObject()
+                .put("posX", pos.getPosX())
+                .put("posY", pos.getPosY());
+    }
+
     /**
      * Writes a text string to the target file
      *
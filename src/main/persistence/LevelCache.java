@@ -0,0 +1,248 @@
+package persistence;
+
+import elem.Goal;
+import model.Level;
+import model.LevelTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+
+/**
+ * Represents a cache of parsed levels, keyed by namespace + numerical ID, holding at most a fixed number of levels
+ * <p>
+ * Levels are evicted least recently used first. Whenever a level is handed out, the levels its goals lead to are
+ * loaded in the background, so moving on to the next level does not wait on a level file being read. The cache
+ * holds each level as an immutable template and hands out new instances of it, so levels handed out can be played
+ * (and recoloured) without affecting the cache or each other, while sharing one copy of the level's geometry
+ * <p>
+ * A level is loaded from its binary level file (LevelFile.EXTENSION) if the level directory has one, and from its
+ * JSON level file otherwise
+ */
+public class LevelCache {
+    public static final int DEFAULT_CAPACITY = 16;
+
+    private final String levelDirectory;
+    private final Map<String, FutureTask<LevelTemplate>> levels;
+    private final ExecutorService prefetcher;
+    private long hits;
+    private long misses;
+
+    /**
+     * Creates an empty level cache loading levels from the given directory
+     *
+     * @param levelDirectory directory containing the level files
+     * @param capacity maximum number of levels kept in the cache (capacity > 0)
+     */
+    public LevelCache(String levelDirectory, int capacity) {
+        this.levelDirectory = levelDirectory;
+        // access-ordered, so the eldest entry is always the least recently used level
+        this.levels = new LinkedHashMap<String, FutureTask<LevelTemplate>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, FutureTask<LevelTemplate>> eldest) {
+                return size() > capacity;
+            }
+        };
+        this.prefetcher = Executors.newSingleThreadExecutor(task -> {
+            Thread thread = new Thread(task, "FRAMED level prefetcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.hits = 0;
+        this.misses = 0;
+    }
+
+    /**
+     * Gets a new instance of the level with the given namespace and level ID
+     *
+     * @param namespace the namespace of the level
+     * @param id the numerical ID of the level
+     * @return a new instance of the level
+     * @throws IOException if an I/O error occurs while loading the level
+     * @see #getTemplate(String, int)
+     */
+    public Level getLevel(String namespace, int id) throws IOException {
+        return getTemplate(namespace, id).instantiate();
+    }
+
+    /**
+     * Gets the template of the level with the given namespace and level ID, loading it from the level directory if
+     * it is not cached, and starts loading the levels its goals lead to in the background
+     * <p>
+     * If the level is still waiting to be loaded in the background, loads it on the calling thread instead of
+     * waiting behind other prefetched levels; if it is already being loaded, waits for it to finish loading
+     *
+     * @param namespace the namespace of the level
+     * @param id the numerical ID of the level
+     * @return the level's template
+     * @throws IOException if an I/O error occurs while loading the level
+     */
+    public LevelTemplate getTemplate(String namespace, int id) throws IOException {
+        FutureTask<LevelTemplate> task;
+        synchronized (this) {
+            task = this.levels.get(createKey(namespace, id));
+            if (task != null) {
+                this.hits++;
+            } else {
+                this.misses++;
+                task = addTask(namespace, id);
+            }
+        }
+        // does nothing if the task has already been started (or finished) by the prefetcher
+        task.run();
+        LevelTemplate template = awaitLevel(namespace, id, task);
+        prefetchNextLevels(template);
+        return template;
+    }
+
+    /**
+     * Starts loading the level with the given namespace and level ID in the background, if it is not cached
+     *
+     * @param namespace the namespace of the level
+     * @param id the numerical ID of the level
+     */
+    public synchronized void prefetch(String namespace, int id) {
+        if (!this.prefetcher.isShutdown() && !this.levels.containsKey(createKey(namespace, id))) {
+            this.prefetcher.execute(addTask(namespace, id));
+        }
+    }
+
+    /**
+     * Starts loading the levels the given level's goals lead to in the background
+     *
+     * @param template template of the level whose goals to follow
+     */
+    private void prefetchNextLevels(LevelTemplate template) {
+        for (Goal goal : template.getGoals()) {
+            prefetch(template.getNamespace(), goal.getNextLevelID());
+        }
+    }
+
+    /**
+     * Adds a task loading the given level to the cache, without running it
+     *
+     * @param namespace the namespace of the level
+     * @param id the numerical ID of the level
+     * @return the task added
+     */
+    private FutureTask<LevelTemplate> addTask(String namespace, int id) {
+        FutureTask<LevelTemplate> task = new FutureTask<>(
+                () -> new LevelTemplate(readLevel(this.levelDirectory, namespace, id)));
+        this.levels.put(createKey(namespace, id), task);
+        return task;
+    }
+
+    /**
+     * Waits for a level to finish loading, removing it from the cache if it failed to load so it can be retried
+     *
+     * @param namespace the namespace of the level
+     * @param id the numerical ID of the level
+     * @param task task loading the level
+     * @return the cached level's template
+     * @throws IOException if an I/O error occurred while loading the level, the cache was closed before the level
+     *                     was loaded, or the wait was interrupted
+     */
+    private LevelTemplate awaitLevel(String namespace, int id, FutureTask<LevelTemplate> task) throws IOException {
+        try {
+            return task.get();
+        } catch (ExecutionException e) {
+            synchronized (this) {
+                this.levels.remove(createKey(namespace, id), task);
+            }
+            if (e.getCause() instanceof IOException) {
+                throw (IOException) e.getCause();
+            }
+            throw new IOException(e.getCause());
+        } catch (CancellationException e) {
+            throw new IOException("Level cache closed before " + createKey(namespace, id) + " was loaded");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Reads the level with the given namespace and level ID from the given directory, from its binary level file if
+     * there is one, and from its JSON level file otherwise
+     *
+     * @param levelDirectory directory containing the level files
+     * @param namespace the namespace of the level
+     * @param id the numerical ID of the level
+     * @return the level read
+     * @throws IOException if an I/O error occurs while reading the level
+     */
+    public static Level readLevel(String levelDirectory, String namespace, int id) throws IOException {
+        File binaryFile = new File(createTarget(levelDirectory, namespace, id, LevelFile.EXTENSION));
+        if (binaryFile.isFile()) {
+            return LevelFile.readLevel(binaryFile.getPath());
+        }
+        return LevelReader.readLevel(createTarget(levelDirectory, namespace, id, LevelConverter.JSON_EXTENSION));
+    }
+
+    /**
+     * @param namespace the namespace of a level
+     * @param id the numerical ID of a level
+     * @return the level's key in the cache
+     */
+    private static String createKey(String namespace, int id) {
+        return namespace + "Level" + id;
+    }
+
+    /**
+     * @param levelDirectory directory containing the level files
+     * @param namespace the namespace of a level
+     * @param id the numerical ID of a level
+     * @param extension extension of the level file (including the dot)
+     * @return the destination of the level's file with the given extension
+     */
+    private static String createTarget(String levelDirectory, String namespace, int id, String extension) {
+        return levelDirectory + createKey(namespace, id) + extension;
+    }
+
+    /**
+     * @param namespace the namespace of a level
+     * @param id the numerical ID of a level
+     * @return true if the level is cached (or is being loaded in the background), false otherwise
+     */
+    public synchronized boolean isCached(String namespace, int id) {
+        return this.levels.containsKey(createKey(namespace, id));
+    }
+
+    /**
+     * Stops loading levels in the background, dropping the levels that have not started loading yet; levels already
+     * cached can still be gotten
+     */
+    public synchronized void close() {
+        for (Runnable task : this.prefetcher.shutdownNow()) {
+            ((FutureTask<?>) task).cancel(false);
+            this.levels.values().remove(task);
+        }
+    }
+
+    /**
+     * @return the number of levels currently cached
+     */
+    public synchronized int getSize() {
+        return this.levels.size();
+    }
+
+    /**
+     * @return the number of times a requested level was already cached
+     */
+    public synchronized long getHits() {
+        return this.hits;
+    }
+
+    /**
+     * @return the number of times a requested level had to be loaded
+     */
+    public synchronized long getMisses() {
+        return this.misses;
+    }
+}
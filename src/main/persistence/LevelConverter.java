@@ -0,0 +1,95 @@
+package persistence;
+
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+
+/** (static)
+ * Represents a static utility class for converting FRAMED level files between the JSON level format and the binary
+ * level format
+ * <p>
+ * Can be run on its own: with a source and target file, converts the source into the format given by the target's
+ * extension (.json or LevelFile.EXTENSION); with a directory, converts every JSON level file in it into a binary
+ * level file of the same name
+ *
+ * @see LevelFile
+ */
+public class LevelConverter {
+    public static final String JSON_EXTENSION = ".json";
+
+    /**
+     * Converts level files from the command line
+     *
+     * @param args source + target files, or a directory of JSON level files
+     * @throws IOException if an I/O error occurs, or a source file is not a valid level file
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length == 2) {
+            convert(args[0], args[1]);
+        } else if (args.length == 1) {
+            System.out.println("Converted " + convertDirectory(args[0]) + " level files");
+        } else {
+            System.out.println("Usage: LevelConverter <source> <target> | LevelConverter <directory>");
+        }
+    }
+
+    /**
+     * Converts the source level file into the format given by the target's extension
+     *
+     * @param source the destination of the level file to be converted (in either format)
+     * @param target target destination to write the converted level to
+     * @throws IOException if an I/O error occurs, the source is not a valid level file, or the target's extension
+     *                     is neither .json nor LevelFile.EXTENSION
+     */
+    public static void convert(String source, String target) throws IOException {
+        if (target.endsWith(LevelFile.EXTENSION)) {
+            jsonToBinary(source, target);
+        } else if (target.endsWith(JSON_EXTENSION)) {
+            binaryToJson(source, target);
+        } else {
+            throw new IOException("Unknown level file extension: " + target);
+        }
+    }
+
+    /**
+     * Converts a JSON level file into a binary level file
+     *
+     * @param source the destination of the JSON level file to be converted
+     * @param target target destination to write the binary level file to
+     * @throws IOException if an I/O error occurs, or the source is not a valid JSON level file
+     */
+    public static void jsonToBinary(String source, String target) throws IOException {
+        LevelFile.writeLevel(target, LevelReader.readLevel(source));
+    }
+
+    /**
+     * Converts a binary level file into a JSON level file
+     *
+     * @param source the destination of the binary level file to be converted
+     * @param target target destination to write the JSON level file to
+     * @throws IOException if an I/O error occurs, or the source is not a valid binary level file
+     */
+    public static void binaryToJson(String source, String target) throws IOException {
+        JsonWriter.writeLevel(target, LevelFile.readLevel(source));
+    }
+
+    /**
+     * Converts every JSON level file in the directory into a binary level file next to it
+     *
+     * @param directory directory containing the JSON level files
+     * @return the number of level files converted
+     * @throws IOException if an I/O error occurs, or a JSON file in the directory is not a valid level file
+     */
+    public static int convertDirectory(String directory) throws IOException {
+        File[] files = new File(directory).listFiles((dir, name) -> name.endsWith(JSON_EXTENSION));
+        if (files == null) {
+            throw new FileNotFoundException(directory + " (Not a directory)");
+        }
+        for (File file : files) {
+            String source = file.getPath();
+            jsonToBinary(source, source.substring(0, source.length() - JSON_EXTENSION.length())
+                    + LevelFile.EXTENSION);
+        }
+        return files.length;
+    }
+}
@@ -0,0 +1,384 @@
+package persistence;
+
+import elem.Goal;
+import elem.LevelElement;
+import elem.Obstacle;
+import elem.Wall;
+import model.Level;
+import model.Simulation;
+import util.Position;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/** (static)
+ * Represents a static utility class for reading and writing FRAMED levels in the compact binary level format
+ * <p>
+ * A binary level file (big-endian) starts with a fixed header: magic number, format version, flags
+ * (CONTINUOUS_COLLISIONS, INT_POSITIONS, FIELD_SIZE, SWEPT_WALL_RESOLUTION), namespace (unsigned short length + UTF-8
+ * bytes), numerical ID, spawn x + y positions (doubles), initial frame rate (float), the playing field's width +
+ * height (ints, only if the FIELD_SIZE flag is set), and the number of obstacles, walls, and goals (ints). The
+ * elements follow, one type at a time (obstacles, walls, goals), as packed arrays: all x positions, all y positions,
+ * all widths (ints), all heights (ints), and, for goals only, all next level IDs (ints)
+ * <p>
+ * Element positions are stored as ints if every element of the level sits on whole-number coordinates (as in all
+ * hand-made levels), and as doubles otherwise
+ * <p>
+ * Levels read this way are identical to levels parsed by JsonParser.jsonToLevel from the equivalent JSON level file
+ *
+ * @see LevelConverter
+ */
+public class LevelFile {
+    public static final int MAGIC = 0x46524C56; // "FRLV"
+    public static final int FORMAT_VERSION = 1;
+    public static final String EXTENSION = ".frl";
+
+    public static final int CONTINUOUS_COLLISIONS = 1;
+    public static final int INT_POSITIONS = 2;
+    public static final int FIELD_SIZE = 4;
+    public static final int SWEPT_WALL_RESOLUTION = 8;
+
+    private static final int MIN_ELEMENT_BYTES = 4 * Integer.BYTES; // x, y, width, height
+
+    /**
+     * Reads a level from the binary level file at the target destination
+     *
+     * @param target the destination of the level file to be read
+     * @return the level read from the file
+     * @throws IOException if an I/O error occurs, or the file is not a valid binary level file
+     */
+    public static Level readLevel(String target) throws IOException {
+        return readLevel(JsonReader.readBytes(target));
+    }
+
+    /**
+     * Reads a level from the remaining contents of the given buffer
+     *
+     * @param buffer buffer holding a binary level file (its byte order is set to big-endian)
+     * @return the level read
+     * @throws IOException if the buffer does not hold a valid binary level file
+     */
+    public static Level readLevel(ByteBuffer buffer) throws IOException {
+        try {
+            return readContents(buffer);
+        } catch (BufferUnderflowException e) {
+            throw new IOException("Binary level file is truncated");
+        }
+    }
+
+    /**
+     * Reads the header and elements of a binary level file
+     *
+     * @param buffer buffer holding a binary level file
+     * @return the level read
+     * @throws IOException if the header is invalid
+     * @throws BufferUnderflowException if the file is truncated
+     */
+    private static Level readContents(ByteBuffer buffer) throws IOException {
+        checkFormat(buffer);
+        int flags = buffer.get();
+        byte[] namespace = new byte[buffer.getShort() & 0xFFFF];
+        buffer.get(namespace);
+        int id = buffer.getInt();
+        Position spawn = new Position(buffer.getDouble(), buffer.getDouble());
+        float initialFrameRate = buffer.getFloat();
+        int[] fieldSize = (flags & FIELD_SIZE) != 0 ? new int[]{buffer.getInt(), buffer.getInt()}
+                : new int[]{Simulation.PLAYFIELD_WIDTH, Simulation.PLAYFIELD_HEIGHT};
+        int[] counts = {readCount(buffer), readCount(buffer), readCount(buffer)};
+        if ((long) counts[0] + counts[1] + counts[2] > buffer.remaining() / MIN_ELEMENT_BYTES) {
+            throw new BufferUnderflowException();
+        }
+
+        List<LevelElement> elements = new ArrayList<>(counts[0] + counts[1] + counts[2]);
+        readObstacles(buffer, counts[0], flags, elements);
+        readWalls(buffer, counts[1], flags, elements);
+        readGoals(buffer, counts[2], flags, elements);
+        Level level = new Level(new String(namespace, UTF_8), id, spawn, initialFrameRate, elements);
+        level.setFieldSize(fieldSize[0], fieldSize[1]);
+        level.setContinuousCollisions((flags & CONTINUOUS_COLLISIONS) != 0);
+        level.setSweptWallResolution((flags & SWEPT_WALL_RESOLUTION) != 0);
+        return level;
+    }
+
+    /**
+     * Checks the magic number and format version at the start of a binary level file
+     *
+     * @param buffer buffer holding a binary level file
+     * @throws IOException if the buffer does not hold a binary level file, or its format version is unsupported
+     * @throws BufferUnderflowException if the file is truncated
+     */
+    private static void checkFormat(ByteBuffer buffer) throws IOException {
+        buffer.order(ByteOrder.BIG_ENDIAN);
+        if (buffer.getInt() != MAGIC) {
+            throw new IOException("Not a binary level file");
+        } else if ((buffer.get() & 0xFF) != FORMAT_VERSION) {
+            throw new IOException("Unsupported binary level file version");
+        }
+    }
+
+    /**
+     * @param buffer buffer positioned at an element count
+     * @return the element count read
+     * @throws IOException if the count is negative
+     */
+    private static int readCount(ByteBuffer buffer) throws IOException {
+        int count = buffer.getInt();
+        if (count < 0) {
+            throw new IOException("Negative element count: " + count);
+        }
+        return count;
+    }
+
+    /**
+     * Reads a packed array of obstacles and adds them to the given elements
+     *
+     * @param buffer buffer positioned at the obstacles
+     * @param count number of obstacles
+     * @param flags flags from the file's header
+     * @param elements list to add the obstacles to
+     */
+    private static void readObstacles(ByteBuffer buffer, int count, int flags, List<LevelElement> elements) {
+        double[] posX = readPositions(buffer, count, flags);
+        double[] posY = readPositions(buffer, count, flags);
+        int[] width = readInts(buffer, count);
+        int[] height = readInts(buffer, count);
+        for (int i = 0; i < count; i++) {
+            elements.add(new Obstacle(new Position(posX[i], posY[i]), width[i], height[i]));
+        }
+    }
+
+    /**
+     * Reads a packed array of walls and adds them to the given elements
+     *
+     * @param buffer buffer positioned at the walls
+     * @param count number of walls
+     * @param flags flags from the file's header
+     * @param elements list to add the walls to
+     */
+    private static void readWalls(ByteBuffer buffer, int count, int flags, List<LevelElement> elements) {
+        double[] posX = readPositions(buffer, count, flags);
+        double[] posY = readPositions(buffer, count, flags);
+        int[] width = readInts(buffer, count);
+        int[] height = readInts(buffer, count);
+        for (int i = 0; i < count; i++) {
+            elements.add(new Wall(new Position(posX[i], posY[i]), width[i], height[i]));
+        }
+    }
+
+    /**
+     * Reads a packed array of goals and adds them to the given elements
+     *
+     * @param buffer buffer positioned at the goals
+     * @param count number of goals
+     * @param flags flags from the file's header
+     * @param elements list to add the goals to
+     */
+    private static void readGoals(ByteBuffer buffer, int count, int flags, List<LevelElement> elements) {
+        double[] posX = readPositions(buffer, count, flags);
+        double[] posY = readPositions(buffer, count, flags);
+        int[] width = readInts(buffer, count);
+        int[] height = readInts(buffer, count);
+        int[] nextLevelID = readInts(buffer, count);
+        for (int i = 0; i < count; i++) {
+            elements.add(new Goal(new Position(posX[i], posY[i]), width[i], height[i], nextLevelID[i]));
+        }
+    }
+
+    /**
+     * Reads a packed array of element positions along one axis
+     *
+     * @param buffer buffer positioned at the array
+     * @param count number of positions in the array
+     * @param flags flags from the file's header
+     * @return the positions read
+     * @throws BufferUnderflowException if the buffer holds fewer than count positions
+     */
+    private static double[] readPositions(ByteBuffer buffer, int count, int flags) {
+        if ((flags & INT_POSITIONS) == 0) {
+            return readDoubles(buffer, count);
+        }
+        int[] intPositions = readInts(buffer, count);
+        double[] positions = new double[count];
+        for (int i = 0; i < count; i++) {
+            positions[i] = intPositions[i];
+        }
+        return positions;
+    }
+
+    /**
+     * Bulk-reads a packed array of doubles, advancing the buffer past it
+     *
+     * @param buffer buffer positioned at the array
+     * @param count number of doubles in the array
+     * @return the doubles read
+     * @throws BufferUnderflowException if the buffer holds fewer than count doubles
+     */
+    private static double[] readDoubles(ByteBuffer buffer, int count) {
+        if (buffer.remaining() / Double.BYTES < count) {
+            throw new BufferUnderflowException();
+        }
+        double[] values = new double[count];
+        buffer.asDoubleBuffer().get(values);
+        buffer.position(buffer.position() + count * Double.BYTES);
+        return values;
+    }
+
+    /**
+     * Bulk-reads a packed array of ints, advancing the buffer past it
+     *
+     * @param buffer buffer positioned at the array
+     * @param count number of ints in the array
+     * @return the ints read
+     * @throws BufferUnderflowException if the buffer holds fewer than count ints
+     */
+    private static int[] readInts(ByteBuffer buffer, int count) {
+        if (buffer.remaining() / Integer.BYTES < count) {
+            throw new BufferUnderflowException();
+        }
+        int[] values = new int[count];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + count * Integer.BYTES);
+        return values;
+    }
+
+    /**
+     * Writes a level to the target destination as a binary level file
+     *
+     * @param target target destination to write the level to
+     * @param level level to write
+     * @throws IOException if an I/O error occurs, or the level's namespace is too long
+     */
+    public static void writeLevel(String target, Level level) throws IOException {
+        try (OutputStream out = new FileOutputStream(target)) {
+            writeLevel(out, level);
+        }
+    }
+
+    /**
+     * Writes a level to the given stream as a binary level file
+     *
+     * @param out stream to write the level to (flushed, but not closed)
+     * @param level level to write
+     * @throws IOException if an I/O error occurs, or the level's namespace is too long
+     */
+    public static void writeLevel(OutputStream out, Level level) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        boolean intPositions = hasIntPositions(level);
+        writeHeader(data, level, intPositions);
+        writeElements(data, level.getObstacles(), intPositions);
+        writeElements(data, level.getWalls(), intPositions);
+        writeElements(data, level.getGoals(), intPositions);
+        for (Goal goal : level.getGoals()) {
+            data.writeInt(goal.getNextLevelID());
+        }
+        data.flush();
+    }
+
+    /**
+     * @param level level to check
+     * @return true if every element of the level sits on whole-number coordinates that fit in an int, false
+     *         otherwise
+     */
+    private static boolean hasIntPositions(Level level) {
+        return hasIntPositions(level.getObstacles()) && hasIntPositions(level.getWalls())
+                && hasIntPositions(level.getGoals());
+    }
+
+    /**
+     * @param elements elements to check
+     * @return true if every element sits on whole-number coordinates that fit in an int, false otherwise
+     */
+    private static boolean hasIntPositions(List<? extends LevelElement> elements) {
+        for (LevelElement elem : elements) {
+            double posX = elem.getPosition().getPosX();
+            double posY = elem.getPosition().getPosY();
+            // compare bits, so -0.0 is kept as a double
+            if (Double.doubleToLongBits((int) posX) != Double.doubleToLongBits(posX)
+                    || Double.doubleToLongBits((int) posY) != Double.doubleToLongBits(posY)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the fixed header of a binary level file
+     *
+     * @param data output to write to
+     * @param level level to write the header of
+     * @param intPositions true if the level's element positions are written as ints, false otherwise
+     * @throws IOException if an I/O error occurs, or the level's namespace is too long
+     */
+    private static void writeHeader(DataOutputStream data, Level level, boolean intPositions) throws IOException {
+        byte[] namespace = level.getNamespace().getBytes(UTF_8);
+        if (namespace.length > 0xFFFF) {
+            throw new IOException("Namespace is too long: " + namespace.length + " bytes");
+        }
+        data.writeInt(MAGIC);
+        data.writeByte(FORMAT_VERSION);
+        data.writeByte((level.hasContinuousCollisions() ? CONTINUOUS_COLLISIONS : 0)
+                | (intPositions ? INT_POSITIONS : 0) | (level.hasDefaultFieldSize() ? 0 : FIELD_SIZE)
+                | (level.hasSweptWallResolution() ? SWEPT_WALL_RESOLUTION : 0));
+        data.writeShort(namespace.length);
+        data.write(namespace);
+        data.writeInt(level.getID());
+        data.writeDouble(level.getSpawn().getPosX());
+        data.writeDouble(level.getSpawn().getPosY());
+        data.writeFloat(level.getInitialFrameRate());
+        if (!level.hasDefaultFieldSize()) {
+            data.writeInt(level.getFieldWidth());
+            data.writeInt(level.getFieldHeight());
+        }
+        data.writeInt(level.getObstacles().size());
+        data.writeInt(level.getWalls().size());
+        data.writeInt(level.getGoals().size());
+    }
+
+    /**
+     * Writes the packed x position, y position, width, and height arrays of one type of element
+     *
+     * @param data output to write to
+     * @param elements elements of one type, in level order
+     * @param intPositions true to write the elements' positions as ints, false to write them as doubles
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeElements(DataOutputStream data, List<? extends LevelElement> elements,
+                                      boolean intPositions) throws IOException {
+        for (LevelElement elem : elements) {
+            writePosition(data, elem.getPosition().getPosX(), intPositions);
+        }
+        for (LevelElement elem : elements) {
+            writePosition(data, elem.getPosition().getPosY(), intPositions);
+        }
+        for (LevelElement elem : elements) {
+            data.writeInt(elem.getWidth());
+        }
+        for (LevelElement elem : elements) {
+            data.writeInt(elem.getHeight());
+        }
+    }
+
+    /**
+     * @param data output to write to
+     * @param pos position along one axis
+     * @param intPositions true to write the position as an int, false to write it as a double
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writePosition(DataOutputStream data, double pos, boolean intPositions) throws IOException {
+        if (intPositions) {
+            data.writeInt((int) pos);
+        } else {
+            data.writeDouble(pos);
+        }
+    }
+}
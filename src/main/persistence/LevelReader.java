@@ -0,0 +1,320 @@
+package persistence;
+
+import elem.Goal;
+import elem.LevelElement;
+import elem.Obstacle;
+import elem.Wall;
+import model.Level;
+import model.Simulation;
+import util.Position;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.channels.Channels;
+import java.util.ArrayList;
+import java.util.List;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/** (static)
+ * Represents a static utility class for reading FRAMED levels straight from level files, in a single streaming
+ * pass that builds the level's elements as they are read instead of building a JSON object tree first
+ * <p>
+ * Levels read this way are identical to levels parsed by JsonParser.jsonToLevel: elements are added obstacles
+ * first, then walls, then goals, regardless of the order they appear in the file
+ */
+public class LevelReader {
+    private static final int OBSTACLE = 0;
+    private static final int WALL = 1;
+    private static final int GOAL = 2;
+
+    // property names are matched by their index in these arrays
+    private static final String[] LEVEL_PROPERTIES = {"metadata", "initialFrameRate", "spawn", "obstacles", "walls",
+            "goals", "continuousCollisions", "fieldSize", "sweptWallResolution"};
+    private static final String[] METADATA_PROPERTIES = {"namespace", "id"};
+    private static final String[] POSITION_PROPERTIES = {"posX", "posY"};
+    private static final String[] ELEMENT_PROPERTIES = {"pos", "width", "height", "nextLevelID"};
+    private static final String[] FIELD_SIZE_PROPERTIES = {"width", "height"};
+
+    private static final int POS = 1;
+    private static final int WIDTH = 2;
+    private static final int HEIGHT = 4;
+    private static final int NEXT_LEVEL_ID = 8;
+
+    /**
+     * Reads a level from the level file at the target destination
+     *
+     * @param target the destination of the level file to be read
+     * @return the level read from the file
+     * @throws IOException if an I/O error occurs, or the file is not a valid level file
+     */
+    public static Level readLevel(String target) throws IOException {
+        Reader reader = Channels.newReader(JsonReader.openChannel(target), UTF_8.newDecoder(), -1);
+        try (JsonStreamReader json = new JsonStreamReader(reader)) {
+            return readLevel(json);
+        }
+    }
+
+    /**
+     * Reads a level from the given JSON reader
+     *
+     * @param json JSON reader positioned at the start of a level object
+     * @return the level read
+     * @throws IOException if an I/O error occurs, or the level object is not a valid level
+     */
+    public static Level readLevel(JsonStreamReader json) throws IOException {
+        PartialLevel level = new PartialLevel();
+        json.beginObject();
+        while (json.hasNext()) {
+            readLevelProperty(json, json.selectName(LEVEL_PROPERTIES), level);
+        }
+        json.endObject();
+        return level.toLevel();
+    }
+
+    /**
+     * Reads the value of one of a level object's properties into the partially read level
+     *
+     * @param json JSON reader positioned at the property's value
+     * @param property index of the property in LEVEL_PROPERTIES, or -1 if it is not a level property
+     * @param level partially read level
+     * @throws IOException if an I/O error occurs, or the value is malformed
+     */
+    private static void readLevelProperty(JsonStreamReader json, int property, PartialLevel level)
+            throws IOException {
+        switch (property) {
+            case 0:
+                readMetadata(json, level);
+                break;
+            case 1:
+                level.initialFrameRate = (float) json.nextDouble();
+                break;
+            case 2:
+                level.spawn = readPosition(json);
+                break;
+            case 3:
+                level.obstacles = readElements(json, OBSTACLE);
+                break;
+            case 4:
+                level.walls = readElements(json, WALL);
+                break;
+            case 5:
+                level.goals = readElements(json, GOAL);
+                break;
+            case 6:
+                level.continuousCollisions = json.nextBoolean();
+                break;
+            case 7:
+                readFieldSize(json, level);
+                break;
+            case 8:
+                level.sweptWallResolution = json.nextBoolean();
+                break;
+            default:
+                json.skipValue();
+        }
+    }
+
+    /**
+     * Reads a level's metadata object (namespace + numerical ID) into the partially read level
+     *
+     * @param json JSON reader positioned at the start of the metadata object
+     * @param level partially read level
+     * @throws IOException if an I/O error occurs, or the metadata object is malformed
+     */
+    private static void readMetadata(JsonStreamReader json, PartialLevel level) throws IOException {
+        json.beginObject();
+        while (json.hasNext()) {
+            int property = json.selectName(METADATA_PROPERTIES);
+            if (property == 0) {
+                level.namespace = json.nextString();
+            } else if (property == 1) {
+                level.id = json.nextInt();
+                level.hasID = true;
+            } else {
+                json.skipValue();
+            }
+        }
+        json.endObject();
+    }
+
+    /**
+     * Reads a level's playing field size object (width + height) into the partially read level
+     *
+     * @param json JSON reader positioned at the start of the field size object
+     * @param level partially read level
+     * @throws IOException if an I/O error occurs, or the field size object is malformed
+     */
+    private static void readFieldSize(JsonStreamReader json, PartialLevel level) throws IOException {
+        json.beginObject();
+        while (json.hasNext()) {
+            int property = json.selectName(FIELD_SIZE_PROPERTIES);
+            if (property == 0) {
+                level.fieldWidth = json.nextInt();
+            } else if (property == 1) {
+                level.fieldHeight = json.nextInt();
+            } else {
+                json.skipValue();
+            }
+        }
+        json.endObject();
+    }
+
+    /**
+     * Reads a position object
+     *
+     * @param json JSON reader positioned at the start of the position object
+     * @return the position read
+     * @throws IOException if an I/O error occurs, or the position object is malformed or incomplete
+     */
+    private static Position readPosition(JsonStreamReader json) throws IOException {
+        double posX = Double.NaN;
+        double posY = Double.NaN;
+        json.beginObject();
+        while (json.hasNext()) {
+            int property = json.selectName(POSITION_PROPERTIES);
+            if (property == 0) {
+                posX = json.nextDouble();
+            } else if (property == 1) {
+                posY = json.nextDouble();
+            } else {
+                json.skipValue();
+            }
+        }
+        json.endObject();
+        if (Double.isNaN(posX) || Double.isNaN(posY)) {
+            throw new IOException("Position is missing posX or posY");
+        }
+        return new Position(posX, posY);
+    }
+
+    /**
+     * Reads an array of level elements of one type
+     *
+     * @param json JSON reader positioned at the start of the array
+     * @param type OBSTACLE, WALL, or GOAL
+     * @return the elements read, in array order
+     * @throws IOException if an I/O error occurs, or an element is malformed or incomplete
+     */
+    private static List<LevelElement> readElements(JsonStreamReader json, int type) throws IOException {
+        List<LevelElement> elements = new ArrayList<>();
+        json.beginArray();
+        while (json.hasNext()) {
+            elements.add(readElement(json, type));
+        }
+        json.endArray();
+        return elements;
+    }
+
+    /**
+     * Reads a level element object
+     *
+     * @param json JSON reader positioned at the start of the element object
+     * @param type OBSTACLE, WALL, or GOAL
+     * @return the element read
+     * @throws IOException if an I/O error occurs, or the element object is malformed or incomplete
+     */
+    private static LevelElement readElement(JsonStreamReader json, int type) throws IOException {
+        Position pos = null;
+        int[] values = new int[3]; // width, height, nextLevelID
+        int found = 0;
+        json.beginObject();
+        while (json.hasNext()) {
+            int property = readElementProperty(json, json.selectName(ELEMENT_PROPERTIES), values);
+            if (property == POS) {
+                pos = readPosition(json);
+            }
+            found |= property;
+        }
+        json.endObject();
+        int required = type == GOAL ? POS | WIDTH | HEIGHT | NEXT_LEVEL_ID : POS | WIDTH | HEIGHT;
+        if ((found & required) != required) {
+            throw new IOException("Level element is missing pos, width, height, or nextLevelID");
+        }
+        return createElement(type, pos, values);
+    }
+
+    /**
+     * Reads the value of one of a level element's number properties, leaving the pos property to the caller
+     *
+     * @param json JSON reader positioned at the property's value
+     * @param property index of the property in ELEMENT_PROPERTIES, or -1 if it is not an element property
+     * @param values width, height, and next level ID read so far
+     * @return the flag of the property found (POS, WIDTH, HEIGHT, or NEXT_LEVEL_ID), or 0 if it is not an element
+     *         property
+     * @throws IOException if an I/O error occurs, or the value is malformed
+     */
+    private static int readElementProperty(JsonStreamReader json, int property, int[] values) throws IOException {
+        switch (property) {
+            case 0:
+                return POS;
+            case 1:
+                values[0] = json.nextInt();
+                return WIDTH;
+            case 2:
+                values[1] = json.nextInt();
+                return HEIGHT;
+            case 3:
+                values[2] = json.nextInt();
+                return NEXT_LEVEL_ID;
+            default:
+                json.skipValue();
+                return 0;
+        }
+    }
+
+    /**
+     * @param type OBSTACLE, WALL, or GOAL
+     * @param pos element position
+     * @param values element width, height, and next level ID
+     * @return the new level element
+     */
+    private static LevelElement createElement(int type, Position pos, int[] values) {
+        if (type == OBSTACLE) {
+            return new Obstacle(pos, values[0], values[1]);
+        } else if (type == WALL) {
+            return new Wall(pos, values[0], values[1]);
+        }
+        return new Goal(pos, values[0], values[1], values[2]);
+    }
+
+    /**
+     * Represents the properties of a level read so far
+     */
+    private static class PartialLevel {
+        private String namespace;
+        private int id;
+        private boolean hasID;
+        private Position spawn;
+        private float initialFrameRate = Float.NaN;
+        private List<LevelElement> obstacles;
+        private List<LevelElement> walls;
+        private List<LevelElement> goals;
+        private boolean continuousCollisions;
+        private boolean sweptWallResolution;
+        private int fieldWidth = Simulation.PLAYFIELD_WIDTH;
+        private int fieldHeight = Simulation.PLAYFIELD_HEIGHT;
+
+        /**
+         * @return the level made of the properties read
+         * @throws IOException if a required property is missing
+         */
+        private Level toLevel() throws IOException {
+            if (this.namespace == null || !this.hasID || this.spawn == null || Float.isNaN(this.initialFrameRate)
+                    || this.obstacles == null || this.walls == null || this.goals == null) {
+                throw new IOException("Level is missing metadata, spawn, initialFrameRate, obstacles, walls, "
+                        + "or goals");
+            }
+            List<LevelElement> elements = new ArrayList<>(this.obstacles.size() + this.walls.size()
+                    + this.goals.size());
+            elements.addAll(this.obstacles);
+            elements.addAll(this.walls);
+            elements.addAll(this.goals);
+            Level level = new Level(this.namespace, this.id, this.spawn, this.initialFrameRate, elements);
+            level.setFieldSize(this.fieldWidth, this.fieldHeight);
+            level.setContinuousCollisions(this.continuousCollisions);
+            level.setSweptWallResolution(this.sweptWallResolution);
+            return level;
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package ui;
+
+import model.Level;
+
+import java.awt.*;
+
+/**
+ * Represents everything a frame of FRAMED shows, captured by the game loop and handed to the renderer as a whole:
+ * the level + camera position (which determine the visible elements), where the player is rendered, the status row
+ * text, and the colour generation (the number of colour changes made before the frame was captured)
+ * <p>
+ * Snapshots are immutable, so the renderer can draw one on any thread while the game loop keeps changing the
+ * simulation; a frame's level must not be modified while it is being played (level instances made from templates
+ * cannot be)
+ * <p>
+ * Colour changes are made on the event dispatch thread, so the renderer never drops what it has pre-rendered when
+ * they happen; it compares each frame's colour generation against the one it pre-rendered with instead
+ */
+public class FrameSnapshot {
+    private final Level level;
+    private final int cameraX;
+    private final int cameraY;
+    private final int playerX;
+    private final int playerY;
+    private final int playerSize;
+    private final Color playerCol;
+    private final String levelDisplay;
+    private final float frameRate;
+    private final int colourGeneration;
+
+    /**
+     * Creates a snapshot of a frame
+     *
+     * @param level level shown
+     * @param cameraX x coordinate of the camera's left edge on the playing field
+     * @param cameraY y coordinate of the camera's top edge on the playing field
+     * @param playerBounds region of the frame the player is rendered in
+     * @param playerCol colour of the player
+     * @param levelDisplay level display shown in the status row
+     * @param frameRate frame rate shown in the status row
+     * @param colourGeneration number of colour changes made before the frame was captured
+     */
+    public FrameSnapshot(Level level, int cameraX, int cameraY, Rectangle playerBounds, Color playerCol,
+                         String levelDisplay, float frameRate, int colourGeneration) {
+        this.level = level;
+        this.cameraX = cameraX;
+        this.cameraY = cameraY;
+        this.playerX = playerBounds.x;
+        this.playerY = playerBounds.y;
+        this.playerSize = playerBounds.width;
+        this.playerCol = playerCol;
+        this.levelDisplay = levelDisplay;
+        this.frameRate = frameRate;
+        this.colourGeneration = colourGeneration;
+    }
+
+    /**
+     * @param levelDisplay level display shown in the status row
+     * @param frameRate frame rate shown in the status row
+     * @param colourGeneration number of colour changes made before the status row text was captured
+     * @return a snapshot of the same frame with the given status row text + colour generation
+     */
+    public FrameSnapshot withStatus(String levelDisplay, float frameRate, int colourGeneration) {
+        return new FrameSnapshot(this.level, this.cameraX, this.cameraY, getPlayerBounds(), this.playerCol,
+                levelDisplay, frameRate, colourGeneration);
+    }
+
+    /**
+     * @param other snapshot to compare against (may be null)
+     * @return true if both snapshots show the same level through the same camera position in the same colours, false
+     *         otherwise
+     */
+    public boolean hasSameView(FrameSnapshot other) {
+        return other != null && this.level == other.level && this.cameraX == other.cameraX
+                && this.cameraY == other.cameraY && this.colourGeneration == other.colourGeneration;
+    }
+
+    /**
+     * @return level shown
+     */
+    public Level getLevel() {
+        return this.level;
+    }
+
+    /**
+     * @return x coordinate of the camera's left edge on the playing field
+     */
+    public int getCameraX() {
+        return this.cameraX;
+    }
+
+    /**
+     * @return y coordinate of the camera's top edge on the playing field
+     */
+    public int getCameraY() {
+        return this.cameraY;
+    }
+
+    /**
+     * @return a new rectangle covering the region of the frame the player is rendered in
+     */
+    public Rectangle getPlayerBounds() {
+        return new Rectangle(this.playerX, this.playerY, this.playerSize, this.playerSize);
+    }
+
+    /**
+     * @return colour of the player
+     */
+    public Color getPlayerCol() {
+        return this.playerCol;
+    }
+
+    /**
+     * @return level display shown in the status row
+     */
+    public String getLevelDisplay() {
+        return this.levelDisplay;
+    }
+
+    /**
+     * @return frame rate shown in the status row
+     */
+    public float getFrameRate() {
+        return this.frameRate;
+    }
+
+    /**
+     * @return number of colour changes made before the frame was captured
+     */
+    public int getColourGeneration() {
+        return this.colourGeneration;
+    }
+}
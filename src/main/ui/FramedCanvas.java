@@ -0,0 +1,90 @@
+package ui;
+
+import javax.swing.*;
+import java.awt.*;
+import java.awt.image.BufferStrategy;
+
+/**
+ * Represents the canvas FRAMED renders its playing field + status row onto when rendering actively: frames are drawn
+ * and presented by the game loop as soon as they are due, through a page-flipping buffer strategy, instead of waiting
+ * for Swing to repaint the frame
+ * <p>
+ * The canvas sits behind the FRAMED menus, which Swing keeps painting on top of it. Frames are presented either by the
+ * game loop or by the render thread (see RenderThread); presents are serialized, so only one thread at a time draws
+ * into the buffers and the rendering engine's pre-rendered layers
+ */
+public class FramedCanvas extends Canvas {
+    public static final int BUFFER_COUNT = 2;
+    private static final long serialVersionUID = 1L;
+
+    private final FramedGame framed;
+    private final FramedRenderEngine framedRenderer;
+    private BufferStrategy strategy;
+
+    /**
+     * Creates a canvas covering the given FRAMED instance's window
+     *
+     * @param framed active FRAMED instance
+     * @param framedRenderer rendering engine to draw frames with
+     */
+    public FramedCanvas(FramedGame framed, FramedRenderEngine framedRenderer) {
+        this.framed = framed;
+        this.framedRenderer = framedRenderer;
+        setBounds(0, 0, FramedGame.SCREEN_WIDTH, FramedGame.SCREEN_HEIGHT);
+        // frames are only ever drawn by present; keys go to the FRAMED window
+        setIgnoreRepaint(true);
+        setFocusable(false);
+    }
+
+    /**
+     * Draws a full frame of the playing field + status row and presents it, redrawing it if the buffers' contents
+     * are lost along the way; does nothing until the canvas is displayable
+     */
+    public synchronized void present() {
+        if (!isDisplayable()) {
+            return;
+        }
+        if (this.strategy == null) {
+            this.strategy = createStrategy();
+        }
+        do {
+            do {
+                drawFrame();
+            } while (this.strategy.contentsRestored());
+            this.strategy.show();
+        } while (this.strategy.contentsLost());
+        // flushes the frame to the screen now, rather than whenever the windowing system gets to it
+        Toolkit.getDefaultToolkit().sync();
+    }
+
+    /**
+     * Draws a full frame into the strategy's back buffer
+     */
+    private void drawFrame() {
+        Graphics g = this.strategy.getDrawGraphics();
+        try {
+            // the rendering engine draws in window coordinates
+            Point origin = SwingUtilities.convertPoint(this, 0, 0, this.framed);
+            g.translate(-origin.x, -origin.y);
+            this.framedRenderer.renderFrame(g);
+        } finally {
+            g.dispose();
+        }
+    }
+
+    /**
+     * Creates the canvas' buffer strategy, using page flipping if the graphics configuration supports it
+     *
+     * @return the canvas' buffer strategy
+     */
+    private BufferStrategy createStrategy() {
+        try {
+            createBufferStrategy(BUFFER_COUNT, new BufferCapabilities(new ImageCapabilities(true),
+                    new ImageCapabilities(true), BufferCapabilities.FlipContents.UNDEFINED));
+        } catch (AWTException e) {
+            // page flipping is not available, fall back on the best strategy available
+            createBufferStrategy(BUFFER_COUNT);
+        }
+        return getBufferStrategy();
+    }
+}
@@ -1,14 +1,15 @@
 package ui;
 
-import elem.Goal;
 import elem.LevelElement;
-import elem.Obstacle;
-import elem.Wall;
 import model.Level;
 import model.Player;
+import model.Simulation;
+import model.TickInput;
 import org.json.JSONObject;
+import persistence.InputRecorder;
 import persistence.JsonReader;
 import persistence.JsonWriter;
+import persistence.LevelCache;
 import util.*;
 
 import javax.swing.*;
@@ -28,7 +29,7 @@ import static java.awt.event.KeyEvent.*;
  * @see <a href="https://github.com/mkotb/SnakeConsole">https://github.com/mkotb/SnakeConsole (partially adapted from ui.TerminalGame)</a>
  */
 public class FramedGame extends JFrame implements ActionListener {
-    public static final float CLOCK_FRAME_RATE = 30;
+    public static final float CLOCK_FRAME_RATE = Simulation.CLOCK_FRAME_RATE;
     public static final int SCREEN_WIDTH = 968; // equates to 950 usable pixels
     public static final int SCREEN_HEIGHT = 519; // equates to 450 usable pixels
     public static final int STATUS_ROW_HEIGHT = 60;
@@ -40,24 +41,27 @@ public class FramedGame extends JFrame implements ActionListener {
     public static final int INVULNERABLE = 4;
     public static final int SETTINGS = 5;
 
-    public static final int NO_MOVE_CHANGE = 0;
-    public static final int X_MOVE_CHANGE = 1;
-    public static final int Y_MOVE_CHANGE = 2;
-
-    public static final List<Float> FRAME_RATES = new ArrayList<>(Arrays.asList(0.5F, 0.55F, 0.6F, 0.65F, 0.7F,
-            0.8F, 0.9F, 1F, 1.1F, 1.2F, 1.35F, 1.5F, 1.65F, 1.8F, 2F, 2.25F, 2.5F, 2.75F, 3F, 3.5F, 4F, 4.5F, 5F, 6F,
-            7F, 8F, 9F, 10F, 11F, 12F, 13.5F, 15.5F, 17.5F, 20F, 25F, 30F));
+    public static final List<Float> FRAME_RATES = Simulation.FRAME_RATES;
     public static final int FIRST_LEVEL = 0;
-
-    private Level level;
-    private Player player;
+    public static final String LEVEL_DIRECTORY = "./data/level/";
+    public static final String ACTIVE_RENDERING_PROPERTY = "framed.activeRendering";
+    public static final String RENDER_THREAD_PROPERTY = "framed.renderThread";
+    public static final String REFRESH_RATE_PROPERTY = "framed.refreshRate";
+
+    private Simulation simulation;
+    private TickScheduler scheduler;
+    private LevelCache levelCache;
+    private InputRecorder recorder;
     private FramedRenderEngine framedRenderer;
+    private FramedCanvas canvas;
+    private RenderThread renderThread;
     private ColorManager colManager;
-    private FrameDelayTracker fdt;
 
     private String currentLevelDisplay;
-    private float graphicalFrameRate;
     private boolean[] graphicalUpdates;
+    private final int[] inputActions = new int[TickInput.MAX_ACTIONS];
+    private int inputActionCount;
+    private volatile boolean restartQueued;
     private boolean newSave;
     private int status;
 
@@ -86,13 +90,30 @@ public class FramedGame extends JFrame implements ActionListener {
     }
 
     /**
-     * Renders the entire FRAMED game
+     * Creates a new terminal instance of FRAMED from the FRAMED save file, recording the session's inputs to the
+     * given input log
+     *
+     * @param recordingFile destination of the input log
+     * @throws IOException if an I/O error occurs
+     */
+    public FramedGame(String recordingFile) throws IOException {
+        this();
+        this.recorder = new InputRecorder(recordingFile, getLevel().getNamespace(), getLevel().getID());
+        Runtime.getRuntime().addShutdownHook(new Thread(this::stopRecording));
+    }
+
+    /**
+     * Renders the entire FRAMED game; when rendering actively, only the menus are painted here, on top of the canvas
      *
      * @param g FRAMED graphics object
      */
     @Override
     public void paint(Graphics g) {
-        framedRenderer.render(g, this.graphicalUpdates);
+        if (this.canvas != null) {
+            super.paint(g);
+        } else {
+            framedRenderer.render(g, this.graphicalUpdates);
+        }
     }
 
     /**
@@ -106,12 +127,12 @@ public class FramedGame extends JFrame implements ActionListener {
         // get current level information from save file
         JSONObject save = JsonReader.readFile("./data/save.json");
         JSONObject colours = save.getJSONObject("col");
-        level = loadLevel(save.getString("currentNamespace"), save.getInt("currentLevelID"));
-        player = new Player(new Position(0, 0), JsonParser.jsonToColor(
+        levelCache = new LevelCache(LEVEL_DIRECTORY, LevelCache.DEFAULT_CAPACITY);
+        Level level = loadLevel(save.getString("currentNamespace"), save.getInt("currentLevelID"));
+        Player player = new Player(new Position(0, 0), JsonParser.jsonToColor(
                 colours.getJSONObject(ColorManager.KEYS[ColorManager.PLAYER])));
-
-        graphicalFrameRate = level.getInitialFrameRate();
-        fdt = new FrameDelayTracker((long) (1000 / CLOCK_FRAME_RATE), (long) (1000 / graphicalFrameRate));
+        simulation = new Simulation(level, player);
+        scheduler = new TickScheduler(TickScheduler.DEFAULT_MAX_CATCH_UP_TICKS);
 
         colManager = new ColorManager(
                 JsonParser.jsonToColor(colours.getJSONObject(ColorManager.KEYS[ColorManager.PLAYER])),
@@ -124,14 +145,33 @@ public class FramedGame extends JFrame implements ActionListener {
                 JsonParser.jsonToColor(colours.getJSONObject(ColorManager.KEYS[ColorManager.DIALOG_ACC])));
         framedRenderer = new FramedRenderEngine(this);
         graphicalUpdates = new boolean[]{true, true, false};
+        initializeCanvas();
 
-        newSave = this.level.getID() == 0 && this.level.getNamespace().equals("main");
+        newSave = level.getID() == 0 && level.getNamespace().equals("main");
 
         status = INVULNERABLE;
         framedRenderer.showLoadPopup();
         status = ACTIVE;
     }
 
+    /**
+     * Adds the canvas frames are presented on if rendering actively (see ACTIVE_RENDERING_PROPERTY), and the thread
+     * presenting them if rendering on a render thread (see RENDER_THREAD_PROPERTY, which implies active rendering)
+     */
+    private void initializeCanvas() {
+        boolean threaded = Boolean.getBoolean(RENDER_THREAD_PROPERTY);
+        if (threaded || Boolean.getBoolean(ACTIVE_RENDERING_PROPERTY)) {
+            // added after the menus, so it stays behind them
+            canvas = new FramedCanvas(this, framedRenderer);
+            add(canvas);
+        }
+        if (threaded) {
+            // a missing or non-positive refresh rate falls back on the display's
+            renderThread = new RenderThread(canvas, RenderThread.getRefreshRate(
+                    Integer.getInteger(REFRESH_RATE_PROPERTY, 0), getGraphicsConfiguration()));
+        }
+    }
+
     /**
      * Starts an instance of FRAMED
      *
@@ -139,42 +179,34 @@ public class FramedGame extends JFrame implements ActionListener {
      * @throws InterruptedException if the thread is interrupted while sleeping
      */
     public void startGame() throws IOException, InterruptedException {
-        updateLevelColours(this.level);
+        updateLevelColours(getLevel());
         framedRenderer.updateUIColours();
-        level.startLevel(this.player);
+        restartLevel();
+        this.framedRenderer.captureFrame(getLevel(), getPlayer());
+        if (this.renderThread != null) {
+            this.renderThread.start();
+        }
 
         while (this.status != EXIT) {
             tickLoop();
         }
+        stopRecording();
+        this.levelCache.close();
         System.exit(0);
     }
 
     /**
-     * Loads the level with the given namespace and level ID from the FRAMED save files
+     * Loads the level with the given namespace and level ID from the FRAMED level files, through the level cache
      *
      * @param namespace the namespace of the level to be loaded
      * @param id the numerical ID of the level to be loaded
      * @return the loaded level
      * @throws IOException if an I/O error occurs
-     * @see #loadLevel(String)
      */
     private Level loadLevel(String namespace, int id) throws IOException {
-        String target = "./data/level/" + namespace + "Level" + id + ".json";
-        return loadLevel(target);
-    }
-
-    /**
-     * Loads a level from the given target destination
-     *
-     * @param target the destination to load the level from
-     * @return the loaded level
-     * @throws IOException if an I/O error occurs
-     */
-    private Level loadLevel(String target) throws IOException {
-        JSONObject levelObj = JsonReader.readFile(target);
-        this.currentLevelDisplay = levelObj.getJSONObject("metadata").getString("namespace") + "["
-                + levelObj.getJSONObject("metadata").getInt("id") + "]";
-        return JsonParser.jsonToLevel(levelObj);
+        Level level = this.levelCache.getLevel(namespace, id);
+        this.currentLevelDisplay = level.getNamespace() + "[" + level.getID() + "]";
+        return level;
     }
 
     /**
@@ -192,8 +224,10 @@ public class FramedGame extends JFrame implements ActionListener {
             // complete level transition
             //renderTransition();
             restartLevel();
+            this.framedRenderer.captureFrame(getLevel(), getPlayer());
             Thread.sleep((long) (1000 / CLOCK_FRAME_RATE));
             this.status = ACTIVE;
+            this.scheduler.reset();
         } else {
             // handle a generic tick
             genericTick();
@@ -207,66 +241,104 @@ public class FramedGame extends JFrame implements ActionListener {
      * @throws InterruptedException if the thread is interrupted while sleeping
      */
     private void pausedTick() throws IOException, InterruptedException {
+        // colours may have been changed in the settings menu
+        this.framedRenderer.captureFrame(getLevel(), getPlayer());
         repaint();
-        handleKeys();
+        if (this.canvas != null) {
+            presentFrame();
+        }
+        TickInput input = readInput();
+        this.simulation.applyInput(input);
+        if (this.recorder != null) {
+            this.recorder.recordPausedInput(input);
+        }
+        if (input.hasAction(TickInput.RESTART) && this.status == PAUSED) {
+            // the pause menu's restart button also closes the menu
+            unpause();
+        }
         Thread.sleep((long) (1000 / CLOCK_FRAME_RATE));
+        // time spent paused is not caught up on
+        this.scheduler.reset();
     }
 
     /**
-     * Handles a generic tick (clock/graphical/both) depending on the game's current frame rate
+     * Handles every generic tick (clock/graphical/both) due by now depending on the game's current frame rate, then
+     * waits until the next one is due
      *
      * @throws IOException if an I/O error occurs
-     * @throws InterruptedException if the thread is interrupted while sleeping
      */
-    private void genericTick() throws IOException, InterruptedException {
-        // check for clock tick
-        if (this.fdt.getClockFrameDelay() == 0) {
-            handleClockTick();
-            this.fdt.setClockFrameDelay((long) (1000 / CLOCK_FRAME_RATE));
-        }
-        // check for graphical tick
-        if (this.fdt.getGraphicalFrameDelay() == 0) {
-            handleGraphicalTick();
-            this.fdt.setGraphicalFrameDelay((long) (1000 / graphicalFrameRate));
+    private void genericTick() throws IOException {
+        this.scheduler.update();
+        while (this.status == ACTIVE && this.scheduler.consume(this.simulation.getNextTickDelay())) {
+            this.simulation.advance();
+            processDueTicks();
         }
         // repeat the cycle + re-tick at next appropriate time
-        Thread.sleep(this.fdt.getMinFrameDelay());
+        this.scheduler.waitFor(this.simulation.getNextTickDelay());
         graphicalUpdates[0] = false;
         graphicalUpdates[1] = false;
-        this.fdt.reduceFrameDelays(fdt.getMinFrameDelay());
     }
 
     /**
-     * Processes a clock tick: <br>
-     * - handles key events <br>
-     * - moves the player and level elements
+     * Processes the tick(s) due at the simulation's current time
      *
      * @throws IOException if an I/O error occurs
      */
-    private void handleClockTick() throws IOException {
-        handleKeys();
-        player.move();
-        constrainPlayerToBounds();
-        repaint();
+    private void processDueTicks() throws IOException {
+        // key events are only handled on clock ticks
+        TickInput input = this.simulation.isClockTickDue() ? readInput() : TickInput.NONE;
+        int ticks = this.simulation.tick(input);
+        if (this.recorder != null) {
+            this.recorder.recordTick(ticks, input, getPlayer());
+        }
+        // the status row is only repainted when its text changes
+        if ((ticks & Simulation.CLOCK_TICK) != 0 && this.framedRenderer.isStatusRowOutdated()) {
+            this.framedRenderer.captureStatus();
+            graphicalUpdates[1] = true;
+            if (this.canvas != null) {
+                presentFrame();
+            } else {
+                repaint(0, 0, SCREEN_WIDTH, STATUS_ROW_HEIGHT);
+            }
+        }
+        if ((ticks & Simulation.GRAPHICAL_TICK) != 0) {
+            handleGraphicalTick();
+        }
     }
 
     /**
-     * Processes a graphical tick: <br>
-     * - processes a game state update (if player is not invulnerable) <br>
-     * - renders the playing field
+     * Processes the result of a graphical tick: <br>
+     * - handles the game state update caused by the player's collisions <br>
+     * - captures the frame shown until the next graphical tick <br>
+     * - repaints the part of the playing field the player moved across
      *
      * @throws IOException if an I/O error occurs
      */
     private void handleGraphicalTick() throws IOException {
-        if (this.status != INVULNERABLE) {
-            CollisionEvent collisionEvent = this.level.handlePlayerCollisions(this.player);
-            if (collisionEvent.getStatus() != 0) {
-                handlePlayerCollisionEvent(collisionEvent);
-            }
+        CollisionEvent collisionEvent = this.simulation.getLastCollisionEvent();
+        if (collisionEvent.getStatus() != Level.NO_STATE_CHANGE) {
+            handlePlayerCollisionEvent(collisionEvent);
         }
         if (this.status != TRANSITION) {
             graphicalUpdates[0] = true;
-            repaint();
+            this.framedRenderer.captureFrame(getLevel(), getPlayer());
+            if (this.canvas != null) {
+                // presented right away, on the tick it belongs to (or on the render thread's next refresh)
+                presentFrame();
+            } else {
+                Rectangle dirty = this.framedRenderer.getPlayingFieldDirtyRegion();
+                repaint(dirty.x, dirty.y, dirty.width, dirty.height);
+            }
+        }
+    }
+
+    /**
+     * Presents the latest captured frame on the canvas right away, unless the render thread presents frames on its
+     * own schedule
+     */
+    private void presentFrame() {
+        if (this.renderThread == null) {
+            this.canvas.present();
         }
     }
 
@@ -287,18 +359,27 @@ public class FramedGame extends JFrame implements ActionListener {
         JSONObject currentSave = JsonReader.readFile("./data/save.json");
         JsonWriter.writeToSave("./data/save.json", nextLevelID, currentSave.getString("currentNamespace"),
                 this.colManager);
-        this.level = loadLevel(currentSave.getString("currentNamespace"), nextLevelID);
-        updateLevelColours(this.level);
+        this.simulation.setLevel(loadLevel(currentSave.getString("currentNamespace"), nextLevelID));
+        if (this.recorder != null) {
+            this.recorder.recordLevel(currentSave.getString("currentNamespace"), nextLevelID);
+        }
+        updateLevelColours(getLevel());
     }
 
     /**
-     * Handles user key inputs, triggering the appropriate game actions for each key detected
+     * Handles user key inputs, triggering the appropriate game actions for each key detected, and collects the
+     * inputs that affect the simulation
      *
+     * @return the player's input for the current tick
      * @throws IOException if an I/O error occurs
      */
-    private void handleKeys() throws IOException {
+    private TickInput readInput() throws IOException {
         KeyTracker keyTracker = (KeyTracker) this.getKeyListeners()[0];
-        int moveChange = 0;
+        this.inputActionCount = 0;
+        if (this.restartQueued) {
+            this.restartQueued = false;
+            addInputAction(TickInput.RESTART);
+        }
 
         // handles events for typed keys (keys pressed once)
         for (KeyEvent ke : keyTracker.getTypedKeys()) {
@@ -306,20 +387,18 @@ public class FramedGame extends JFrame implements ActionListener {
         }
         keyTracker.clearTypedKeys();
 
-        // handles events for pressed keys (keys with persistent effects)
+        // handles events for pressed keys (keys with persistent effects): the first key found for each axis wins
+        int horizontalDir = 0;
+        int verticalDir = 0;
         for (Integer key : keyTracker.getPressedKeys()) {
-            moveChange += handlePressedKey(key, moveChange);
-        }
-
-        // adjusts player dx and/or dy if no movement keys pressed
-        if ((moveChange & X_MOVE_CHANGE) == 0 && player.getDX() != 0) {
-            double slowDX = Math.max(Math.abs(player.getDX()) - 0.9375, 0);
-            player.setDX(player.getDX() >= 0 ? slowDX : slowDX * -1);
-        }
-        if ((moveChange & Y_MOVE_CHANGE) == 0 && player.getDY() != 0) {
-            double slowDY = Math.max(Math.abs(player.getDY()) - 0.9375, 0);
-            player.setDY(player.getDY() >= 0 ? slowDY : slowDY * -1);
+            if (verticalDir == 0) {
+                verticalDir = getVerticalDir(key);
+            }
+            if (horizontalDir == 0) {
+                horizontalDir = getHorizontalDir(key);
+            }
         }
+        return new TickInput(horizontalDir, verticalDir, Arrays.copyOf(this.inputActions, this.inputActionCount));
     }
 
     /**
@@ -347,45 +426,39 @@ public class FramedGame extends JFrame implements ActionListener {
         // ACTIVE combinations
         if (this.status == ACTIVE) {
             if (key == 'r' || key == '9') {
-                restartLevel();
+                addInputAction(TickInput.RESTART);
             } else if (key == 'e' || key == '1') {
-                increaseFrameRate();
+                addInputAction(TickInput.INCREASE_FRAME_RATE);
             } else if (key == 'q' || key == '0') {
-                decreaseFrameRate();
+                addInputAction(TickInput.DECREASE_FRAME_RATE);
             }
         }
     }
 
     /**
-     * Handles one "pressed" user key input, triggering the appropriate game actions
-     *
-     * @param keyCode key code of the pressed key
-     * @param moveChange flag representing all movement changes handled this tick
-     * @return constant representing the movement change handled
-     */
-    private int handlePressedKey(int keyCode, int moveChange) {
-        if ((moveChange & Y_MOVE_CHANGE) == 0
-                && (keyCode == VK_W || keyCode == VK_UP || keyCode == VK_KP_UP)) {
-            player.changeDY(-0.375);
-            //constrainedPlayerDYChange(-0.25, -1.25);
-            return Y_MOVE_CHANGE;
-        } else if ((moveChange & X_MOVE_CHANGE) == 0
-                && (keyCode == VK_A || keyCode == VK_LEFT || keyCode == VK_KP_LEFT)) {
-            //constrainedPlayerDXChange(-0.25, -1.25);
-            player.changeDX(-0.375);
-            return X_MOVE_CHANGE;
-        } else if ((moveChange & Y_MOVE_CHANGE) == 0
-                && (keyCode == VK_S || keyCode == VK_DOWN || keyCode == VK_KP_DOWN)) {
-            //constrainedPlayerDYChange(0.25, 1.25);
-            player.changeDY(0.375);
-            return Y_MOVE_CHANGE;
-        } else if ((moveChange & X_MOVE_CHANGE) == 0
-                && (keyCode == VK_D || keyCode == VK_RIGHT || keyCode == VK_KP_RIGHT)) {
-            //constrainedPlayerDXChange(0.25, 1.25);
-            player.changeDX(0.375);
-            return X_MOVE_CHANGE;
-        }
-        return NO_MOVE_CHANGE;
+     * @param keyCode key code of a pressed key
+     * @return the horizontal movement direction the key moves the player in (-1 = left, 0 = none, 1 = right)
+     */
+    private int getHorizontalDir(int keyCode) {
+        if (keyCode == VK_A || keyCode == VK_LEFT || keyCode == VK_KP_LEFT) {
+            return -1;
+        } else if (keyCode == VK_D || keyCode == VK_RIGHT || keyCode == VK_KP_RIGHT) {
+            return 1;
+        }
+        return 0;
+    }
+
+    /**
+     * @param keyCode key code of a pressed key
+     * @return the vertical movement direction the key moves the player in (-1 = up, 0 = none, 1 = down)
+     */
+    private int getVerticalDir(int keyCode) {
+        if (keyCode == VK_W || keyCode == VK_UP || keyCode == VK_KP_UP) {
+            return -1;
+        } else if (keyCode == VK_S || keyCode == VK_DOWN || keyCode == VK_KP_DOWN) {
+            return 1;
+        }
+        return 0;
     }
 
     /**
@@ -396,7 +469,8 @@ public class FramedGame extends JFrame implements ActionListener {
      */
     private void handlePlayerCollisionEvent(CollisionEvent collisionEvent) throws IOException {
         if (collisionEvent.getStatus() == Level.RESET) {
-            restartLevel();
+            // the simulation has already restarted the level
+            this.graphicalUpdates[1] = true;
         } else if (collisionEvent.getStatus() == Level.GOAL_REACHED) {
             this.status = TRANSITION;
             graphicalUpdates[0] = true;
@@ -435,8 +509,8 @@ public class FramedGame extends JFrame implements ActionListener {
                 unpause();
                 break;
             case "pause.restart":
-                unpause();
-                restartLevel();
+                // restarted + unpaused by the game loop, so the restart is applied and recorded between its ticks
+                this.restartQueued = true;
                 break;
             case "pause.exit":
                 closeGame();
@@ -483,11 +557,11 @@ public class FramedGame extends JFrame implements ActionListener {
      * Creates a list of all the level elements in the level
      */
     private void analyzeLevel() {
-        StringBuilder elementString = new StringBuilder("Level element breakdown of " + this.level.getNamespace()
-                + "[" + this.level.getID() + "]:\n");
-        addElementsToElementString(elementString, "Obstacles:", this.level.getObstacles());
-        addElementsToElementString(elementString, "Walls:", this.level.getWalls());
-        addElementsToElementString(elementString, "Goals:", this.level.getGoals());
+        StringBuilder elementString = new StringBuilder("Level element breakdown of " + getLevel().getNamespace()
+                + "[" + getLevel().getID() + "]:\n");
+        addElementsToElementString(elementString, "Obstacles:", getLevel().getObstacles());
+        addElementsToElementString(elementString, "Walls:", getLevel().getWalls());
+        addElementsToElementString(elementString, "Goals:", getLevel().getGoals());
 
         framedRenderer.setAnalysisText(String.valueOf(elementString));
         //framedRenderer.createBreakdownGraph();
@@ -517,10 +591,10 @@ public class FramedGame extends JFrame implements ActionListener {
      */
     private void showLevelAreaDistribution() {
         StringBuilder elementString = new StringBuilder("Level element size distribution of "
-                + this.level.getNamespace() + "[" + this.level.getID() + "]:\n");
-        int obstArea = getTotalElementArea(this.level.getObstacles());
-        int wallArea = getTotalElementArea(this.level.getWalls());
-        int goalArea = getTotalElementArea(this.level.getGoals());
+                + getLevel().getNamespace() + "[" + getLevel().getID() + "]:\n");
+        int obstArea = getTotalElementArea(getLevel().getObstacles());
+        int wallArea = getTotalElementArea(getLevel().getWalls());
+        int goalArea = getTotalElementArea(getLevel().getGoals());
         int totalUsedArea = obstArea + wallArea + goalArea;
 
         addAreaToElementString(elementString, "obstacle", obstArea, totalUsedArea);
@@ -571,9 +645,9 @@ public class FramedGame extends JFrame implements ActionListener {
         }
 
         // update player
-        this.player.setCol(this.colManager.getColor(ColorManager.KEYS[ColorManager.PLAYER]));
+        getPlayer().setCol(this.colManager.getColor(ColorManager.KEYS[ColorManager.PLAYER]));
         // update level
-        updateLevelColours(this.level);
+        updateLevelColours(getLevel());
         // update
         framedRenderer.updateUIColours();
 
@@ -589,20 +663,16 @@ public class FramedGame extends JFrame implements ActionListener {
     }
 
     /**
-     * Updates the level's colours in accordance with the colour manager's current colour scheme
+     * Updates the level's colours in accordance with the colour manager's current colour scheme, and drops the
+     * renderer's pre-rendered level so it is redrawn in the new colours
      *
      * @param level level to update
      */
     private void updateLevelColours(Level level) {
-        for (Obstacle obst : level.getObstacles()) {
-            obst.setElementCol(this.colManager.getColor(ColorManager.KEYS[ColorManager.OBST]));
-        }
-        for (Wall wall : level.getWalls()) {
-            wall.setElementCol(this.colManager.getColor(ColorManager.KEYS[ColorManager.WALL]));
-        }
-        for (Goal goal : level.getGoals()) {
-            goal.setElementCol(this.colManager.getColor(ColorManager.KEYS[ColorManager.GOAL]));
-        }
+        level.setElementColours(this.colManager.getColor(ColorManager.KEYS[ColorManager.OBST]),
+                this.colManager.getColor(ColorManager.KEYS[ColorManager.WALL]),
+                this.colManager.getColor(ColorManager.KEYS[ColorManager.GOAL]));
+        this.framedRenderer.invalidateStaticLayer();
     }
 
     /**
@@ -624,58 +694,42 @@ public class FramedGame extends JFrame implements ActionListener {
         this.status = EXIT;
     }
 
-    /**
-     * Constrains the player to the level's bounds, moving it back within them if outside
-     */
-    private void constrainPlayerToBounds() {
-        // constrain X
-        if (player.getPosition().getPosX() < Player.SIZE) {
-            player.setPosition(Player.SIZE, player.getPosition().getPosY());
-            player.setDX(0);
-        } else if (player.getPosition().getPosX() > SCREEN_WIDTH - 18 - Player.SIZE) {
-            player.setPosition(SCREEN_WIDTH - 18 - Player.SIZE, player.getPosition().getPosY());
-            player.setDX(0);
-        }
-        // constrain Y
-        if (player.getPosition().getPosY() < Player.SIZE) {
-            player.setPosition(player.getPosition().getPosX(), Player.SIZE);
-            player.setDY(0);
-        } else if (player.getPosition().getPosY() > SCREEN_HEIGHT - STATUS_ROW_HEIGHT - 9 - Player.SIZE) {
-            player.setPosition(player.getPosition().getPosX(),
-                    SCREEN_HEIGHT - STATUS_ROW_HEIGHT - 9 - Player.SIZE);
-            player.setDY(0);
-        }
-    }
-
     /**
      * Resets the current level to its initial state
      */
     private void restartLevel() {
-        this.graphicalFrameRate = this.level.getInitialFrameRate();
-        this.level.startLevel(player);
+        this.simulation.restartLevel();
         this.graphicalUpdates[1] = true;
+        if (this.recorder != null) {
+            this.recorder.recordRestart();
+        }
     }
 
     /**
-     * Increases the level's graphical frame rate to the next rate in FRAME_RATES
+     * Finishes the input log being recorded, if any
      */
-    private void increaseFrameRate() {
-        int index = FRAME_RATES.indexOf(this.graphicalFrameRate);
-        if (index != FRAME_RATES.size() - 1) {
-            this.graphicalFrameRate = FRAME_RATES.get(index + 1);
+    private void stopRecording() {
+        if (this.recorder != null) {
+            try {
+                this.recorder.close();
+            } catch (IOException e) {
+                // uh oh, sorry!
+                System.out.println("Recording failed! The input log may be incomplete.");
+            }
         }
-        graphicalUpdates[1] = true;
     }
 
     /**
-     * Decreases the level's graphical frame rate to the previous rate in FRAME_RATES
+     * Adds the given action to the simulation input for the current tick, after every action already taken during
+     * the tick (actions past TickInput.MAX_ACTIONS in one tick are ignored)
+     *
+     * @param action action to add
      */
-    private void decreaseFrameRate() {
-        int index = FRAME_RATES.indexOf(this.graphicalFrameRate);
-        if (index != 0) {
-            this.graphicalFrameRate = FRAME_RATES.get(index - 1);
+    private void addInputAction(int action) {
+        if (this.inputActionCount < TickInput.MAX_ACTIONS) {
+            this.inputActions[this.inputActionCount++] = action;
         }
-        graphicalUpdates[1] = true;
+        this.graphicalUpdates[1] = true;
     }
 
     /**
@@ -750,14 +804,14 @@ public class FramedGame extends JFrame implements ActionListener {
      * @return the FRAMED game's current level
      */
     public Level getLevel() {
-        return this.level;
+        return this.simulation.getLevel();
     }
 
     /**
      * @return the FRAMED game's player
      */
     public Player getPlayer() {
-        return this.player;
+        return this.simulation.getPlayer();
     }
 
     /**
@@ -767,6 +821,13 @@ public class FramedGame extends JFrame implements ActionListener {
         return this.currentLevelDisplay;
     }
 
+    /**
+     * @return the FRAMED game's level cache
+     */
+    public LevelCache getLevelCache() {
+        return this.levelCache;
+    }
+
     /**
      * @return the FRAMED game's current status
      */
@@ -778,14 +839,14 @@ public class FramedGame extends JFrame implements ActionListener {
      * @return the FRAMED games' current graphical frame rate (as FPS)
      */
     public float getGraphicalFrameRate() {
-        return this.graphicalFrameRate;
+        return this.simulation.getGraphicalFrameRate();
     }
 
     /**
      * @return the FRAMED game's frame delay tracker
      */
     public FrameDelayTracker getFdt() {
-        return this.fdt;
+        return this.simulation.getFdt();
     }
 
     /**
@@ -1,10 +1,10 @@
 package ui;
 
-import elem.LevelElement;
 import model.Level;
 import model.Player;
+import model.Simulation;
+import util.Camera;
 import util.ColorManager;
-import util.Position;
 
 import javax.swing.*;
 import javax.swing.colorchooser.AbstractColorChooserPanel;
@@ -14,9 +14,14 @@ import javax.swing.event.ChangeListener;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.awt.image.BufferedImage;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static java.awt.Component.BOTTOM_ALIGNMENT;
 import static java.awt.event.KeyEvent.*;
@@ -30,6 +35,7 @@ public class FramedRenderEngine implements ActionListener, ChangeListener {
     public static final int ANALYSIS_TAB = 1;
 
     public static final int GRAPH_MAX_HEIGHT = 300;
+    public static final Font STATUS_FONT = new Font("Monospaced", Font.BOLD, 16);
 
     private FramedGame framed;
     private ColorManager tempColManager;
@@ -38,6 +44,33 @@ public class FramedRenderEngine implements ActionListener, ChangeListener {
     private JPanel pauseMenu;
     private JPanel settingsMenu;
 
+    // background + level elements, pre-rendered since the level's geometry never changes while it is played; only
+    // touched while rendering, so it belongs to whichever thread renders frames, as do the status rows below
+    private LevelLayer levelLayer;
+    private int levelLayerGeneration;
+
+    // bumped on the event dispatch thread after every colour change; frames carry it to the renderer, which
+    // pre-renders again in the new colours once a frame with a newer generation arrives
+    private final AtomicInteger colourGeneration;
+
+    // only used by the game loop, which publishes what it sees to the renderer through frame snapshots
+    private final Camera camera;
+
+    // the latest frame published by the game loop; swapped whole, so the renderer never needs a lock to read it
+    private final AtomicReference<FrameSnapshot> frame;
+
+    // what is currently on screen, written while painting and read by the game loop to find the regions to repaint
+    private volatile FrameSnapshot renderedFrame;
+    private volatile String renderedLevelDisplay;
+    private volatile float renderedFrameRate;
+    private volatile int renderedStatusGeneration;
+    private volatile boolean fullRenderPending;
+
+    // status rows pre-rendered for the current level display + colours, one per frame rate they were shown at
+    private final Map<Float, BufferedImage> statusRows;
+    private String statusRowLevelDisplay;
+    private int statusRowGeneration;
+
     /**
      * Creates a FRAMED rendering engine for the given FRAMED instance + adds all menu panels to the instance
      *
@@ -45,6 +78,11 @@ public class FramedRenderEngine implements ActionListener, ChangeListener {
      */
     public FramedRenderEngine(FramedGame framed) {
         this.framed = framed;
+        this.camera = new Camera(Simulation.PLAYFIELD_WIDTH, Simulation.PLAYFIELD_HEIGHT);
+        this.frame = new AtomicReference<>();
+        this.colourGeneration = new AtomicInteger();
+        this.fullRenderPending = true;
+        this.statusRows = new HashMap<>();
         this.tempColManager = new ColorManager(
                 framed.getColManager().getColor(ColorManager.KEYS[ColorManager.PLAYER]),
                 framed.getColManager().getColor(ColorManager.KEYS[ColorManager.OBST]),
@@ -404,16 +442,6 @@ public class FramedRenderEngine implements ActionListener, ChangeListener {
         return scrollingText;
     }
 
-    /**
-     * Clears the background of the FRAMED instance
-     *
-     * @param g FRAMED graphics object
-     */
-    public void clear(Graphics g) {
-        g.setColor(framed.getColManager().getColor(ColorManager.KEYS[ColorManager.BG]));
-        g.fillRect(0, FramedGame.STATUS_ROW_HEIGHT, FramedGame.SCREEN_WIDTH, FramedGame.SCREEN_HEIGHT);
-    }
-
     /**
      * Renders the FRAMED instance in its current state
      *
@@ -421,13 +449,16 @@ public class FramedRenderEngine implements ActionListener, ChangeListener {
      * @param graphicalUpdates array of graphical update flags [full, status, dialog]
      */
     public void render(Graphics g, boolean[] graphicalUpdates) {
-        if (graphicalUpdates[0]) {
-            clear(g);
-            renderLevel(g, framed.getLevel());
-            renderPlayer(g, framed.getPlayer());
+        FrameSnapshot snapshot = this.frame.get();
+        // repaints may only cover part of the frame, so only the parts inside the clip are redrawn
+        if (snapshot != null && graphicalUpdates[0] && g.hitClip(0, FramedGame.STATUS_ROW_HEIGHT,
+                FramedGame.SCREEN_WIDTH, FramedGame.SCREEN_HEIGHT - FramedGame.STATUS_ROW_HEIGHT)) {
+            renderStaticLayer(g, snapshot);
+            renderPlayer(g, snapshot);
         }
-        if (graphicalUpdates[1]) {
-            renderStatusRow(g);
+        if (snapshot != null && graphicalUpdates[1]
+                && g.hitClip(0, 0, FramedGame.SCREEN_WIDTH, FramedGame.STATUS_ROW_HEIGHT)) {
+            renderStatusRow(g, snapshot);
         }
         if (graphicalUpdates[2]) {
             if (pauseMenuIsOpen() && pauseMenuIsVisible()) {
@@ -442,73 +473,202 @@ public class FramedRenderEngine implements ActionListener, ChangeListener {
     }
 
     /**
-     * Renders the level ID and FPS text in the status row
+     * Renders a full frame of the playing field + status row from the latest published frame, for presenting
+     * actively; does nothing until a frame has been published
+     *
+     * @param g graphics object to draw the frame with
+     * @see FramedCanvas#present()
+     */
+    public void renderFrame(Graphics g) {
+        FrameSnapshot snapshot = this.frame.get();
+        if (snapshot != null) {
+            renderStaticLayer(g, snapshot);
+            renderPlayer(g, snapshot);
+            renderStatusRow(g, snapshot);
+        }
+    }
+
+    /**
+     * Renders the background + the given frame's level elements inside the graphics object's clip by drawing the
+     * cached level layer, pre-rendering the layer first if it is missing, was rendered for a different level or in
+     * older colours, or the camera has moved since
      *
      * @param g FRAMED graphics object
+     * @param snapshot frame to render
      */
-    public void renderStatusRow(Graphics g) {
-        // clears status row
-        g.setColor(framed.getColManager().getColor(ColorManager.KEYS[ColorManager.DIALOG_BASE]));
-        g.fillRect(0, 0, FramedGame.SCREEN_WIDTH, FramedGame.STATUS_ROW_HEIGHT - 1);
+    public void renderStaticLayer(Graphics g, FrameSnapshot snapshot) {
+        if (this.levelLayer == null || this.levelLayer.getLevel() != snapshot.getLevel()) {
+            this.levelLayer = new LevelLayer(snapshot.getLevel(), createLayerImage());
+        } else if (this.levelLayerGeneration != snapshot.getColourGeneration()) {
+            this.levelLayer.invalidate();
+        }
+        this.levelLayerGeneration = snapshot.getColourGeneration();
+        BufferedImage image = this.levelLayer.getImage(
+                framed.getColManager().getColor(ColorManager.KEYS[ColorManager.BG]),
+                snapshot.getCameraX(), snapshot.getCameraY());
+        Rectangle area = new Rectangle(0, FramedGame.STATUS_ROW_HEIGHT, image.getWidth(), image.getHeight());
+        Rectangle clip = g.getClipBounds();
+        if (clip != null) {
+            area = area.intersection(clip);
+        }
+        // only copies the part of the layer being repainted
+        g.drawImage(image, area.x, area.y, area.x + area.width, area.y + area.height,
+                area.x, area.y - FramedGame.STATUS_ROW_HEIGHT, area.x + area.width,
+                area.y + area.height - FramedGame.STATUS_ROW_HEIGHT, null);
+    }
 
-        // fills row with status message
-        g.setColor(framed.getColManager().getColor(ColorManager.KEYS[ColorManager.DIALOG_ACC]));
-        g.fillRect(0, FramedGame.STATUS_ROW_HEIGHT - 1, FramedGame.SCREEN_WIDTH, 1);
-        g.setColor(framed.getColManager().getColor(ColorManager.KEYS[ColorManager.TEXT]));
-        g.setFont(new Font("Monospaced", Font.BOLD, 16));
-        g.drawString(framed.getCurrentLevelDisplay() + " @ " + framed.getGraphicalFrameRate() + " FPS", 13, 53);
+    /**
+     * @return a new image covering the playing field, compatible with the screen if possible
+     */
+    private BufferedImage createLayerImage() {
+        int width = FramedGame.SCREEN_WIDTH;
+        int height = FramedGame.SCREEN_HEIGHT - FramedGame.STATUS_ROW_HEIGHT;
+        GraphicsConfiguration config = framed.getGraphicsConfiguration();
+        return config != null ? config.createCompatibleImage(width, height)
+                : new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
     }
 
     /**
-     * Renders the player at the given position
-     *
-     * @param g FRAMED graphics object
-     * @param player player to render
+     * Starts a new colour generation, so the level layer + status rows are pre-rendered again with the current colours
+     * once the game loop publishes the next frame; must be called whenever the background or level element colours
+     * change, after changing them
      */
-    public void renderPlayer(Graphics g, Player player) {
-        g.setColor(player.getCol());
-        g.fillRoundRect((int) player.getPosition().getPosX() - Player.SIZE + 9,
-                (int) player.getPosition().getPosY() - Player.SIZE + FramedGame.STATUS_ROW_HEIGHT,
-                Player.SIZE * 2, Player.SIZE * 2, 3, 3);
+    public void invalidateStaticLayer() {
+        this.colourGeneration.incrementAndGet();
     }
 
     /**
-     * Renders everything in the given level
+     * Captures what frames show until the next graphical tick, and publishes it to the renderer: moves the camera to
+     * follow the given player around the given level's playing field, then records where the player is rendered and
+     * the current status row text; must only be called by the game loop
      *
-     * @param g FRAMED graphics object
-     * @param level level to render
+     * @param level level being played
+     * @param player player to follow
      */
-    public void renderLevel(Graphics g, Level level) {
-        for (LevelElement elem : level.getAllElements()) {
-            renderLevelElement(g, elem);
+    public void captureFrame(Level level, Player player) {
+        this.camera.follow(player.getPosition(), level.getFieldWidth(), level.getFieldHeight());
+        this.frame.set(new FrameSnapshot(level, this.camera.getPosX(), this.camera.getPosY(),
+                getPlayerBounds(player), player.getCol(), framed.getCurrentLevelDisplay(),
+                framed.getGraphicalFrameRate(), this.colourGeneration.get()));
+    }
+
+    /**
+     * Publishes the latest captured frame again with the current status row text + colour generation, leaving the
+     * playing field as it was on the last graphical tick; must only be called by the game loop
+     */
+    public void captureStatus() {
+        FrameSnapshot snapshot = this.frame.get();
+        if (snapshot != null) {
+            // the game loop is the only writer, so the frame cannot change between the get and the set
+            this.frame.set(snapshot.withStatus(framed.getCurrentLevelDisplay(), framed.getGraphicalFrameRate(),
+                    this.colourGeneration.get()));
         }
     }
 
     /**
-     * Renders the given level element on the playing field
+     * Gets the region of the frame that must be repainted to show the latest captured frame: the union of the
+     * player's bounds as last rendered and as last captured, or the whole playing field if the level, the camera,
+     * colours, or a menu covering it changed since the last full render
      *
-     * @param g FRAMED graphics object
-     * @param elem element to render
-     * @see #renderRectangle(Graphics, Position, int, int, Color)
+     * @return the region to repaint
+     */
+    public Rectangle getPlayingFieldDirtyRegion() {
+        FrameSnapshot rendered = this.renderedFrame;
+        FrameSnapshot snapshot = this.frame.get();
+        if (this.fullRenderPending || snapshot == null || !snapshot.hasSameView(rendered)) {
+            this.fullRenderPending = false;
+            return new Rectangle(0, FramedGame.STATUS_ROW_HEIGHT, FramedGame.SCREEN_WIDTH,
+                    FramedGame.SCREEN_HEIGHT - FramedGame.STATUS_ROW_HEIGHT);
+        }
+        return snapshot.getPlayerBounds().union(rendered.getPlayerBounds());
+    }
+
+    /**
+     * @return true if the level display, frame rate, or colours have changed since the status row was last rendered,
+     *         false otherwise
      */
-    private void renderLevelElement(Graphics g, LevelElement elem) {
-        Position shiftedPos = new Position(elem.getPosition().getPosX() + 9,
-                elem.getPosition().getPosY() + FramedGame.STATUS_ROW_HEIGHT);
-        renderRectangle(g, shiftedPos, elem.getWidth(), elem.getHeight(), elem.getElementCol());
+    public boolean isStatusRowOutdated() {
+        return framed.getGraphicalFrameRate() != this.renderedFrameRate
+                || !framed.getCurrentLevelDisplay().equals(this.renderedLevelDisplay)
+                || this.colourGeneration.get() != this.renderedStatusGeneration;
+    }
+
+    /**
+     * Renders the given frame's level ID and FPS text in the status row by drawing the pre-rendered status row for
+     * its level display + frame rate in its colours, pre-rendering it first if needed
+     *
+     * @param g FRAMED graphics object
+     * @param snapshot frame to render
+     */
+    public void renderStatusRow(Graphics g, FrameSnapshot snapshot) {
+        String levelDisplay = snapshot.getLevelDisplay();
+        float frameRate = snapshot.getFrameRate();
+        if (!levelDisplay.equals(this.statusRowLevelDisplay)
+                || snapshot.getColourGeneration() != this.statusRowGeneration) {
+            // rows for the previous level or colours can no longer be shown
+            this.statusRows.clear();
+            this.statusRowLevelDisplay = levelDisplay;
+            this.statusRowGeneration = snapshot.getColourGeneration();
+        }
+        BufferedImage statusRow = this.statusRows.get(frameRate);
+        if (statusRow == null) {
+            statusRow = createStatusRow(levelDisplay, frameRate);
+            this.statusRows.put(frameRate, statusRow);
+        }
+        g.drawImage(statusRow, 0, 0, null);
+        this.renderedLevelDisplay = levelDisplay;
+        this.renderedFrameRate = frameRate;
+        this.renderedStatusGeneration = snapshot.getColourGeneration();
+    }
+
+    /**
+     * Pre-renders the status row for the given level display + frame rate
+     *
+     * @param levelDisplay level display to show
+     * @param frameRate frame rate to show
+     * @return the rendered status row
+     */
+    private BufferedImage createStatusRow(String levelDisplay, float frameRate) {
+        BufferedImage image = new BufferedImage(FramedGame.SCREEN_WIDTH, FramedGame.STATUS_ROW_HEIGHT,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        // clears status row
+        g.setColor(framed.getColManager().getColor(ColorManager.KEYS[ColorManager.DIALOG_BASE]));
+        g.fillRect(0, 0, FramedGame.SCREEN_WIDTH, FramedGame.STATUS_ROW_HEIGHT - 1);
+
+        // fills row with status message
+        g.setColor(framed.getColManager().getColor(ColorManager.KEYS[ColorManager.DIALOG_ACC]));
+        g.fillRect(0, FramedGame.STATUS_ROW_HEIGHT - 1, FramedGame.SCREEN_WIDTH, 1);
+        g.setColor(framed.getColManager().getColor(ColorManager.KEYS[ColorManager.TEXT]));
+        g.setFont(STATUS_FONT);
+        g.drawString(levelDisplay + " @ " + frameRate + " FPS", 13, 53);
+        g.dispose();
+        return image;
     }
 
     /**
-     * Renders a rectangle of the given width, height, and colour at the given position
+     * Renders the player where it is in the given frame
      *
      * @param g FRAMED graphics object
-     * @param pos position to place upper left corner of rectangle at
-     * @param width rectangle width
-     * @param height rectangle height
-     * @param col rectangle colour
+     * @param snapshot frame to render
+     */
+    public void renderPlayer(Graphics g, FrameSnapshot snapshot) {
+        Rectangle bounds = snapshot.getPlayerBounds();
+        g.setColor(snapshot.getPlayerCol());
+        g.fillRoundRect(bounds.x, bounds.y, bounds.width, bounds.height, 3, 3);
+        this.renderedFrame = snapshot;
+    }
+
+    /**
+     * @param player player to render
+     * @return the region of the frame the player is rendered in, as seen by the camera
      */
-    private void renderRectangle(Graphics g, Position pos, int width, int height, Color col) {
-        g.setColor(col);
-        g.fillRect((int) pos.getPosX(), (int) pos.getPosY(), width, height);
+    private Rectangle getPlayerBounds(Player player) {
+        return new Rectangle((int) player.getPosition().getPosX() - Player.SIZE + LevelLayer.FIELD_OFFSET_X
+                - this.camera.getPosX(),
+                (int) player.getPosition().getPosY() - Player.SIZE + FramedGame.STATUS_ROW_HEIGHT
+                - this.camera.getPosY(),
+                Player.SIZE * 2, Player.SIZE * 2);
     }
 
     /**
@@ -536,6 +696,7 @@ public class FramedRenderEngine implements ActionListener, ChangeListener {
     public void closePauseMenu() {
         pauseMenu.setVisible(false);
         pauseMenu.setEnabled(false);
+        this.fullRenderPending = true;
     }
 
     /**
@@ -544,6 +705,7 @@ public class FramedRenderEngine implements ActionListener, ChangeListener {
     public void closeSettingsMenu() {
         settingsMenu.setVisible(false);
         settingsMenu.setEnabled(false);
+        this.fullRenderPending = true;
         if (pauseMenuIsOpen()) {
             pauseMenu.setVisible(true);
         }
@@ -682,6 +844,9 @@ public class FramedRenderEngine implements ActionListener, ChangeListener {
      * Updates the colours of the FRAMED GUI
      */
     public void updateUIColours() {
+        // status rows are re-rendered in the new colours, on the thread rendering frames
+        this.colourGeneration.incrementAndGet();
+
         updateComponentColour(pauseMenu);
         pauseMenu.setBorder(BorderFactory.createLineBorder(
                 framed.getColManager().getColor(ColorManager.KEYS[ColorManager.DIALOG_ACC])));
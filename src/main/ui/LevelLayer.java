@@ -0,0 +1,128 @@
+package ui;
+
+import elem.Goal;
+import elem.LevelElement;
+import elem.Obstacle;
+import elem.Wall;
+import model.Level;
+import util.SpatialGrid;
+
+import java.awt.*;
+import java.awt.image.BufferedImage;
+
+/**
+ * Represents the background + level elements of a level as seen through a camera, pre-rendered into an image the
+ * size of the screen's playing field area
+ * <p>
+ * The image is only rendered again when the camera moves or the level's colours change, and then only with the
+ * elements the camera can see, found through spatial indices over each element type, so levels of any size render in
+ * time proportional to what is on screen
+ */
+public class LevelLayer {
+    // x offset of the playing field on screen
+    public static final int FIELD_OFFSET_X = 9;
+
+    private final Level level;
+    private final SpatialGrid<Obstacle> obstacles;
+    private final SpatialGrid<Wall> walls;
+    private final SpatialGrid<Goal> goals;
+    private final BufferedImage image;
+
+    private boolean rendered;
+    private int renderedPosX;
+    private int renderedPosY;
+
+    /**
+     * Creates a layer for the given level, rendering into the given image
+     *
+     * @param level level to render
+     * @param image image to render into, covering the screen's playing field area
+     */
+    public LevelLayer(Level level, BufferedImage image) {
+        this.level = level;
+        this.obstacles = level.createObstacleIndex();
+        this.walls = level.createWallIndex();
+        this.goals = level.createGoalIndex();
+        this.image = image;
+        this.rendered = false;
+    }
+
+    /**
+     * Gets the layer as seen by a camera at the given position, rendering it again first if the camera moved since
+     * it was last rendered
+     *
+     * @param background background colour
+     * @param posX x coordinate of the camera's left edge on the playing field
+     * @param posY y coordinate of the camera's top edge on the playing field
+     * @return the rendered image
+     */
+    public BufferedImage getImage(Color background, int posX, int posY) {
+        if (!this.rendered || posX != this.renderedPosX || posY != this.renderedPosY) {
+            render(background, posX, posY);
+            this.rendered = true;
+            this.renderedPosX = posX;
+            this.renderedPosY = posY;
+        }
+        return this.image;
+    }
+
+    /**
+     * Marks the image as outdated, so it is rendered again on the next call to getImage even if the camera has not
+     * moved; used when the level's colours change
+     */
+    public void invalidate() {
+        this.rendered = false;
+    }
+
+    /**
+     * Renders the background + every element visible to a camera at the given position, one element type (and so,
+     * usually, one colour) at a time
+     *
+     * @param background background colour
+     * @param posX x coordinate of the camera's left edge on the playing field
+     * @param posY y coordinate of the camera's top edge on the playing field
+     */
+    private void render(Color background, int posX, int posY) {
+        Graphics2D g = this.image.createGraphics();
+        g.setColor(background);
+        g.fillRect(0, 0, this.image.getWidth(), this.image.getHeight());
+        // shifts every element from the playing field onto the image at once
+        g.translate(FIELD_OFFSET_X - posX, -posY);
+        renderVisibleElements(g, this.obstacles, posX, posY);
+        renderVisibleElements(g, this.walls, posX, posY);
+        renderVisibleElements(g, this.goals, posX, posY);
+        g.dispose();
+    }
+
+    /**
+     * Renders the indexed elements near the camera's view in their colours, in list order, only switching colours
+     * when the next element's colour differs
+     *
+     * @param g graphics object translated onto the playing field
+     * @param grid spatial index over the elements to render
+     * @param posX x coordinate of the camera's left edge on the playing field
+     * @param posY y coordinate of the camera's top edge on the playing field
+     */
+    private void renderVisibleElements(Graphics g, SpatialGrid<? extends LevelElement> grid, int posX, int posY) {
+        int count = grid.query(posX - FIELD_OFFSET_X, posY, posX - FIELD_OFFSET_X + this.image.getWidth(),
+                posY + this.image.getHeight());
+        Color current = null;
+        for (int i = 0; i < count; i++) {
+            LevelElement elem = grid.getCandidate(i);
+            Color col = this.level.getElementCol(elem);
+            if (col != current) {
+                g.setColor(col);
+                current = col;
+            }
+            g.fillRect((int) elem.getPosition().getPosX(), (int) elem.getPosition().getPosY(), elem.getWidth(),
+                    elem.getHeight());
+        }
+    }
+
+    /**
+     * @return the level the layer renders
+     */
+    public Level getLevel() {
+        return this.level;
+    }
+}
@@ -7,8 +7,8 @@ import java.io.IOException;
  */
 public class Main {
     public static void main(String[] args) throws IOException, InterruptedException {
-        // create and start the game
-        FramedGame framed = new FramedGame();
+        // create and start the game (recording its inputs if an input log destination is given)
+        FramedGame framed = args.length > 0 ? new FramedGame(args[0]) : new FramedGame();
         framed.startGame();
     }
 }
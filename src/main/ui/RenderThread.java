@@ -0,0 +1,70 @@
+package ui;
+
+import util.TickScheduler;
+
+import java.awt.*;
+
+/**
+ * Represents the thread that presents the latest published frame (see FramedRenderEngine#renderFrame) on the FRAMED
+ * canvas at the display's refresh rate, so the game loop only captures frame snapshots and never waits on a frame
+ * being drawn or flipped onto the screen
+ * <p>
+ * Only the presentation changes: each present shows the snapshot captured on the last graphical tick (or clock tick,
+ * for the status row), so gameplay frames stay exactly as choppy as the level's frame rate makes them
+ */
+public class RenderThread extends Thread {
+    public static final int DEFAULT_REFRESH_RATE = 60;
+
+    private final FramedCanvas canvas;
+    private final long frameDelay;
+    private final TickScheduler scheduler;
+
+    /**
+     * Creates a render thread presenting frames on the given canvas
+     *
+     * @param canvas canvas to present frames on
+     * @param refreshRate number of frames to present per second (refreshRate > 0)
+     * @see #getRefreshRate(int, GraphicsConfiguration)
+     */
+    public RenderThread(FramedCanvas canvas, int refreshRate) {
+        super("FRAMED renderer");
+        // never keeps FRAMED running on its own
+        setDaemon(true);
+        this.canvas = canvas;
+        this.frameDelay = 1_000_000_000L / refreshRate;
+        // frames missed while presenting are dropped rather than caught up on
+        this.scheduler = new TickScheduler(1);
+    }
+
+    /**
+     * Presents a frame whenever one is due until the thread is interrupted
+     */
+    @Override
+    public void run() {
+        this.scheduler.reset();
+        while (!isInterrupted()) {
+            this.scheduler.update();
+            while (this.scheduler.consume(this.frameDelay)) {
+                this.canvas.present();
+            }
+            this.scheduler.waitFor(this.frameDelay);
+        }
+    }
+
+    /**
+     * @param requestedRate refresh rate requested by the player (ignored unless requestedRate > 0)
+     * @param config graphics configuration of the window being rendered (may be null)
+     * @return the requested refresh rate if it is positive, otherwise the refresh rate of the window's display, or
+     *         DEFAULT_REFRESH_RATE if that is unknown; always positive
+     */
+    public static int getRefreshRate(int requestedRate, GraphicsConfiguration config) {
+        if (requestedRate > 0) {
+            return requestedRate;
+        }
+        if (config == null) {
+            return DEFAULT_REFRESH_RATE;
+        }
+        int refreshRate = config.getDevice().getDisplayMode().getRefreshRate();
+        return refreshRate > 0 ? refreshRate : DEFAULT_REFRESH_RATE;
+    }
+}
@@ -0,0 +1,76 @@
+package util;
+
+/**
+ * Represents a camera showing a fixed-size window of a playing field, following a target while staying within the
+ * field (fields smaller than the window are shown from their top left corner)
+ */
+public class Camera {
+    private final int width;
+    private final int height;
+    private int posX;
+    private int posY;
+
+    /**
+     * Creates a camera showing a window of the given size, starting at the field's top left corner
+     *
+     * @param width width of the window shown (width > 0)
+     * @param height height of the window shown (height > 0)
+     */
+    public Camera(int width, int height) {
+        this.width = width;
+        this.height = height;
+        this.posX = 0;
+        this.posY = 0;
+    }
+
+    /**
+     * Centres the camera on the given target, then moves it back within the playing field if needed
+     *
+     * @param target position to centre the camera on
+     * @param fieldWidth width of the playing field
+     * @param fieldHeight height of the playing field
+     */
+    public void follow(Position target, int fieldWidth, int fieldHeight) {
+        this.posX = centre(target.getPosX(), this.width, fieldWidth);
+        this.posY = centre(target.getPosY(), this.height, fieldHeight);
+    }
+
+    /**
+     * @param target target coordinate along one axis
+     * @param length length of the window along the axis
+     * @param fieldLength length of the playing field along the axis
+     * @return the window's starting coordinate along the axis
+     */
+    private static int centre(double target, int length, int fieldLength) {
+        int start = (int) Math.floor(target) - length / 2;
+        return Math.max(0, Math.min(start, fieldLength - length));
+    }
+
+    /**
+     * @return x coordinate of the window's left edge on the playing field
+     */
+    public int getPosX() {
+        return this.posX;
+    }
+
+    /**
+     * @return y coordinate of the window's top edge on the playing field
+     */
+    public int getPosY() {
+        return this.posY;
+    }
+
+    /**
+     * @return width of the window shown
+     */
+    public int getWidth() {
+        return this.width;
+    }
+
+    /**
+     * @return height of the window shown
+     */
+    public int getHeight() {
+        return this.height;
+    }
+}
@@ -0,0 +1,161 @@
+package util;
+
+import elem.LevelElement;
+import model.Player;
+
+import java.util.List;
+
+/**
+ * Represents the bounds of a fixed list of level elements, packed into one array per bound (min x, min y, max x,
+ * max y, each in list order) so collision checks can scan them without visiting the elements themselves
+ * <p>
+ * Every check gives exactly the same result as the matching LevelElement method on the element with the same list
+ * index. Full scans use the vector overlap kernel when it is available (see VECTOR_KERNEL_CLASS), and the scalar
+ * kernel otherwise
+ */
+public class ElementBounds {
+    public static final String VECTOR_KERNEL_CLASS = "util.VectorOverlapKernel";
+    public static final String VECTOR_PROPERTY = "framed.vector";
+    public static final OverlapKernel SCALAR_KERNEL = ElementBounds::findFirstOverlap;
+
+    private static final OverlapKernel KERNEL = loadKernel();
+
+    private final double[] minX;
+    private final double[] minY;
+    private final double[] maxX;
+    private final double[] maxY;
+
+    /**
+     * Packs the bounds of the given list of level elements
+     *
+     * @param elements list of level elements (must not be modified while the bounds are in use); null elements
+     *                 never collide
+     */
+    public ElementBounds(List<? extends LevelElement> elements) {
+        int size = elements.size();
+        this.minX = new double[size];
+        this.minY = new double[size];
+        this.maxX = new double[size];
+        this.maxY = new double[size];
+        for (int i = 0; i < size; i++) {
+            LevelElement elem = elements.get(i);
+            if (elem == null) {
+                // NaN bounds fail every comparison, so null elements never collide
+                this.minX[i] = this.minY[i] = this.maxX[i] = this.maxY[i] = Double.NaN;
+            } else {
+                this.minX[i] = elem.getPosition().getPosX();
+                this.minY[i] = elem.getPosition().getPosY();
+                this.maxX[i] = elem.getPosition().getPosX() + elem.getWidth();
+                this.maxY[i] = elem.getPosition().getPosY() + elem.getHeight();
+            }
+        }
+    }
+
+    /**
+     * Loads the vector overlap kernel, unless it is disabled by setting VECTOR_PROPERTY to false
+     *
+     * @return the vector overlap kernel, or the scalar kernel if the vector kernel was not compiled in, the running
+     * JVM cannot load it (the jdk.incubator.vector module is missing), or it is disabled
+     */
+    private static OverlapKernel loadKernel() {
+        if ("false".equals(System.getProperty(VECTOR_PROPERTY))) {
+            return SCALAR_KERNEL;
+        }
+        try {
+            return (OverlapKernel) Class.forName(VECTOR_KERNEL_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return SCALAR_KERNEL;
+        }
+    }
+
+    /**
+     * Scalar overlap kernel: checks one element at a time
+     *
+     * @param minX minimum x coordinate of each element
+     * @param minY minimum y coordinate of each element
+     * @param maxX maximum x coordinate of each element
+     * @param maxY maximum y coordinate of each element
+     * @param lowX minimum x coordinate of the box
+     * @param lowY minimum y coordinate of the box
+     * @param highX maximum x coordinate of the box
+     * @param highY maximum y coordinate of the box
+     * @return the list index of the first overlapping element, or -1 if no element overlaps the box
+     * @see OverlapKernel#findFirstOverlap(double[], double[], double[], double[], double, double, double, double)
+     */
+    private static int findFirstOverlap(double[] minX, double[] minY, double[] maxX, double[] maxY, double lowX,
+                                        double lowY, double highX, double highY) {
+        for (int i = 0; i < minX.length; i++) {
+            if (minX[i] <= highX && lowX <= maxX[i] && minY[i] <= highY && lowY <= maxY[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return the overlap kernel used for full scans
+     */
+    public static OverlapKernel getKernel() {
+        return KERNEL;
+    }
+
+    /**
+     * @param index list index of the element
+     * @param posX player x coordinate
+     * @param posY player y coordinate
+     * @return true if the element is colliding with a player at the given position, false otherwise
+     * @see LevelElement#isCollidingWithPlayer(Player)
+     */
+    public boolean isCollidingWithPlayer(int index, double posX, double posY) {
+        return this.minX[index] <= posX + Player.SIZE && posX - Player.SIZE <= this.maxX[index]
+                && this.minY[index] <= posY + Player.SIZE && posY - Player.SIZE <= this.maxY[index];
+    }
+
+    /**
+     * Finds the first element, in list order, that is colliding with a player at the given position, scanning
+     * every element
+     *
+     * @param posX player x coordinate
+     * @param posY player y coordinate
+     * @return the list index of the first colliding element, or -1 if no element is colliding with the player
+     */
+    public int findFirstColliding(double posX, double posY) {
+        return findFirstColliding(posX, posY, KERNEL);
+    }
+
+    /**
+     * Finds the first element, in list order, that is colliding with a player at the given position, scanning
+     * every element with the given overlap kernel
+     *
+     * @param posX player x coordinate
+     * @param posY player y coordinate
+     * @param kernel overlap kernel to scan with
+     * @return the list index of the first colliding element, or -1 if no element is colliding with the player
+     */
+    public int findFirstColliding(double posX, double posY, OverlapKernel kernel) {
+        return kernel.findFirstOverlap(this.minX, this.minY, this.maxX, this.maxY, posX - Player.SIZE,
+                posY - Player.SIZE, posX + Player.SIZE, posY + Player.SIZE);
+    }
+
+    /**
+     * @param index list index of the element
+     * @param startX player starting x coordinate
+     * @param startY player starting y coordinate
+     * @param endX player ending x coordinate
+     * @param endY player ending y coordinate
+     * @return the fraction of the path travelled before first touching the element (0 <= fraction <= 1), or
+     * positive infinity if the player never touches the element or is already touching it at the start of the path
+     * @see LevelElement#calculateEntryTime(double, double, double, double)
+     */
+    public double calculateEntryTime(int index, double startX, double startY, double endX, double endY) {
+        return LevelElement.calculateEntryTime(this.minX[index], this.minY[index], this.maxX[index],
+                this.maxY[index], startX, startY, endX, endY);
+    }
+
+    /**
+     * @return the number of elements whose bounds are packed
+     */
+    public int size() {
+        return this.minX.length;
+    }
+}
@@ -2,11 +2,17 @@ package util;
 
 /**
  * Represents a set of frame delay counters
+ * <p>
+ * Tick deadlines are kept as absolute times in nanoseconds (relative to when the tracker was created), so ticks
+ * scheduled at a fixed frame rate never drift, regardless of how the time between them is split up
  */
 public class FrameDelayTracker {
-    private long clockFrameDelay;
-    private long graphicalFrameDelay;
-    private long minFrameDelay;
+    public static final long NANOS_PER_MILLI = 1_000_000L;
+    public static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private long currentTime;
+    private final TickSchedule clockSchedule;
+    private final TickSchedule graphicalSchedule;
 
     /**
      * Creates a new set of frame delay counters
@@ -15,29 +21,45 @@ public class FrameDelayTracker {
      * @param graphicalFrameDelay delay until the next graphical tick, in milliseconds (graphicalFrameDelay > 0)
      */
     public FrameDelayTracker(long clockFrameDelay, long graphicalFrameDelay) {
-        this.clockFrameDelay = clockFrameDelay;
-        this.graphicalFrameDelay = graphicalFrameDelay;
-        this.minFrameDelay = Math.min(clockFrameDelay, graphicalFrameDelay);
+        this.currentTime = 0;
+        this.clockSchedule = new TickSchedule(clockFrameDelay * NANOS_PER_MILLI);
+        this.graphicalSchedule = new TickSchedule(graphicalFrameDelay * NANOS_PER_MILLI);
     }
 
     /**
-     * Sets the clock frame delay counter to the new rate + updates min value if needed
+     * Sets the clock frame delay counter to the new rate
      *
      * @param newRate new clock delay, in milliseconds (newRate > 0)
      */
     public void setClockFrameDelay(long newRate) {
-        this.clockFrameDelay = newRate;
-        this.minFrameDelay = Math.min(this.clockFrameDelay, this.graphicalFrameDelay);
+        this.clockSchedule.setDeadline(this.currentTime + newRate * NANOS_PER_MILLI);
     }
 
     /**
-     * Sets the graphical frame delay counter to the new rate + updates min value if needed
+     * Sets the graphical frame delay counter to the new rate
      *
      * @param newRate new graphical delay, in milliseconds (newRate > 0)
      */
     public void setGraphicalFrameDelay(long newRate) {
-        this.graphicalFrameDelay = newRate;
-        this.minFrameDelay = Math.min(this.clockFrameDelay, this.graphicalFrameDelay);
+        this.graphicalSchedule.setDeadline(this.currentTime + newRate * NANOS_PER_MILLI);
+    }
+
+    /**
+     * Schedules the next clock tick one frame after the last one, at the given frame rate
+     *
+     * @param frameRate clock frame rate, in frames per second (frameRate > 0)
+     */
+    public void scheduleNextClockTick(float frameRate) {
+        this.clockSchedule.scheduleNext(frameRate);
+    }
+
+    /**
+     * Schedules the next graphical tick one frame after the last one, at the given frame rate
+     *
+     * @param frameRate graphical frame rate, in frames per second (frameRate > 0)
+     */
+    public void scheduleNextGraphicalTick(float frameRate) {
+        this.graphicalSchedule.scheduleNext(frameRate);
     }
 
     /**
@@ -47,29 +69,110 @@ public class FrameDelayTracker {
      *                  (0 <= reduction <= this.minFrameDelay)
      */
     public void reduceFrameDelays(long reduction) {
-        this.clockFrameDelay -= reduction;
-        this.graphicalFrameDelay -= reduction;
-        this.minFrameDelay -= reduction;
+        reduceFrameDelaysNanos(reduction * NANOS_PER_MILLI);
+    }
+
+    /**
+     * Reduces all the frame delay counters by the amount specified
+     *
+     * @param reduction time to reduce all frame delay counters by, in nanoseconds
+     *                  (0 <= reduction <= this.minFrameDelay)
+     */
+    public void reduceFrameDelaysNanos(long reduction) {
+        this.currentTime += reduction;
     }
 
     /**
      * @return the clock frame delay count
      */
     public long getClockFrameDelay() {
-        return this.clockFrameDelay;
+        return getClockFrameDelayNanos() / NANOS_PER_MILLI;
     }
 
     /**
      * @return the graphical frame delay count
      */
     public long getGraphicalFrameDelay() {
-        return this.graphicalFrameDelay;
+        return getGraphicalFrameDelayNanos() / NANOS_PER_MILLI;
     }
 
     /**
      * @return the lowest frame delay count of all present
      */
     public long getMinFrameDelay() {
-        return this.minFrameDelay;
+        return Math.min(getClockFrameDelay(), getGraphicalFrameDelay());
+    }
+
+    /**
+     * @return the clock frame delay count, in nanoseconds
+     */
+    public long getClockFrameDelayNanos() {
+        return this.clockSchedule.deadline - this.currentTime;
+    }
+
+    /**
+     * @return the graphical frame delay count, in nanoseconds
+     */
+    public long getGraphicalFrameDelayNanos() {
+        return this.graphicalSchedule.deadline - this.currentTime;
+    }
+
+    /**
+     * @return the lowest frame delay count of all present, in nanoseconds
+     */
+    public long getMinFrameDelayNanos() {
+        return Math.min(getClockFrameDelayNanos(), getGraphicalFrameDelayNanos());
+    }
+
+    /**
+     * @return the total time the frame delay counters have been reduced by, in nanoseconds
+     */
+    public long getElapsedNanos() {
+        return this.currentTime;
+    }
+
+    /**
+     * Represents the deadline of the next tick of one kind, and the fixed frame rate schedule it was taken from
+     */
+    private static class TickSchedule {
+        private long deadline;
+        private long epoch;
+        private long ticks;
+        private float frameRate;
+
+        /**
+         * Creates a tick schedule with the given deadline and no frame rate
+         *
+         * @param deadline time of the next tick, in nanoseconds
+         */
+        private TickSchedule(long deadline) {
+            setDeadline(deadline);
+        }
+
+        /**
+         * Sets the time of the next tick directly, dropping the current frame rate schedule
+         *
+         * @param deadline time of the next tick, in nanoseconds
+         */
+        private void setDeadline(long deadline) {
+            this.deadline = deadline;
+            this.frameRate = 0;
+        }
+
+        /**
+         * Moves the deadline to the next tick at the given frame rate; a new frame rate starts a new schedule from
+         * the current deadline, so each deadline is computed from the schedule's start instead of the last deadline
+         *
+         * @param frameRate frame rate, in frames per second (frameRate > 0)
+         */
+        private void scheduleNext(float frameRate) {
+            if (frameRate != this.frameRate) {
+                this.frameRate = frameRate;
+                this.epoch = this.deadline;
+                this.ticks = 0;
+            }
+            this.ticks++;
+            this.deadline = this.epoch + Math.round(this.ticks * (double) NANOS_PER_SECOND / frameRate);
+        }
     }
 }
@@ -34,6 +34,12 @@ public class JsonParser {
         parseObstacles(json.getJSONArray("obstacles"), parsedLevel);
         parseWalls(json.getJSONArray("walls"), parsedLevel);
         parseGoals(json.getJSONArray("goals"), parsedLevel);
+        parsedLevel.setContinuousCollisions(json.optBoolean("continuousCollisions", false));
+        parsedLevel.setSweptWallResolution(json.optBoolean("sweptWallResolution", false));
+        JSONObject fieldSize = json.optJSONObject("fieldSize");
+        if (fieldSize != null) {
+            parsedLevel.setFieldSize(fieldSize.getInt("width"), fieldSize.getInt("height"));
+        }
 
         return parsedLevel;
     }
@@ -0,0 +1,24 @@
+package util;
+
+/**
+ * Represents a way of scanning packed element bounds for the first element overlapping a box
+ *
+ * @see ElementBounds
+ */
+public interface OverlapKernel {
+    /**
+     * Finds the first element, in list order, whose bounds overlap the given box (touching counts as overlapping)
+     *
+     * @param minX minimum x coordinate of each element
+     * @param minY minimum y coordinate of each element
+     * @param maxX maximum x coordinate of each element
+     * @param maxY maximum y coordinate of each element
+     * @param lowX minimum x coordinate of the box
+     * @param lowY minimum y coordinate of the box
+     * @param highX maximum x coordinate of the box
+     * @param highY maximum y coordinate of the box
+     * @return the list index of the first overlapping element, or -1 if no element overlaps the box
+     */
+    int findFirstOverlap(double[] minX, double[] minY, double[] maxX, double[] maxY, double lowX, double lowY,
+                         double highX, double highY);
+}
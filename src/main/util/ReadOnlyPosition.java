@@ -0,0 +1,53 @@
+package util;
+
+/**
+ * Represents an x and y position in the game area that cannot be changed once created, for positions shared between
+ * level instances
+ */
+public class ReadOnlyPosition extends Position {
+    /**
+     * Creates a read-only position object with an x and y coordinate
+     *
+     * @param posX x coordinate (must be within the bounds of the level, made up of a sum of powers of 2)
+     * @param posY y coordinate (must be within the bounds of the level, made up of a sum of powers of 2)
+     */
+    public ReadOnlyPosition(double posX, double posY) {
+        super(posX, posY);
+    }
+
+    /**
+     * @param newX unused
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setPosX(double newX) {
+        throw new UnsupportedOperationException("Position is read-only");
+    }
+
+    /**
+     * @param newY unused
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void setPosY(double newY) {
+        throw new UnsupportedOperationException("Position is read-only");
+    }
+
+    /**
+     * @param dx unused
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void changePosX(double dx) {
+        throw new UnsupportedOperationException("Position is read-only");
+    }
+
+    /**
+     * @param dy unused
+     * @throws UnsupportedOperationException always
+     */
+    @Override
+    public void changePosY(double dy) {
+        throw new UnsupportedOperationException("Position is read-only");
+    }
+}
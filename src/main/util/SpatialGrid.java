@@ -0,0 +1,315 @@
+package util;
+
+import elem.LevelElement;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Represents a uniform grid of square cells that indexes a fixed list of level elements by their bounds, used to
+ * quickly find the elements that may overlap a given area
+ *
+ * @param <T> type of level element indexed by the grid
+ */
+public class SpatialGrid<T extends LevelElement> {
+    public static final int MIN_CELL_SIZE = 64;
+    public static final int MIN_CELL_BUDGET = 1024;
+    public static final int CELLS_PER_ELEMENT = 4;
+    public static final int INSERTION_SORT_LIMIT = 32;
+
+    private final List<T> elements;
+    private final ElementBounds bounds;
+    private final int cellSize;
+    private final double originX;
+    private final double originY;
+    private final int cols;
+    private final int rows;
+
+    // compressed cell contents: elements in cell c are cellContents[cellStarts[c]] to cellContents[cellStarts[c + 1]]
+    private final int[] cellStarts;
+    private final int[] cellContents;
+
+    // query state, reused between queries
+    private final int[] visitStamps;
+    private int currentStamp;
+    private final int[] candidates;
+    private int candidateCount;
+
+    /**
+     * Creates a spatial grid indexing the given list of level elements, sizing its cells so the grid stays within
+     * a memory budget proportional to the number of elements
+     *
+     * @param elements list of level elements to index (must not be modified while the grid is in use)
+     */
+    public SpatialGrid(List<T> elements) {
+        this.elements = elements;
+        this.bounds = new ElementBounds(elements);
+        double[] bounds = calculateBounds(elements);
+        this.originX = bounds[0];
+        this.originY = bounds[1];
+
+        int size = MIN_CELL_SIZE;
+        long budget = Math.max(MIN_CELL_BUDGET, (long) CELLS_PER_ELEMENT * elements.size());
+        while (countCells(bounds[2] - bounds[0], size) * countCells(bounds[3] - bounds[1], size) > budget) {
+            size *= 2;
+        }
+        this.cellSize = size;
+        this.cols = (int) countCells(bounds[2] - bounds[0], size);
+        this.rows = (int) countCells(bounds[3] - bounds[1], size);
+
+        this.cellStarts = new int[this.cols * this.rows + 1];
+        this.cellContents = new int[countCellEntries()];
+        fillCells();
+
+        this.visitStamps = new int[elements.size()];
+        this.currentStamp = 0;
+        this.candidates = new int[elements.size()];
+        this.candidateCount = 0;
+    }
+
+    /**
+     * Creates a spatial grid sharing the given grid's elements, bounds, and cells, with its own query state, so both grids
+     * can be queried independently (e.g. by different level instances)
+     *
+     * @param grid grid to share the elements and cells of
+     */
+    public SpatialGrid(SpatialGrid<T> grid) {
+        this.elements = grid.elements;
+        this.bounds = grid.bounds;
+        this.cellSize = grid.cellSize;
+        this.originX = grid.originX;
+        this.originY = grid.originY;
+        this.cols = grid.cols;
+        this.rows = grid.rows;
+        this.cellStarts = grid.cellStarts;
+        this.cellContents = grid.cellContents;
+
+        this.visitStamps = new int[this.elements.size()];
+        this.currentStamp = 0;
+        this.candidates = new int[this.elements.size()];
+        this.candidateCount = 0;
+    }
+
+    /**
+     * Calculates the smallest box containing every (non-null) element in the given list
+     *
+     * @param elements list of level elements
+     * @return the bounding box as {min x, min y, max x, max y}, or a zero-sized box if the list has no elements
+     */
+    private static double[] calculateBounds(List<? extends LevelElement> elements) {
+        double[] bounds = {Double.MAX_VALUE, Double.MAX_VALUE, -Double.MAX_VALUE, -Double.MAX_VALUE};
+        for (LevelElement elem : elements) {
+            if (elem != null) {
+                bounds[0] = Math.min(bounds[0], elem.getPosition().getPosX());
+                bounds[1] = Math.min(bounds[1], elem.getPosition().getPosY());
+                bounds[2] = Math.max(bounds[2], elem.getPosition().getPosX() + elem.getWidth());
+                bounds[3] = Math.max(bounds[3], elem.getPosition().getPosY() + elem.getHeight());
+            }
+        }
+        if (bounds[0] > bounds[2]) {
+            return new double[]{0, 0, 0, 0};
+        }
+        return bounds;
+    }
+
+    /**
+     * @param length length to cover
+     * @param size cell side length
+     * @return the number of cells of the given size needed to cover the given length
+     */
+    private static long countCells(double length, int size) {
+        return (long) Math.floor(length / size) + 1;
+    }
+
+    /**
+     * Counts the number of elements in every cell, storing each count in the cell's start index slot
+     *
+     * @return the total number of element entries across all cells
+     */
+    private int countCellEntries() {
+        int total = 0;
+        for (T elem : this.elements) {
+            if (elem != null) {
+                for (int row = toRow(elem.getPosition().getPosY()); row <= toRow(elemMaxY(elem)); row++) {
+                    for (int col = toCol(elem.getPosition().getPosX()); col <= toCol(elemMaxX(elem)); col++) {
+                        this.cellStarts[row * this.cols + col + 1]++;
+                        total++;
+                    }
+                }
+            }
+        }
+        for (int i = 1; i < this.cellStarts.length; i++) {
+            this.cellStarts[i] += this.cellStarts[i - 1];
+        }
+        return total;
+    }
+
+    /**
+     * Places the index of every element into each cell the element overlaps, in list order
+     */
+    private void fillCells() {
+        int[] fill = new int[this.cols * this.rows];
+        for (int i = 0; i < this.elements.size(); i++) {
+            T elem = this.elements.get(i);
+            if (elem != null) {
+                for (int row = toRow(elem.getPosition().getPosY()); row <= toRow(elemMaxY(elem)); row++) {
+                    for (int col = toCol(elem.getPosition().getPosX()); col <= toCol(elemMaxX(elem)); col++) {
+                        int cell = row * this.cols + col;
+                        this.cellContents[this.cellStarts[cell] + fill[cell]] = i;
+                        fill[cell]++;
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Finds every element whose cells overlap the given box, storing their list indices (in ascending order) as
+     * the grid's current candidates
+     *
+     * @param minX left edge of the box
+     * @param minY top edge of the box
+     * @param maxX right edge of the box (maxX >= minX)
+     * @param maxY bottom edge of the box (maxY >= minY)
+     * @return the number of candidates found
+     */
+    public int query(double minX, double minY, double maxX, double maxY) {
+        this.candidateCount = 0;
+        int firstCol = Math.max(toCol(minX), 0);
+        int lastCol = Math.min(toCol(maxX), this.cols - 1);
+        int firstRow = Math.max(toRow(minY), 0);
+        int lastRow = Math.min(toRow(maxY), this.rows - 1);
+        nextStamp();
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int col = firstCol; col <= lastCol; col++) {
+                addCandidatesInCell(row * this.cols + col);
+            }
+        }
+        sortCandidates();
+        return this.candidateCount;
+    }
+
+    /**
+     * Adds every element in the given cell that has not yet been seen during the current query to the candidates
+     *
+     * @param cell index of the cell
+     */
+    private void addCandidatesInCell(int cell) {
+        for (int i = this.cellStarts[cell]; i < this.cellStarts[cell + 1]; i++) {
+            int index = this.cellContents[i];
+            if (this.visitStamps[index] != this.currentStamp) {
+                this.visitStamps[index] = this.currentStamp;
+                this.candidates[this.candidateCount] = index;
+                this.candidateCount++;
+            }
+        }
+    }
+
+    /**
+     * Advances the query stamp, clearing all stamps if the counter wraps around
+     */
+    private void nextStamp() {
+        this.currentStamp++;
+        if (this.currentStamp == 0) {
+            Arrays.fill(this.visitStamps, 0);
+            this.currentStamp = 1;
+        }
+    }
+
+    /**
+     * Sorts the current candidates into ascending list order: insertion sort for short candidate lists (the usual
+     * case around the player, and mostly ordered already), and a general sort for long ones (e.g. a whole screen of
+     * elements), so long queries do not take quadratic time
+     */
+    private void sortCandidates() {
+        if (this.candidateCount > INSERTION_SORT_LIMIT) {
+            Arrays.sort(this.candidates, 0, this.candidateCount);
+            return;
+        }
+        for (int i = 1; i < this.candidateCount; i++) {
+            int index = this.candidates[i];
+            int j = i - 1;
+            while (j >= 0 && this.candidates[j] > index) {
+                this.candidates[j + 1] = this.candidates[j];
+                j--;
+            }
+            this.candidates[j + 1] = index;
+        }
+    }
+
+    /**
+     * @param posX x coordinate
+     * @return the (unclamped, saturating) column containing the x coordinate
+     */
+    private int toCol(double posX) {
+        return (int) Math.floor((posX - this.originX) / this.cellSize);
+    }
+
+    /**
+     * @param posY y coordinate
+     * @return the (unclamped, saturating) row containing the y coordinate
+     */
+    private int toRow(double posY) {
+        return (int) Math.floor((posY - this.originY) / this.cellSize);
+    }
+
+    /**
+     * @param elem level element
+     * @return the x coordinate of the element's right edge
+     */
+    private static double elemMaxX(LevelElement elem) {
+        return elem.getPosition().getPosX() + elem.getWidth();
+    }
+
+    /**
+     * @param elem level element
+     * @return the y coordinate of the element's bottom edge
+     */
+    private static double elemMaxY(LevelElement elem) {
+        return elem.getPosition().getPosY() + elem.getHeight();
+    }
+
+    /**
+     * @param index index of the candidate from the last query (0 <= index < number of candidates found)
+     * @return the list index of the candidate
+     */
+    public int getCandidateIndex(int index) {
+        return this.candidates[index];
+    }
+
+    /**
+     * @param index index of the candidate from the last query (0 <= index < number of candidates found)
+     * @return the candidate element
+     */
+    public T getCandidate(int index) {
+        return this.elements.get(this.candidates[index]);
+    }
+
+    /**
+     * @return the packed bounds of the elements indexed by the grid, in list order
+     */
+    public ElementBounds getBounds() {
+        return this.bounds;
+    }
+
+    /**
+     * @return the list of elements indexed by the grid
+     */
+    public List<T> getElements() {
+        return this.elements;
+    }
+
+    /**
+     * @return the side length of each cell, in pixels
+     */
+    public int getCellSize() {
+        return this.cellSize;
+    }
+
+    /**
+     * @return the number of cells in the grid
+     */
+    public int getCellCount() {
+        return this.cols * this.rows;
+    }
+}
@@ -0,0 +1,116 @@
+package util;
+
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * Represents a fixed timestep scheduler that paces ticks in real time: real time elapsed is collected into an
+ * accumulator, and each tick spends the time between it and the previous tick from the accumulator
+ * <p>
+ * Time lost to late wake-ups stays in the accumulator and is made up for by the following ticks, so ticks never drift
+ * from real time; if more than a set number of ticks are due at once, the rest of the backlog is dropped instead
+ */
+public class TickScheduler {
+    public static final int DEFAULT_MAX_CATCH_UP_TICKS = 5;
+
+    private final LongSupplier timeSource;
+    private final int maxCatchUpTicks;
+    private long lastTime;
+    private long accumulator;
+    private int catchUpTicks;
+
+    /**
+     * Creates a scheduler that uses the system's nanosecond timer
+     *
+     * @param maxCatchUpTicks maximum number of ticks that may be run back-to-back to catch up (maxCatchUpTicks > 0)
+     */
+    public TickScheduler(int maxCatchUpTicks) {
+        this(maxCatchUpTicks, System::nanoTime);
+    }
+
+    /**
+     * Creates a scheduler that uses the given time source
+     *
+     * @param maxCatchUpTicks maximum number of ticks that may be run back-to-back to catch up (maxCatchUpTicks > 0)
+     * @param timeSource source of the current time, in nanoseconds
+     */
+    public TickScheduler(int maxCatchUpTicks, LongSupplier timeSource) {
+        this.maxCatchUpTicks = maxCatchUpTicks;
+        this.timeSource = timeSource;
+        reset();
+    }
+
+    /**
+     * Empties the accumulator and restarts timing from the current time, e.g. after the tick cycle was paused
+     */
+    public void reset() {
+        this.lastTime = this.timeSource.getAsLong();
+        this.accumulator = 0;
+        this.catchUpTicks = 0;
+    }
+
+    /**
+     * Adds the real time elapsed since the last update to the accumulator
+     */
+    public void update() {
+        long now = this.timeSource.getAsLong();
+        this.accumulator += now - this.lastTime;
+        this.lastTime = now;
+        this.catchUpTicks = 0;
+    }
+
+    /**
+     * Spends the given delay from the accumulator if enough real time has been accumulated, and the maximum number of
+     * ticks since the last update has not been reached (reaching it drops the rest of the accumulated time)
+     *
+     * @param delay time between the previous tick and the next one, in nanoseconds (delay >= 0)
+     * @return true if the next tick is due, false otherwise
+     */
+    public boolean consume(long delay) {
+        if (this.accumulator < delay) {
+            return false;
+        } else if (this.catchUpTicks == this.maxCatchUpTicks) {
+            this.accumulator = 0;
+            return false;
+        }
+        this.accumulator -= delay;
+        this.catchUpTicks++;
+        return true;
+    }
+
+    /**
+     * Waits until enough real time has been accumulated for the given delay, or the thread is interrupted (the wait
+     * may end late; the difference is accounted for by the next update)
+     *
+     * @param delay time between the previous tick and the next one, in nanoseconds
+     */
+    public void waitFor(long delay) {
+        long remaining = getRemainingTime(delay);
+        while (remaining > 0 && !Thread.currentThread().isInterrupted()) {
+            LockSupport.parkNanos(remaining);
+            remaining = getRemainingTime(delay);
+        }
+    }
+
+    /**
+     * @param delay time between the previous tick and the next one, in nanoseconds
+     * @return the real time left until the next tick is due, in nanoseconds (negative if it is overdue)
+     */
+    public long getRemainingTime(long delay) {
+        return delay - this.accumulator - (this.timeSource.getAsLong() - this.lastTime);
+    }
+
+    /**
+     * @return the real time accumulated but not yet spent on ticks, in nanoseconds
+     */
+    public long getAccumulator() {
+        return this.accumulator;
+    }
+
+    /**
+     * @return the maximum number of ticks that may be run back-to-back to catch up
+     */
+    public int getMaxCatchUpTicks() {
+        return this.maxCatchUpTicks;
+    }
+}
@@ -75,4 +75,17 @@ class GoalTest {
         assertTrue(goal1.isCollidingWithPlayer(p2));
         assertFalse(goal2.isCollidingWithPlayer(p2));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void copyTest() {
+        goal2.setElementCol(new Color(1, 2, 3));
+        Goal copy = goal2.copy();
+        assertNotSame(goal2.getPosition(), copy.getPosition());
+        assertEquals(50, copy.getPosition().getPosX());
+        assertEquals(80, copy.getPosition().getPosY());
+        assertEquals(30, copy.getWidth());
+        assertEquals(8, copy.getHeight());
+        assertEquals(-2, copy.getNextLevelID());
+        assertEquals(new Color(1, 2, 3), copy.getElementCol());
+    }
+}
@@ -48,6 +48,21 @@ public class LevelElementTest {
         assertFalse(elem2.posYIsWithinBounds(6.125));
     }
 
+    @Test
+    public void calculateEntryTimeTest() {
+        // elem1 touches the player at x E [-5, 21], y E [0, 27]
+        assertEquals(0.5, elem1.calculateEntryTime(-15, 13, 5, 13));
+        assertEquals(0.25, elem1.calculateEntryTime(13, 37, 13, -3));
+        assertEquals(20.0 / 60, elem1.calculateEntryTime(-15, -20, 25, 40));
+        assertEquals(1, elem1.calculateEntryTime(31, 13, 21, 13));
+
+        assertEquals(Double.POSITIVE_INFINITY, elem1.calculateEntryTime(-15, -20, -10, -20));
+        assertEquals(Double.POSITIVE_INFINITY, elem1.calculateEntryTime(30, 13, 25, 13));
+        assertEquals(Double.POSITIVE_INFINITY, elem1.calculateEntryTime(-15, -20, 45, -5));
+        assertEquals(Double.POSITIVE_INFINITY, elem1.calculateEntryTime(8, 12, 80, 12));
+        assertEquals(Double.POSITIVE_INFINITY, elem1.calculateEntryTime(8, 12, 8, 12));
+    }
+
     @Test
     public void setElementColTest() {
         elem1.setElementCol(new Color(126, 255, 175));
@@ -73,4 +73,15 @@ public class ObstacleTest {
         assertTrue(obs1.isCollidingWithPlayer(p2));
         assertFalse(obs2.isCollidingWithPlayer(p2));
     }
+
+    @Test
+    public void copyTest() {
+        Obstacle copy = obs2.copy();
+        assertNotSame(obs2.getPosition(), copy.getPosition());
+        assertEquals(50, copy.getPosition().getPosX());
+        assertEquals(80, copy.getPosition().getPosY());
+        assertEquals(30, copy.getWidth());
+        assertEquals(8, copy.getHeight());
+        assertEquals(obs2.getElementCol(), copy.getElementCol());
+    }
 }
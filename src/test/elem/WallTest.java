@@ -325,4 +325,86 @@ public class WallTest {
         assertEquals(0, p1.getDX());
         assertEquals(0, p1.getDY());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void reverseRoundingPlayerCollisionTest() {
+        // reversals land exactly on the wall's edge only when accumulated step by step: y should bounce
+        Wall wall3 = new Wall(new Position(165, 170), 34, 4);
+        p1.setPosition(203.5, 167.5);
+        p1.setDX(-1);
+        p1.setDY(-3.3);
+        assertTrue(wall3.isCollidingWithPlayer(p1));
+        wall3.onPlayerCollision(p1);
+        assertEquals(203.5, p1.getPosition().getPosX());
+        assertEquals(184.25, p1.getPosition().getPosY());
+
+        Wall wall4 = new Wall(new Position(159, 70), 65, 11);
+        p2.setPosition(194.25, 64);
+        p2.setDX(-1);
+        p2.setDY(0.1);
+        assertTrue(wall4.isCollidingWithPlayer(p2));
+        wall4.onPlayerCollision(p2);
+        assertEquals(194.25, p2.getPosition().getPosX());
+        assertEquals(59.75, p2.getPosition().getPosY());
+    }
+
+    @Test
+    public void sweptPlayerCollisionTest() {
+        assertEquals(Wall.COMPATIBLE_RESOLUTION, wall2.getResolutionMode());
+        wall2.setResolutionMode(Wall.SWEPT_RESOLUTION);
+        assertEquals(Wall.SWEPT_RESOLUTION, wall2.getResolutionMode());
+
+        // entered from the left side: x should bounce
+        p2.setPosition(51 - Player.SIZE, 84);
+        p2.setDX(2);
+        p2.setDY(0.5);
+        assertTrue(wall2.isCollidingWithPlayer(p2));
+        wall2.onPlayerCollision(p2);
+        assertEquals(49.75 - Player.SIZE, p2.getPosition().getPosX());
+        assertEquals(84, p2.getPosition().getPosY());
+        assertEquals(2, p2.getDX());
+        assertEquals(0.5, p2.getDY());
+
+        // entered from below: y should bounce
+        p2.setPosition(65, 87.5 + Player.SIZE);
+        p2.setDX(0.25);
+        p2.setDY(-1);
+        assertTrue(wall2.isCollidingWithPlayer(p2));
+        wall2.onPlayerCollision(p2);
+        assertEquals(65, p2.getPosition().getPosX());
+        assertEquals(88.25 + Player.SIZE, p2.getPosition().getPosY());
+
+        // perfect corner test: both should bounce
+        p2.setPosition(79.25 + Player.SIZE, 87.25 + Player.SIZE);
+        p2.setDX(-2.5);
+        p2.setDY(-2.5);
+        assertTrue(wall2.isCollidingWithPlayer(p2));
+        wall2.onPlayerCollision(p2);
+        assertEquals(80.25 + Player.SIZE, p2.getPosition().getPosX());
+        assertEquals(88.25 + Player.SIZE, p2.getPosition().getPosY());
+
+        // no velocity: should leave through the closest side
+        p2.setPosition(52 - Player.SIZE, 84);
+        p2.setDX(0);
+        p2.setDY(0);
+        assertTrue(wall2.isCollidingWithPlayer(p2));
+        wall2.onPlayerCollision(p2);
+        assertEquals(49.75 - Player.SIZE, p2.getPosition().getPosX());
+        assertEquals(84, p2.getPosition().getPosY());
+        assertEquals(0, p2.getDX());
+        assertEquals(0, p2.getDY());
+    }
+
+    @Test
+    public void copyTest() {
+        wall2.setResolutionMode(Wall.SWEPT_RESOLUTION);
+        Wall copy = wall2.copy();
+        assertNotSame(wall2.getPosition(), copy.getPosition());
+        assertEquals(50, copy.getPosition().getPosX());
+        assertEquals(80, copy.getPosition().getPosY());
+        assertEquals(30, copy.getWidth());
+        assertEquals(8, copy.getHeight());
+        assertEquals(wall2.getElementCol(), copy.getElementCol());
+        assertEquals(Wall.SWEPT_RESOLUTION, copy.getResolutionMode());
+    }
+}
@@ -0,0 +1,50 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchResultTest {
+    BatchResult result;
+
+    @BeforeEach
+    public void setup() {
+        result = new BatchResult();
+    }
+
+    @Test
+    public void constructorTest() {
+        assertEquals(0, result.getRuns());
+        assertEquals(0, result.getGoalsReached());
+        assertEquals(0, result.getResets());
+        assertEquals(0, result.getTicks());
+        assertEquals(0, result.getAverageTicksToGoal());
+    }
+
+    @Test
+    public void addRunTest() {
+        result.addRun(true, 2, 100);
+        result.addRun(false, 5, 900);
+        result.addRun(true, 0, 50);
+        assertEquals(3, result.getRuns());
+        assertEquals(2, result.getGoalsReached());
+        assertEquals(7, result.getResets());
+        assertEquals(1050, result.getTicks());
+        assertEquals(75, result.getAverageTicksToGoal());
+    }
+
+    @Test
+    public void mergeTest() {
+        BatchResult other = new BatchResult();
+        result.addRun(true, 1, 10);
+        other.addRun(true, 3, 30);
+        other.addRun(false, 0, 90);
+        result.merge(other);
+        assertEquals(3, result.getRuns());
+        assertEquals(2, result.getGoalsReached());
+        assertEquals(4, result.getResets());
+        assertEquals(130, result.getTicks());
+        assertEquals(20, result.getAverageTicksToGoal());
+    }
+}
@@ -0,0 +1,89 @@
+package model;
+
+import elem.Goal;
+import elem.Obstacle;
+import elem.Wall;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import util.Position;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BatchRunnerTest {
+    public static final int MAX_TICKS = 200;
+
+    List<Level> levels;
+    TickInput[] right;
+    TickInput[] up;
+
+    @BeforeEach
+    public void setup() {
+        // goal to the right of the spawn position, obstacle above it
+        Level level1 = new Level("test", 0, new Position(100, 100), 30, new ArrayList<>(Arrays.asList(
+                new Goal(new Position(200, 90), 10, 20, 1), new Obstacle(new Position(90, 20), 20, 10))));
+        // wall to the right of the spawn position, goal above it
+        Level level2 = new Level("test", 1, new Position(100, 100), 12, new ArrayList<>(Arrays.asList(
+                new Wall(new Position(150, 50), 10, 100), new Goal(new Position(90, 20), 20, 10, 2))));
+        levels = Arrays.asList(level1, level2);
+        right = new TickInput[]{new TickInput(1, 0)};
+        up = new TickInput[]{new TickInput(0, -1)};
+    }
+
+    @Test
+    public void runTest() {
+        BatchRunner runner = new BatchRunner(levels, MAX_TICKS, 2);
+        BatchResult[] results = runner.run(2, i -> i == 0 ? right : up);
+        assertEquals(2, results.length);
+
+        // level 1: right reaches the goal, up keeps hitting the obstacle
+        assertEquals(2, results[0].getRuns());
+        assertEquals(1, results[0].getGoalsReached());
+        assertTrue(results[0].getResets() > 1);
+        assertTrue(results[0].getAverageTicksToGoal() < MAX_TICKS);
+        assertTrue(results[0].getTicks() > MAX_TICKS);
+
+        // level 2: right is stopped by the wall, up reaches the goal
+        assertEquals(2, results[1].getRuns());
+        assertEquals(1, results[1].getGoalsReached());
+        assertEquals(0, results[1].getResets());
+        assertTrue(results[1].getAverageTicksToGoal() < MAX_TICKS);
+    }
+
+    @Test
+    public void runMatchesSequentialTest() {
+        Random random = new Random(0);
+        List<TickInput[]> sequences = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            TickInput[] sequence = new TickInput[20];
+            for (int j = 0; j < sequence.length; j++) {
+                sequence[j] = new TickInput(random.nextInt(3) - 1, random.nextInt(3) - 1);
+            }
+            sequences.add(sequence);
+        }
+
+        BatchResult[] sequential = new BatchRunner(levels, MAX_TICKS, 1).run(sequences.size(), sequences::get);
+        BatchResult[] parallel = new BatchRunner(levels, MAX_TICKS, 4).run(sequences.size(), sequences::get);
+        for (int i = 0; i < levels.size(); i++) {
+            assertEquals(100, parallel[i].getRuns());
+            assertEquals(sequential[i].getGoalsReached(), parallel[i].getGoalsReached());
+            assertEquals(sequential[i].getResets(), parallel[i].getResets());
+            assertEquals(sequential[i].getTicks(), parallel[i].getTicks());
+            assertEquals(sequential[i].getAverageTicksToGoal(), parallel[i].getAverageTicksToGoal());
+        }
+    }
+
+    @Test
+    public void runLeavesLevelsUnchangedTest() {
+        Wall wall = levels.get(1).getWalls().get(0);
+        new BatchRunner(levels, MAX_TICKS).run(50, i -> right);
+        assertEquals(150, wall.getPosition().getPosX());
+        assertEquals(50, wall.getPosition().getPosY());
+        assertEquals(100, levels.get(1).getSpawn().getPosX());
+        assertEquals(100, levels.get(1).getSpawn().getPosY());
+    }
+}
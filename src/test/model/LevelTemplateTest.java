@@ -0,0 +1,143 @@
+package model;
+
+import elem.Goal;
+import elem.Obstacle;
+import elem.Wall;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import util.Position;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static model.Level.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelTemplateTest {
+    Player player;
+    Obstacle obs1;
+    Wall wall1;
+    Goal goal1;
+
+    Level level;
+    LevelTemplate template;
+
+    @BeforeEach
+    public void setup() {
+        player = new Player(new Position(3, 4), new Color(0, 150, 99));
+        obs1 = new Obstacle(new Position(100, 10), 5, 20); // x E [100, 105], y E [10, 30]
+        wall1 = new Wall(new Position(38, 400), 3, 10); // x E [38, 41], y E [400, 410]
+        goal1 = new Goal(new Position(16, 21), 3, 3, 1); // x E [16, 19], y E [21, 24]
+        level = new Level("test", 0, new Position(1, 2), 30,
+                new ArrayList<>(Arrays.asList(goal1, obs1, wall1)));
+        level.setContinuousCollisions(true);
+        level.setFieldSize(1200, 800);
+        template = new LevelTemplate(level);
+    }
+
+    @Test
+    public void constructorTest() {
+        assertEquals("test", template.getNamespace());
+        assertEquals(0, template.getID());
+        assertEquals(1, template.getSpawn().getPosX());
+        assertEquals(2, template.getSpawn().getPosY());
+        assertEquals(30, template.getInitialFrameRate());
+        assertTrue(template.hasContinuousCollisions());
+
+        assertEquals(3, template.getAllElements().size());
+        assertEquals(1, template.getObstacles().size());
+        assertEquals(1, template.getWalls().size());
+        assertEquals(1, template.getGoals().size());
+        assertEquals(16, template.getAllElements().get(0).getPosition().getPosX());
+        assertEquals(1, template.getGoals().get(0).getNextLevelID());
+
+        // the template has its own elements, and they cannot be replaced
+        assertNotSame(goal1, template.getGoals().get(0));
+        assertThrows(UnsupportedOperationException.class, () -> template.getAllElements().remove(0));
+        level.removeElement(0);
+        assertEquals(3, template.getAllElements().size());
+    }
+
+    @Test
+    public void instantiateTest() {
+        Level instance1 = template.instantiate();
+        Level instance2 = template.instantiate();
+        assertEquals("test", instance1.getNamespace());
+        assertEquals(30, instance1.getInitialFrameRate());
+        assertTrue(instance1.hasContinuousCollisions());
+        assertEquals(1200, instance1.getFieldWidth());
+        assertEquals(800, instance1.getFieldHeight());
+        assertSame(template, instance1.toTemplate());
+
+        // instances share the template's elements, but not their spawn positions
+        assertSame(template.getAllElements(), instance1.getAllElements());
+        assertSame(instance1.getWalls().get(0), instance2.getWalls().get(0));
+        assertNotSame(instance1.getSpawn(), instance2.getSpawn());
+        assertThrows(UnsupportedOperationException.class, () -> instance1.addElement(obs1));
+        assertThrows(UnsupportedOperationException.class, () -> instance1.removeElement(0));
+        assertThrows(UnsupportedOperationException.class, () -> instance1.setFieldSize(1, 1));
+    }
+
+    @Test
+    public void sharedElementsImmutableTest() {
+        Level instance1 = template.instantiate();
+        Level instance2 = template.instantiate();
+        Wall shared = instance1.getWalls().get(0);
+        assertTrue(shared.isFrozen());
+        assertThrows(UnsupportedOperationException.class, () -> shared.getPosition().setPosX(500));
+        assertThrows(UnsupportedOperationException.class, () -> shared.getPosition().changePosY(1));
+        assertThrows(UnsupportedOperationException.class, () -> shared.setElementCol(Color.RED));
+        assertThrows(UnsupportedOperationException.class, () -> shared.setResolutionMode(Wall.SWEPT_RESOLUTION));
+
+        // the other instance still sees (and collides with) the original wall
+        Wall other = instance2.getWalls().get(0);
+        assertEquals(38, other.getPosition().getPosX());
+        assertEquals(400, other.getPosition().getPosY());
+        assertEquals(Wall.COMPATIBLE_RESOLUTION, other.getResolutionMode());
+        assertEquals(wall1.getElementCol(), other.getElementCol());
+        player.setPosition(39, 405);
+        assertTrue(other.isCollidingWithPlayer(player));
+
+        // copies are independent, so they can be changed
+        Wall copy = shared.copy();
+        assertFalse(copy.isFrozen());
+        copy.getPosition().setPosX(500);
+        assertEquals(38, other.getPosition().getPosX());
+    }
+
+    @Test
+    public void instanceStateTest() {
+        Level instance1 = template.instantiate();
+        Level instance2 = template.instantiate();
+        instance1.setElementColours(Color.RED, Color.GREEN, Color.BLUE);
+        instance2.setContinuousCollisions(false);
+        assertEquals(Color.RED, instance1.getElementCol(instance1.getObstacles().get(0)));
+        assertEquals(Color.GREEN, instance1.getElementCol(instance1.getWalls().get(0)));
+        assertEquals(Color.BLUE, instance1.getElementCol(instance1.getGoals().get(0)));
+        assertEquals(template.getGoals().get(0).getElementCol(),
+                instance2.getElementCol(instance2.getGoals().get(0)));
+        assertTrue(instance1.hasContinuousCollisions());
+
+        Level copy = instance1.copy();
+        assertNotSame(instance1, copy);
+        assertSame(template, copy.toTemplate());
+        assertEquals(Color.BLUE, copy.getElementCol(copy.getGoals().get(0)));
+    }
+
+    @Test
+    public void instanceCollisionTest() {
+        Level instance1 = template.instantiate();
+        Level instance2 = template.instantiate();
+        instance1.startLevel(player);
+        player.setPosition(17, 22);
+        assertEquals(GOAL_REACHED, instance1.handlePlayerCollisions(player).getStatus());
+
+        Player otherPlayer = new Player(new Position(0, 0), Color.WHITE);
+        instance2.startLevel(otherPlayer);
+        otherPlayer.setPosition(102, 15);
+        assertEquals(RESET, instance2.handlePlayerCollisions(otherPlayer).getStatus());
+        assertEquals(1, otherPlayer.getPosition().getPosX());
+        assertNotEquals(1, player.getPosition().getPosX());
+    }
+}
@@ -1,10 +1,12 @@
 package model;
 
 import elem.Goal;
+import elem.LevelElement;
 import elem.Obstacle;
 import elem.Wall;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import util.CollisionEvent;
 import util.Position;
 
 import java.awt.*;
@@ -179,6 +181,40 @@ public class LevelTest {
         assertEquals(3.25, player.getDY());
     }
 
+    @Test
+    public void handlePlayerMultiWallCollisionTest() {
+        // x E [100, 200], y E [100, 110]; x E [100, 110], y E [100, 200]; x E [130, 135], y E [90, 130]
+        Level cornerLevel = new Level("test", 1, new Position(1, 2), 30, new ArrayList<>(Arrays.asList(
+                new Wall(new Position(100, 100), 100, 10), new Wall(new Position(100, 100), 10, 100),
+                new Wall(new Position(130, 90), 5, 40))));
+
+        player.setPosition(114, 114);
+        player.setDX(2.5);
+        player.setDY(1.5);
+        assertEquals(NO_STATE_CHANGE, cornerLevel.handlePlayerCollisions(player).getStatus());
+        assertEquals(89.75, player.getPosition().getPosX());
+        assertEquals(114, player.getPosition().getPosY());
+        assertEquals(0, player.getDX());
+        assertEquals(1.5, player.getDY());
+
+        player.setPosition(150, 107);
+        player.setDX(0.375);
+        player.setDY(-1.875);
+        assertEquals(NO_STATE_CHANGE, cornerLevel.handlePlayerCollisions(player).getStatus());
+        assertEquals(150, player.getPosition().getPosX());
+        assertEquals(120.25, player.getPosition().getPosY());
+        assertEquals(0.375, player.getDX());
+        assertEquals(0, player.getDY());
+
+        // stationary player falls back to its default movement direction (down + right)
+        player = new Player(new Position(112.5, 112.5), new Color(0, 150, 99));
+        assertEquals(NO_STATE_CHANGE, cornerLevel.handlePlayerCollisions(player).getStatus());
+        assertEquals(89.75, player.getPosition().getPosX());
+        assertEquals(89.75, player.getPosition().getPosY());
+        assertEquals(0, player.getDX());
+        assertEquals(0, player.getDY());
+    }
+
     @Test
     public void handlePlayerObstacleCollisionTest() {
         player.setPosition(170, 17);
@@ -239,6 +275,141 @@ public class LevelTest {
         assertEquals(3, level.handlePlayerCollisions(player).getExtraData());
     }
 
+    @Test
+    public void typedViewsTest() {
+        assertSame(level.getWalls(), level.getWalls());
+        assertSame(level.getObstacles(), level.getObstacles());
+        assertSame(level.getGoals(), level.getGoals());
+        assertEquals(Arrays.asList(wall2, wall1), level.getWalls());
+        assertEquals(Arrays.asList(obs1, obs2, obs3), level.getObstacles());
+        assertEquals(Arrays.asList(goal1, goal2), level.getGoals());
+
+        Wall wall3 = new Wall(new Position(88, 69), 1, 2);
+        level.addElement(wall3);
+        assertEquals(Arrays.asList(wall2, wall1, wall3), level.getWalls());
+        level.removeElement(2);
+        assertEquals(Arrays.asList(wall1, wall3), level.getWalls());
+        level.removeElement(0);
+        assertEquals(Arrays.asList(obs2, obs3), level.getObstacles());
+
+        try {
+            level.getWalls().add(wall2);
+            fail("UnsupportedOperationException not thrown");
+        } catch (UnsupportedOperationException e) {
+            // all good, continue
+        }
+    }
+
+    @Test
+    public void collisionsAfterElementChangeTest() {
+        player.setPosition(170, 17);
+        assertEquals(RESET, level.handlePlayerCollisions(player).getStatus());
+
+        // removing obs2 rebuilds the spatial index
+        level.removeElement(3);
+        player.setPosition(170, 17);
+        assertEquals(NO_STATE_CHANGE, level.handlePlayerCollisions(player).getStatus());
+
+        level.addElement(new Goal(new Position(165, 15), 10, 10, 7));
+        assertEquals(GOAL_REACHED, level.handlePlayerCollisions(player).getStatus());
+        assertEquals(7, level.handlePlayerCollisions(player).getExtraData());
+    }
+
+    @Test
+    public void continuousCollisionsTest() {
+        assertFalse(level.hasContinuousCollisions());
+        level.setContinuousCollisions(true);
+        assertTrue(level.hasContinuousCollisions());
+
+        // skipping through wall2 in one check: the player should stop on top of it
+        player.setPosition(39.5, 380);
+        assertEquals(NO_STATE_CHANGE, level.handlePlayerCollisions(player).getStatus());
+        player.setPosition(39.5, 430);
+        player.setDY(10);
+        assertEquals(NO_STATE_CHANGE, level.handlePlayerCollisions(player).getStatus());
+        assertEquals(39.5, player.getPosition().getPosX());
+        assertEquals(389.75, player.getPosition().getPosY());
+        assertEquals(0, player.getDY());
+
+        // skipping through obs3 in one check
+        player.setPosition(420, 47.5);
+        assertEquals(NO_STATE_CHANGE, level.handlePlayerCollisions(player).getStatus());
+        player.setPosition(480, 47.5);
+        assertEquals(RESET, level.handlePlayerCollisions(player).getStatus());
+        assertEquals(1, player.getPosition().getPosX());
+        assertEquals(2, player.getPosition().getPosY());
+
+        // skipping through goal2 in one check, starting from the spawn point
+        player.setPosition(65, 2);
+        CollisionEvent collisionEvent = level.handlePlayerCollisions(player);
+        assertEquals(GOAL_REACHED, collisionEvent.getStatus());
+        assertEquals(3, collisionEvent.getExtraData());
+        assertEquals(23, player.getPosition().getPosX());
+        assertEquals(2, player.getPosition().getPosY());
+    }
+
+    @Test
+    public void sweptWallResolutionTest() {
+        // x E [100, 147], y E [100, 108]; entered from the left, but reversing the player's movement leaves through
+        // the right
+        Level wallLevel = new Level("test", 1, new Position(1, 2), 30,
+                new ArrayList<>(Arrays.asList(new Wall(new Position(100, 100), 47, 8))));
+        assertFalse(wallLevel.hasSweptWallResolution());
+        player.setPosition(106.75, 99.25);
+        player.setDX(0.5);
+        assertEquals(NO_STATE_CHANGE, wallLevel.handlePlayerCollisions(player).getStatus());
+        assertEquals(157.25, player.getPosition().getPosX());
+
+        // swept: the player leaves through the side it entered from, also in instances sharing frozen walls
+        wallLevel.setSweptWallResolution(true);
+        assertTrue(wallLevel.hasSweptWallResolution());
+        Level instance = wallLevel.toTemplate().instantiate();
+        assertTrue(instance.hasSweptWallResolution());
+        assertTrue(wallLevel.copy().hasSweptWallResolution());
+        for (Level sweptLevel : Arrays.asList(wallLevel, instance)) {
+            player.setPosition(106.75, 99.25);
+            player.setDX(0.5);
+            assertEquals(NO_STATE_CHANGE, sweptLevel.handlePlayerCollisions(player).getStatus());
+            assertEquals(89.75, player.getPosition().getPosX());
+            assertEquals(99.25, player.getPosition().getPosY());
+            assertEquals(0, player.getDX());
+        }
+    }
+
+    @Test
+    public void largeCandidateListTest() {
+        // enough stacked goals + obstacles that every query around them is scanned through the overlap kernel
+        ArrayList<LevelElement> elements = new ArrayList<>();
+        for (int i = 0; i < KERNEL_SCAN_MIN_CANDIDATES; i++) {
+            elements.add(new Goal(new Position(200, 200), 10, 10, i)); // x E [200, 210], y E [200, 210]
+            elements.add(new Obstacle(new Position(600, 200), 10, 10)); // x E [600, 610], y E [200, 210]
+        }
+        Level stackedLevel = new Level("stacked", 0, new Position(0, 0), 30, elements);
+
+        player.setPosition(230, 205);
+        assertEquals(NO_STATE_CHANGE, stackedLevel.handlePlayerCollisions(player).getStatus());
+        player.setPosition(205, 205);
+        CollisionEvent event = stackedLevel.handlePlayerCollisions(player);
+        assertEquals(GOAL_REACHED, event.getStatus());
+        assertEquals(0, event.getExtraData());
+        player.setPosition(605, 205);
+        assertEquals(RESET, stackedLevel.handlePlayerCollisions(player).getStatus());
+        assertEquals(0, player.getPosition().getPosX());
+        assertEquals(0, player.getPosition().getPosY());
+    }
+
+    @Test
+    public void discreteCollisionsSkipTest() {
+        // without continuous collisions, skipping through wall2 in one check goes unnoticed
+        player.setPosition(39.5, 380);
+        assertEquals(NO_STATE_CHANGE, level.handlePlayerCollisions(player).getStatus());
+        player.setPosition(39.5, 430);
+        player.setDY(10);
+        assertEquals(NO_STATE_CHANGE, level.handlePlayerCollisions(player).getStatus());
+        assertEquals(430, player.getPosition().getPosY());
+        assertEquals(10, player.getDY());
+    }
+
     @Test
     public void filterOutNullElementTest() {
         level.addElement(null);
@@ -247,4 +418,51 @@ public class LevelTest {
         assertEquals(2, level.getWalls().size());
         assertEquals(2, level.getGoals().size());
     }
+
+    @Test
+    public void copyTest() {
+        level.setContinuousCollisions(true);
+        level.setFieldSize(2000, 1000);
+        Level copy = level.copy();
+        assertEquals("test", copy.getNamespace());
+        assertEquals(0, copy.getID());
+        assertEquals(1, copy.getSpawn().getPosX());
+        assertEquals(2, copy.getSpawn().getPosY());
+        assertNotSame(level.getSpawn(), copy.getSpawn());
+        assertEquals(30, copy.getInitialFrameRate());
+        assertTrue(copy.hasContinuousCollisions());
+        assertEquals(2000, copy.getFieldWidth());
+        assertEquals(1000, copy.getFieldHeight());
+        assertEquals(7, copy.getAllElements().size());
+        assertEquals(3, copy.getObstacles().size());
+        assertEquals(2, copy.getWalls().size());
+        assertEquals(2, copy.getGoals().size());
+        for (int i = 0; i < 7; i++) {
+            assertNotSame(level.getAllElements().get(i), copy.getAllElements().get(i));
+            assertEquals(level.getAllElements().get(i).getClass(), copy.getAllElements().get(i).getClass());
+            assertEquals(level.getAllElements().get(i).getPosition().getPosX(),
+                    copy.getAllElements().get(i).getPosition().getPosX());
+        }
+
+        // the copy collides like the original
+        player.setPosition(17, 22);
+        assertEquals(GOAL_REACHED, copy.handlePlayerCollisions(player).getStatus());
+        assertEquals(1, copy.handlePlayerCollisions(player).getExtraData());
+    }
+
+    @Test
+    public void fieldSizeTest() {
+        assertEquals(Simulation.PLAYFIELD_WIDTH, level.getFieldWidth());
+        assertEquals(Simulation.PLAYFIELD_HEIGHT, level.getFieldHeight());
+        assertTrue(level.hasDefaultFieldSize());
+        level.setFieldSize(3000, Simulation.PLAYFIELD_HEIGHT);
+        assertEquals(3000, level.getFieldWidth());
+        assertFalse(level.hasDefaultFieldSize());
+
+        // render indices are independent of the level's own
+        assertNotSame(level.createObstacleIndex(), level.createObstacleIndex());
+        assertEquals(3, level.createObstacleIndex().getElements().size());
+        assertEquals(2, level.createWallIndex().getElements().size());
+        assertEquals(2, level.createGoalIndex().getElements().size());
+    }
 }
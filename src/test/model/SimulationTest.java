@@ -0,0 +1,207 @@
+package model;
+
+import elem.Goal;
+import elem.LevelElement;
+import elem.Obstacle;
+import elem.Wall;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import util.Position;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static model.Simulation.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SimulationTest {
+    Player player;
+    Obstacle obs1;
+    Wall wall1;
+    Goal goal1;
+    Simulation simulation;
+
+    @BeforeEach
+    public void setup() {
+        player = new Player(new Position(0, 0), new Color(0, 150, 99));
+        obs1 = new Obstacle(new Position(300, 95), 10, 10); // x E [300, 310], y E [95, 105]
+        wall1 = new Wall(new Position(100, 200), 50, 5); // x E [100, 150], y E [200, 205]
+        goal1 = new Goal(new Position(400, 300), 10, 10, 4); // x E [400, 410], y E [300, 310]
+        simulation = new Simulation(createLevel(30), player);
+        simulation.restartLevel();
+    }
+
+    /**
+     * @param initialFrameRate initial frame rate of the level
+     * @return a test level with one obstacle, one wall, and one goal
+     */
+    private Level createLevel(float initialFrameRate) {
+        List<LevelElement> elements = new ArrayList<>(Arrays.asList(obs1, wall1, goal1));
+        return new Level("test", 0, new Position(100, 100), initialFrameRate, elements);
+    }
+
+    @Test
+    public void constructorTest() {
+        assertEquals(player, simulation.getPlayer());
+        assertEquals("test", simulation.getLevel().getNamespace());
+        assertEquals(30, simulation.getGraphicalFrameRate());
+        assertEquals(33, simulation.getFdt().getClockFrameDelay());
+        assertEquals(33, simulation.getFdt().getGraphicalFrameDelay());
+        assertEquals(33_333_333, simulation.getNextTickDelay());
+        assertEquals(0, simulation.getElapsedTime());
+        assertFalse(simulation.isClockTickDue());
+        assertEquals(Level.NO_STATE_CHANGE, simulation.getLastCollisionEvent().getStatus());
+        assertEquals(100, player.getPosition().getPosX());
+        assertEquals(100, player.getPosition().getPosY());
+    }
+
+    @Test
+    public void tickAndAdvanceTest() {
+        assertEquals(NO_TICK, simulation.tick(TickInput.NONE));
+        assertEquals(33_333_333, simulation.advance());
+        assertTrue(simulation.isClockTickDue());
+        assertEquals(CLOCK_TICK | GRAPHICAL_TICK, simulation.tick(new TickInput(1, 0)));
+        assertFalse(simulation.isClockTickDue());
+        assertEquals(100.375, player.getPosition().getPosX());
+        assertEquals(33_333_334, simulation.getNextTickDelay());
+        assertEquals(33_333_334, simulation.advance());
+        assertEquals(66_666_667, simulation.getElapsedTime());
+    }
+
+    @Test
+    public void stepMovementTest() {
+        assertEquals(Level.NO_STATE_CHANGE, simulation.step(new TickInput(1, -1)));
+        assertEquals(100.375, player.getPosition().getPosX());
+        assertEquals(99.625, player.getPosition().getPosY());
+        assertEquals(0.375, player.getDX());
+        assertEquals(-0.375, player.getDY());
+
+        assertEquals(Level.NO_STATE_CHANGE, simulation.step(new TickInput(1, -1)));
+        assertEquals(101.125, player.getPosition().getPosX());
+        assertEquals(98.875, player.getPosition().getPosY());
+
+        // no input: the player slows down
+        player.setDX(1.5);
+        player.setDY(0.5);
+        assertEquals(Level.NO_STATE_CHANGE, simulation.step(TickInput.NONE));
+        assertEquals(0.5625, player.getDX());
+        assertEquals(0, player.getDY());
+        assertEquals(101.6875, player.getPosition().getPosX());
+        assertEquals(98.875, player.getPosition().getPosY());
+    }
+
+    @Test
+    public void stepBoundsTest() {
+        player.setPosition(Player.SIZE + 0.25, PLAYFIELD_HEIGHT - Player.SIZE - 0.25);
+        player.setDX(-1);
+        player.setDY(1);
+        simulation.step(new TickInput(-1, 1));
+        assertEquals(Player.SIZE, player.getPosition().getPosX());
+        assertEquals(PLAYFIELD_HEIGHT - Player.SIZE, player.getPosition().getPosY());
+        assertEquals(0, player.getDX());
+        assertEquals(0, player.getDY());
+
+        player.setPosition(PLAYFIELD_WIDTH - Player.SIZE, Player.SIZE);
+        simulation.step(new TickInput(1, -1));
+        assertEquals(PLAYFIELD_WIDTH - Player.SIZE, player.getPosition().getPosX());
+        assertEquals(Player.SIZE, player.getPosition().getPosY());
+    }
+
+    @Test
+    public void stepLargeFieldBoundsTest() {
+        Level level = createLevel(30);
+        level.setFieldSize(2000, 1000);
+        simulation = new Simulation(level, player);
+        simulation.restartLevel();
+        player.setPosition(PLAYFIELD_WIDTH + 500, PLAYFIELD_HEIGHT + 500);
+        simulation.step(new TickInput(1, 1));
+        assertEquals(PLAYFIELD_WIDTH + 500 + player.getDX(), player.getPosition().getPosX());
+        assertEquals(PLAYFIELD_HEIGHT + 500 + player.getDY(), player.getPosition().getPosY());
+
+        player.setPosition(2000 - Player.SIZE, 1000 - Player.SIZE);
+        simulation.step(new TickInput(1, 1));
+        assertEquals(2000 - Player.SIZE, player.getPosition().getPosX());
+        assertEquals(1000 - Player.SIZE, player.getPosition().getPosY());
+    }
+
+    @Test
+    public void stepActionTest() {
+        simulation.step(new TickInput(0, 0, TickInput.INCREASE_FRAME_RATE));
+        assertEquals(30, simulation.getGraphicalFrameRate());
+        simulation.step(new TickInput(0, 0, TickInput.DECREASE_FRAME_RATE));
+        assertEquals(25, simulation.getGraphicalFrameRate());
+        simulation.step(new TickInput(0, 0, TickInput.DECREASE_FRAME_RATE));
+        assertEquals(20, simulation.getGraphicalFrameRate());
+        simulation.step(new TickInput(0, 0, TickInput.INCREASE_FRAME_RATE));
+        assertEquals(25, simulation.getGraphicalFrameRate());
+
+        player.setPosition(250, 250);
+        simulation.step(new TickInput(0, 0, TickInput.RESTART));
+        assertEquals(30, simulation.getGraphicalFrameRate());
+        assertEquals(100, player.getPosition().getPosX());
+        assertEquals(100, player.getPosition().getPosY());
+    }
+
+    @Test
+    public void stepRepeatedActionTest() {
+        // every press of the same key in one tick takes effect
+        simulation.step(new TickInput(0, 0, TickInput.DECREASE_FRAME_RATE, TickInput.DECREASE_FRAME_RATE));
+        assertEquals(20, simulation.getGraphicalFrameRate());
+        simulation.step(new TickInput(0, 0, TickInput.INCREASE_FRAME_RATE, TickInput.INCREASE_FRAME_RATE));
+        assertEquals(30, simulation.getGraphicalFrameRate());
+    }
+
+    @Test
+    public void stepActionOrderTest() {
+        // actions are taken in the order their keys were pressed: a restart undoes the frame rate changes before it
+        simulation.step(new TickInput(0, 0, TickInput.DECREASE_FRAME_RATE, TickInput.RESTART));
+        assertEquals(30, simulation.getGraphicalFrameRate());
+        simulation.step(new TickInput(0, 0, TickInput.RESTART, TickInput.DECREASE_FRAME_RATE));
+        assertEquals(25, simulation.getGraphicalFrameRate());
+        simulation.step(new TickInput(0, 0, TickInput.DECREASE_FRAME_RATE, TickInput.INCREASE_FRAME_RATE,
+                TickInput.DECREASE_FRAME_RATE));
+        assertEquals(20, simulation.getGraphicalFrameRate());
+    }
+
+    @Test
+    public void stepCollisionTest() {
+        player.setPosition(125, 195);
+        player.setDY(0.5);
+        assertEquals(Level.NO_STATE_CHANGE, simulation.step(TickInput.NONE));
+        assertEquals(125, player.getPosition().getPosX());
+        assertEquals(189.75, player.getPosition().getPosY());
+
+        player.setPosition(305, 100);
+        assertEquals(Level.RESET, simulation.step(TickInput.NONE));
+        assertEquals(100, player.getPosition().getPosX());
+        assertEquals(100, player.getPosition().getPosY());
+
+        player.setPosition(405, 305);
+        assertEquals(Level.GOAL_REACHED, simulation.step(TickInput.NONE));
+        assertEquals(4, simulation.getLastCollisionEvent().getExtraData());
+
+        simulation.setLevel(createLevel(2));
+        simulation.restartLevel();
+        assertEquals(2, simulation.getGraphicalFrameRate());
+        assertEquals(100, player.getPosition().getPosX());
+    }
+
+    @Test
+    public void lowFrameRateScheduleTest() {
+        // at 0.5 FPS, collisions are only checked every 2s, while the player moves every 1/30s: the 60th clock tick
+        // and the first graphical tick are due at exactly the same time
+        simulation = new Simulation(createLevel(0.5F), player);
+        player.setPosition(305, 100);
+        int steps = 0;
+        int status;
+        do {
+            status = simulation.step(TickInput.NONE);
+            steps++;
+        } while (status == Level.NO_STATE_CHANGE);
+        assertEquals(Level.RESET, status);
+        assertEquals(60, steps);
+        assertEquals(2_033_333_333L, simulation.getElapsedTime());
+    }
+}
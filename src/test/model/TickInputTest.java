@@ -0,0 +1,57 @@
+package model;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static model.TickInput.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TickInputTest {
+    TickInput input1;
+    TickInput input2;
+
+    @BeforeEach
+    public void setup() {
+        input1 = new TickInput(-1, 1, DECREASE_FRAME_RATE, RESTART, DECREASE_FRAME_RATE);
+        input2 = new TickInput(5, -3);
+    }
+
+    @Test
+    public void constructorTest() {
+        assertEquals(-1, input1.getHorizontalDir());
+        assertEquals(1, input1.getVerticalDir());
+        // actions keep the order they were taken in, repeats included
+        assertEquals(3, input1.getActionCount());
+        assertEquals(DECREASE_FRAME_RATE, input1.getAction(0));
+        assertEquals(RESTART, input1.getAction(1));
+        assertEquals(DECREASE_FRAME_RATE, input1.getAction(2));
+
+        // directions are clamped to -1, 0, or 1
+        assertEquals(1, input2.getHorizontalDir());
+        assertEquals(-1, input2.getVerticalDir());
+        assertEquals(0, input2.getActionCount());
+
+        assertEquals(0, NONE.getHorizontalDir());
+        assertEquals(0, NONE.getVerticalDir());
+        assertEquals(0, NONE.getActionCount());
+    }
+
+    @Test
+    public void actionsCopiedTest() {
+        int[] actions = {RESTART, INCREASE_FRAME_RATE};
+        TickInput input = new TickInput(0, 0, actions);
+        actions[0] = DECREASE_FRAME_RATE;
+        assertEquals(RESTART, input.getAction(0));
+    }
+
+    @Test
+    public void hasActionTest() {
+        assertTrue(input1.hasAction(RESTART));
+        assertFalse(input1.hasAction(INCREASE_FRAME_RATE));
+        assertTrue(input1.hasAction(DECREASE_FRAME_RATE));
+
+        assertFalse(input2.hasAction(RESTART));
+        assertFalse(input2.hasAction(INCREASE_FRAME_RATE));
+        assertFalse(input2.hasAction(DECREASE_FRAME_RATE));
+    }
+}
@@ -0,0 +1,91 @@
+package persistence;
+
+import model.TickInput;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InputLogTest {
+    static final int[][] ACTION_SEQUENCES = {{}, {TickInput.RESTART}, {TickInput.INCREASE_FRAME_RATE,
+            TickInput.INCREASE_FRAME_RATE}, {TickInput.INCREASE_FRAME_RATE, TickInput.RESTART,
+            TickInput.DECREASE_FRAME_RATE}, new int[TickInput.MAX_ACTIONS]};
+
+    static {
+        Arrays.fill(ACTION_SEQUENCES[4], TickInput.DECREASE_FRAME_RATE);
+    }
+
+    @Test
+    public void encodeInputTest() {
+        assertEquals(0b0000101, InputLog.encodeInput(TickInput.NONE));
+        assertEquals(0b0000000, InputLog.encodeInput(new TickInput(-1, -1)));
+        assertEquals(0b01_0001_1010, InputLog.encodeInput(new TickInput(1, 1, TickInput.RESTART)));
+        assertEquals(0b11_10_0010_0110, InputLog.encodeInput(new TickInput(1, 0,
+                TickInput.INCREASE_FRAME_RATE, TickInput.DECREASE_FRAME_RATE)));
+        assertEquals(0b10_11_0010_0110, InputLog.encodeInput(new TickInput(1, 0,
+                TickInput.DECREASE_FRAME_RATE, TickInput.INCREASE_FRAME_RATE)));
+    }
+
+    @Test
+    public void decodeInputTest() {
+        try {
+            for (int h = -1; h <= 1; h++) {
+                for (int v = -1; v <= 1; v++) {
+                    for (int[] actions : ACTION_SEQUENCES) {
+                        TickInput input = InputLog.decodeInput(InputLog.encodeInput(new TickInput(h, v, actions)));
+                        assertEquals(h, input.getHorizontalDir());
+                        assertEquals(v, input.getVerticalDir());
+                        assertEquals(actions.length, input.getActionCount());
+                        for (int i = 0; i < actions.length; i++) {
+                            assertEquals(actions[i], input.getAction(i));
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void decodeMalformedInputTest() {
+        assertThrows(IOException.class, () -> InputLog.decodeInput(0b0000011));
+        assertThrows(IOException.class, () -> InputLog.decodeInput(0b0001100));
+        assertThrows(IOException.class, () -> InputLog.decodeInput(0b10000101));
+        // bits past the last action
+        assertThrows(IOException.class, () -> InputLog.decodeInput(0b1_01_0001_0101));
+        assertThrows(IOException.class, () -> InputLog.decodeInput(-1));
+    }
+
+    @Test
+    public void varLongTest() {
+        long[] values = {0, 1, 127, 128, 300, 16_383, 16_384, Integer.MAX_VALUE, Long.MAX_VALUE};
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try {
+            DataOutputStream out = new DataOutputStream(bytes);
+            for (long value : values) {
+                InputLog.writeVarLong(out, value);
+            }
+            // 1 + 1 + 1 + 2 + 2 + 2 + 3 + 5 + 9 bytes
+            assertEquals(26, bytes.size());
+
+            DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes.toByteArray()));
+            for (long value : values) {
+                assertEquals(value, InputLog.readVarLong(in));
+            }
+            assertEquals(-1, InputLog.readRecordType(in));
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void readMalformedVarLongTest() {
+        byte[] bytes = new byte[10];
+        Arrays.fill(bytes, (byte) 0xFF);
+        DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes));
+        assertThrows(IOException.class, () -> InputLog.readVarLong(in));
+    }
+}
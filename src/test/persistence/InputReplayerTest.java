@@ -0,0 +1,205 @@
+package persistence;
+
+import model.Player;
+import model.Simulation;
+import model.TickInput;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import util.Position;
+
+import java.awt.*;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InputReplayerTest {
+    public static final String LEVEL_DIRECTORY = "./data/test/";
+
+    ByteArrayOutputStream log;
+    InputRecorder recorder;
+    Simulation simulation;
+    List<Position> trajectory;
+
+    @BeforeEach
+    public void setup() {
+        log = new ByteArrayOutputStream();
+        trajectory = new ArrayList<>();
+        try {
+            recorder = new InputRecorder(log, "test", 1);
+            simulation = new InputReplayer(new ByteArrayInputStream(createHeader()), LEVEL_DIRECTORY)
+                    .createSimulation(new Player(new Position(0, 0), Color.WHITE));
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+        simulation.restartLevel();
+        recorder.recordRestart();
+    }
+
+    /**
+     * @return an input log header for the level test[1]
+     * @throws IOException if an I/O error occurs
+     */
+    private byte[] createHeader() throws IOException {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        new InputRecorder(header, "test", 1).close();
+        return header.toByteArray();
+    }
+
+    /**
+     * Runs the recorded simulation for the given number of ticks, recording the input and the player's position of
+     * each tick
+     *
+     * @param ticks number of ticks to run
+     * @param input input for each clock tick
+     */
+    private void runTicks(int ticks, TickInput input) {
+        for (int i = 0; i < ticks; i++) {
+            simulation.advance();
+            TickInput tickInput = simulation.isClockTickDue() ? input : TickInput.NONE;
+            recorder.recordTick(simulation.tick(tickInput), tickInput, simulation.getPlayer());
+            trajectory.add(new Position(simulation.getPlayer().getPosition().getPosX(),
+                    simulation.getPlayer().getPosition().getPosY()));
+        }
+    }
+
+    /**
+     * Records a session with runs of ticks, actions, paused inputs, a level change, and a restart
+     */
+    private void recordSession() {
+        runTicks(200, new TickInput(1, 0));
+        runTicks(1, new TickInput(0, 1, TickInput.DECREASE_FRAME_RATE));
+        runTicks(350, new TickInput(-1, 1));
+        simulation.applyInput(new TickInput(0, -1));
+        recorder.recordPausedInput(new TickInput(0, -1));
+        runTicks(100, TickInput.NONE);
+        runTicks(1, new TickInput(0, 0, TickInput.RESTART, TickInput.INCREASE_FRAME_RATE));
+        runTicks(50, new TickInput(1, -1));
+        try {
+            simulation.setLevel(new InputReplayer(new ByteArrayInputStream(createHeader()), LEVEL_DIRECTORY)
+                    .createSimulation(new Player(new Position(0, 0), Color.WHITE)).getLevel());
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+        recorder.recordLevel("test", 1);
+        simulation.restartLevel();
+        recorder.recordRestart();
+        runTicks(400, new TickInput(-1, -1));
+    }
+
+    @Test
+    public void recordTest() {
+        recordSession();
+        assertEquals(1102, recorder.getTickCount());
+        assertFalse(recorder.checkError());
+        try {
+            recorder.close();
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+        // runs of ticks are stored in a few bytes, regardless of their length
+        assertTrue(log.size() < 200);
+    }
+
+    @Test
+    public void replayTest() {
+        recordSession();
+        try {
+            recorder.close();
+            InputReplayer replayer = new InputReplayer(new ByteArrayInputStream(log.toByteArray()), LEVEL_DIRECTORY);
+            Player player = new Player(new Position(0, 0), Color.WHITE);
+            Simulation replay = replayer.createSimulation(player);
+
+            int result;
+            long ticks = 0;
+            do {
+                result = replayer.replayNext(replay);
+                if (replayer.getTickCount() != ticks) {
+                    ticks = replayer.getTickCount();
+                    assertEquals(trajectory.get((int) ticks - 1).getPosX(), player.getPosition().getPosX());
+                    assertEquals(trajectory.get((int) ticks - 1).getPosY(), player.getPosition().getPosY());
+                }
+            } while (result == InputReplayer.REPLAYED);
+
+            assertEquals(InputReplayer.END_OF_LOG, result);
+            assertEquals(1102, replayer.getTickCount());
+            assertEquals(simulation.getElapsedTime(), replay.getElapsedTime());
+            assertEquals(simulation.getGraphicalFrameRate(), replay.getGraphicalFrameRate());
+            replayer.close();
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void replayPauseMenuRestartTest() {
+        // the pause menu's restart button is applied + recorded by the game loop as a paused input
+        runTicks(120, new TickInput(1, 1));
+        TickInput restart = new TickInput(0, 0, TickInput.RESTART);
+        simulation.applyInput(restart);
+        recorder.recordPausedInput(restart);
+        runTicks(80, new TickInput(-1, 0));
+        try {
+            recorder.close();
+            InputReplayer replayer = new InputReplayer(new ByteArrayInputStream(log.toByteArray()), LEVEL_DIRECTORY);
+            Player player = new Player(new Position(0, 0), Color.WHITE);
+            Simulation replay = replayer.createSimulation(player);
+            assertEquals(InputReplayer.END_OF_LOG, replayer.replay(replay));
+            assertEquals(200, replayer.getTickCount());
+            assertEquals(trajectory.get(199).getPosX(), player.getPosition().getPosX());
+            assertEquals(trajectory.get(199).getPosY(), player.getPosition().getPosY());
+            assertEquals(simulation.getElapsedTime(), replay.getElapsedTime());
+            replayer.close();
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void replayDivergedTest() {
+        recordSession();
+        try {
+            recorder.close();
+            InputReplayer replayer = new InputReplayer(new ByteArrayInputStream(log.toByteArray()), LEVEL_DIRECTORY);
+            Player player = new Player(new Position(0, 0), Color.WHITE);
+            Simulation replay = replayer.createSimulation(player);
+            while (replayer.getTickCount() < InputRecorder.CHECKPOINT_INTERVAL - 10) {
+                replayer.replayNext(replay);
+            }
+            player.setPosition(player.getPosition().getPosX() + 1, player.getPosition().getPosY());
+
+            assertEquals(InputReplayer.DIVERGED, replayer.replay(replay));
+            assertEquals(InputRecorder.CHECKPOINT_INTERVAL, replayer.getTickCount());
+            assertEquals(trajectory.get(InputRecorder.CHECKPOINT_INTERVAL - 1).getPosX(), replayer.getExpectedX());
+            assertEquals(trajectory.get(InputRecorder.CHECKPOINT_INTERVAL - 1).getPosY(), replayer.getExpectedY());
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void notAnInputLogTest() {
+        assertThrows(IOException.class, () -> new InputReplayer(
+                new ByteArrayInputStream(new byte[]{1, 2, 3, 4, 5}), LEVEL_DIRECTORY));
+    }
+
+    @Test
+    public void recordErrorTest() {
+        try {
+            InputRecorder failing = new InputRecorder(new ByteArrayOutputStream() {
+                @Override
+                public void flush() throws IOException {
+                    throw new IOException();
+                }
+            }, "test", 1);
+            failing.recordRestart();
+            assertFalse(failing.checkError());
+            assertThrows(IOException.class, failing::close);
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+}
@@ -5,6 +5,9 @@ import org.junit.jupiter.api.Test;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Paths;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -127,4 +130,47 @@ public class JsonReaderTest {
         assertEquals(-3, json.getJSONArray("goals").getJSONObject(0).getInt("nextLevelID"));
     }
 
+    @Test
+    public void readMappedFileTest() {
+        try {
+            json = JsonReader.readMappedFile("./data/test/testLevel1.json");
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+        assertEquals("test", json.getJSONObject("metadata").getString("namespace"));
+        assertEquals(-1, json.getJSONObject("metadata").getInt("id"));
+        assertEquals(17.5, json.getFloat("initialFrameRate"));
+        assertEquals(3, json.getJSONArray("obstacles").length());
+        assertEquals(3, json.getJSONArray("goals").getJSONObject(1).getInt("nextLevelID"));
+    }
+
+    @Test
+    public void readTextTest() {
+        try {
+            String text = JsonReader.readText("./data/test/testLevel2.json");
+            assertEquals(Files.size(Paths.get("./data/test/testLevel2.json")), text.length());
+            assertTrue(text.trim().startsWith("{"));
+            assertTrue(text.trim().endsWith("}"));
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void mapFileTest() {
+        try {
+            MappedByteBuffer buffer = JsonReader.mapFile("./data/test/testLevel2.json");
+            assertEquals(Files.size(Paths.get("./data/test/testLevel2.json")), buffer.remaining());
+            assertEquals('{', buffer.get(0));
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void mappedFileNotFoundTest() {
+        assertThrows(FileNotFoundException.class,
+                () -> JsonReader.readMappedFile("./data/thisFileDoesNotExist.json"));
+        assertThrows(FileNotFoundException.class, () -> JsonReader.mapFile("./data/thisFileDoesNotExist.json"));
+    }
 }
@@ -0,0 +1,198 @@
+package persistence;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class JsonStreamReaderTest {
+    JsonStreamReader json;
+
+    @Test
+    public void readObjectTest() {
+        json = new JsonStreamReader(new StringReader(
+                "{\"a\": 1, \"b\": [true, false, null], \"c\": {\"d\": \"e\"}, \"f\": -2.5e1}"));
+        try {
+            assertEquals(JsonStreamReader.BEGIN_OBJECT, json.peek());
+            json.beginObject();
+            assertTrue(json.hasNext());
+            assertEquals("a", json.nextName());
+            assertEquals(JsonStreamReader.NUMBER, json.peek());
+            assertEquals(1, json.nextInt());
+            assertEquals("b", json.nextName());
+            json.beginArray();
+            assertTrue(json.nextBoolean());
+            assertFalse(json.nextBoolean());
+            assertEquals(JsonStreamReader.NULL, json.peek());
+            json.skipValue();
+            assertFalse(json.hasNext());
+            json.endArray();
+            assertEquals("c", json.nextName());
+            json.beginObject();
+            assertEquals("d", json.nextName());
+            assertEquals("e", json.nextString());
+            json.endObject();
+            assertEquals("f", json.nextName());
+            assertEquals(-25, json.nextDouble());
+            assertFalse(json.hasNext());
+            json.endObject();
+            assertEquals(JsonStreamReader.END_DOCUMENT, json.peek());
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void readEmptyContainersTest() {
+        json = new JsonStreamReader(new StringReader(" { \"a\" : [ ] , \"b\" : { } } "));
+        try {
+            json.beginObject();
+            assertEquals("a", json.nextName());
+            json.beginArray();
+            assertFalse(json.hasNext());
+            json.endArray();
+            assertEquals("b", json.nextName());
+            json.beginObject();
+            assertFalse(json.hasNext());
+            json.endObject();
+            json.endObject();
+            assertEquals(JsonStreamReader.END_DOCUMENT, json.peek());
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void readNumbersTest() {
+        json = new JsonStreamReader(new StringReader("[0, -0, 17.5, 1e3, -123456789012, 12345678901234567890, 7.9]"));
+        try {
+            json.beginArray();
+            assertEquals(0, json.nextDouble());
+            assertEquals(-0.0, json.nextDouble());
+            assertEquals(17.5, json.nextDouble());
+            assertEquals(1000, json.nextDouble());
+            assertEquals(-123456789012.0, json.nextDouble());
+            assertEquals(12345678901234567890.0, json.nextDouble());
+            assertEquals(7, json.nextInt());
+            json.endArray();
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void readEscapedStringsTest() {
+        json = new JsonStreamReader(new StringReader("[\"a\\\"b\", \"\\u00e9\\n\\/\", \"\\\\\"]"));
+        try {
+            json.beginArray();
+            assertEquals("a\"b", json.nextString());
+            assertEquals("\u00e9\n/", json.nextString());
+            assertEquals("\\", json.nextString());
+            json.endArray();
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void readAcrossBufferBoundariesTest() {
+        // tokens are split across buffer refills at every possible offset
+        StringBuilder text = new StringBuilder("[");
+        for (int i = 0; i < 2000; i++) {
+            text.append(i == 0 ? "" : ",").append("{\"name\\u0041\": \"value").append(i).append("\", \"n\": ")
+                    .append(i * 1.5).append(", \"b\": true}");
+        }
+        json = new JsonStreamReader(new StringReader(text.append("]").toString()));
+        try {
+            json.beginArray();
+            for (int i = 0; i < 2000; i++) {
+                json.beginObject();
+                assertEquals("nameA", json.nextName());
+                assertEquals("value" + i, json.nextString());
+                assertEquals("n", json.nextName());
+                assertEquals(i * 1.5, json.nextDouble());
+                assertEquals("b", json.nextName());
+                assertTrue(json.nextBoolean());
+                json.endObject();
+            }
+            json.endArray();
+            assertEquals(JsonStreamReader.END_DOCUMENT, json.peek());
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void skipValueTest() {
+        json = new JsonStreamReader(new StringReader("{\"skip\": {\"a\": [1, {\"b\": null}, \"c\"]}, \"keep\": 2}"));
+        try {
+            json.beginObject();
+            assertEquals("skip", json.nextName());
+            json.skipValue();
+            assertEquals("keep", json.nextName());
+            assertEquals(2, json.nextInt());
+            json.endObject();
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void selectNameTest() {
+        String[] names = {"posX", "posY"};
+        json = new JsonStreamReader(new StringReader("{\"posY\": 1, \"pos\\u0058\": 2, \"other\": 3}"));
+        try {
+            json.beginObject();
+            assertEquals(1, json.selectName(names));
+            assertEquals(1, json.nextInt());
+            assertEquals(0, json.selectName(names));
+            assertEquals(2, json.nextInt());
+            assertEquals(-1, json.selectName(names));
+            assertEquals(3, json.nextInt());
+            json.endObject();
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void malformedDocumentTest() {
+        assertThrows(IOException.class, () -> readAll("{\"a\" 1}"));
+        assertThrows(IOException.class, () -> readAll("{\"a\": 1 \"b\": 2}"));
+        assertThrows(IOException.class, () -> readAll("[1, 2"));
+        assertThrows(IOException.class, () -> readAll("[\"abc]"));
+        assertThrows(IOException.class, () -> readAll("[tru]"));
+        assertThrows(IOException.class, () -> readAll("[1.2.3]"));
+        assertThrows(IOException.class, () -> readAll("{a: 1}"));
+        assertThrows(IOException.class, () -> readAll("{} {}"));
+        assertThrows(IOException.class, () -> readAll("[\"\\x\"]"));
+    }
+
+    @Test
+    public void wrongTokenTest() {
+        json = new JsonStreamReader(new StringReader("{\"a\": 1}"));
+        assertThrows(IOException.class, () -> json.beginArray());
+        try {
+            json.beginObject();
+            assertThrows(IOException.class, () -> json.nextString());
+            assertEquals("a", json.nextName());
+            assertThrows(IOException.class, () -> json.nextBoolean());
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    /**
+     * Reads and discards an entire JSON document
+     *
+     * @param text JSON document
+     * @throws IOException if the document is malformed
+     */
+    private void readAll(String text) throws IOException {
+        JsonStreamReader reader = new JsonStreamReader(new StringReader(text));
+        reader.skipValue();
+        reader.peek();
+    }
+}
@@ -0,0 +1,160 @@
+package persistence;
+
+import model.Level;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.*;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelCacheTest {
+    LevelCache cache;
+    Level level;
+
+    @BeforeEach
+    public void setup() {
+        cache = new LevelCache("./data/level/", 2);
+    }
+
+    @Test
+    public void constructorTest() {
+        assertEquals(0, cache.getSize());
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+        assertFalse(cache.isCached("main", 0));
+    }
+
+    @Test
+    public void getLevelTest() {
+        try {
+            level = cache.getLevel("main", 0);
+            assertEquals(1, cache.getMisses());
+            assertEquals(0, cache.getHits());
+            assertEquals("main", level.getNamespace());
+            assertEquals(0, level.getID());
+
+            Level secondInstance = cache.getLevel("main", 0);
+            assertEquals(1, cache.getMisses());
+            assertEquals(1, cache.getHits());
+            assertNotSame(level, secondInstance);
+            assertSame(level.getAllElements().get(0), secondInstance.getAllElements().get(0));
+            assertSame(cache.getTemplate("main", 0), cache.getTemplate("main", 0));
+
+            level.setElementColours(Color.RED, Color.RED, Color.RED);
+            assertEquals(Color.RED, level.getElementCol(level.getAllElements().get(0)));
+            assertNotEquals(Color.RED, secondInstance.getElementCol(secondInstance.getAllElements().get(0)));
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void binaryLevelTest() {
+        try {
+            File directory = Files.createTempDirectory("testLevels").toFile();
+            directory.deleteOnExit();
+            File binaryFile = new File(directory, "mainLevel0" + LevelFile.EXTENSION);
+            binaryFile.deleteOnExit();
+            Level expected = LevelReader.readLevel("./data/level/mainLevel0.json");
+            LevelFile.writeLevel(binaryFile.getPath(), expected);
+
+            cache = new LevelCache(directory.getPath() + File.separator, 2);
+            level = cache.getLevel("main", 0);
+            assertEquals("main", level.getNamespace());
+            assertEquals(0, level.getID());
+            assertEquals(expected.getAllElements().size(), level.getAllElements().size());
+            assertEquals(expected.getSpawn().getPosX(), level.getSpawn().getPosX());
+            assertEquals(expected.getSpawn().getPosY(), level.getSpawn().getPosY());
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void binaryLevelPreferredTest() {
+        try {
+            File directory = Files.createTempDirectory("testLevels").toFile();
+            directory.deleteOnExit();
+            File jsonFile = new File(directory, "mainLevel1.json");
+            jsonFile.deleteOnExit();
+            Files.copy(new File("./data/level/mainLevel1.json").toPath(), jsonFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING);
+            assertEquals(1, LevelCache.readLevel(directory.getPath() + File.separator, "main", 1).getID());
+
+            // a binary level file takes the place of the JSON level file of the same name
+            File binaryFile = new File(directory, "mainLevel1" + LevelFile.EXTENSION);
+            binaryFile.deleteOnExit();
+            LevelFile.writeLevel(binaryFile.getPath(), LevelReader.readLevel("./data/level/mainLevel2.json"));
+            cache = new LevelCache(directory.getPath() + File.separator, 2);
+            assertEquals(2, cache.getLevel("main", 1).getID());
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void prefetchTest() {
+        try {
+            cache.getLevel("main", 0);
+            // mainLevel0's goal leads to level 1
+            assertTrue(cache.isCached("main", 1));
+            level = cache.getLevel("main", 1);
+            assertEquals(1, level.getID());
+            assertEquals(1, cache.getMisses());
+            assertEquals(1, cache.getHits());
+
+            cache.prefetch("main", -11);
+            assertEquals(-11, cache.getLevel("main", -11).getID());
+            assertEquals(1, cache.getMisses());
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void evictionTest() {
+        try {
+            cache.getLevel("main", 0); // caches 0, prefetches 1
+            cache.getLevel("main", 1); // prefetches 2, evicting 0
+            assertEquals(2, cache.getSize());
+            assertFalse(cache.isCached("main", 0));
+            assertTrue(cache.isCached("main", 1));
+            assertTrue(cache.isCached("main", 2));
+
+            cache.getLevel("main", 0);
+            assertEquals(2, cache.getMisses());
+            assertEquals(2, cache.getSize());
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void levelNotFoundTest() {
+        assertThrows(FileNotFoundException.class, () -> cache.getLevel("main", 99));
+        assertFalse(cache.isCached("main", 99));
+        cache.prefetch("main", 98);
+        assertThrows(FileNotFoundException.class, () -> cache.getLevel("main", 98));
+        assertFalse(cache.isCached("main", 98));
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getHits());
+    }
+
+    @Test
+    public void closeTest() {
+        cache.close();
+        cache.prefetch("main", 2);
+        assertFalse(cache.isCached("main", 2));
+        try {
+            assertEquals(2, cache.getLevel("main", 2).getID());
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+}
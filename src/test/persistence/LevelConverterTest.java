@@ -0,0 +1,73 @@
+package persistence;
+
+import model.Level;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelConverterTest {
+    File directory;
+
+    @Test
+    public void existenceTest() {
+        new LevelConverter();
+    }
+
+    @Test
+    public void convertTest() {
+        try {
+            directory = Files.createTempDirectory("framedLevels").toFile();
+            directory.deleteOnExit();
+            String binary = new File(directory, "testLevel2" + LevelFile.EXTENSION).getPath();
+            String json = new File(directory, "testLevel2.json").getPath();
+            deleteOnExit(binary, json);
+            LevelConverter.convert("./data/test/testLevel2.json", binary);
+            LevelConverter.convert(binary, json);
+
+            Level expected = LevelReader.readLevel("./data/test/testLevel2.json");
+            Level actual = LevelReader.readLevel(json);
+            assertEquals(2, JsonReader.readFile(json).getInt("formatVersion"));
+            assertEquals(expected.getNamespace(), actual.getNamespace());
+            assertEquals(expected.getInitialFrameRate(), actual.getInitialFrameRate());
+            assertEquals(expected.getAllElements().size(), actual.getAllElements().size());
+            assertEquals(expected.getGoals().get(0).getNextLevelID(), actual.getGoals().get(0).getNextLevelID());
+            assertEquals(expected.getWalls().get(1).getPosition().getPosY(),
+                    actual.getWalls().get(1).getPosition().getPosY());
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+        assertThrows(IOException.class, () -> LevelConverter.convert("./data/test/testLevel2.json", "level.txt"));
+    }
+
+    @Test
+    public void convertDirectoryTest() {
+        try {
+            directory = Files.createTempDirectory("framedLevels").toFile();
+            directory.deleteOnExit();
+            String json = new File(directory, "mainLevel1.json").getPath();
+            String binary = new File(directory, "mainLevel1" + LevelFile.EXTENSION).getPath();
+            deleteOnExit(binary, json);
+            Files.copy(new File("./data/level/mainLevel1.json").toPath(), new File(json).toPath());
+
+            assertEquals(1, LevelConverter.convertDirectory(directory.getPath()));
+            assertEquals(LevelReader.readLevel(json).getAllElements().size(),
+                    LevelFile.readLevel(binary).getAllElements().size());
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+        assertThrows(IOException.class, () -> LevelConverter.convertDirectory("./data/thisDirectoryDoesNotExist"));
+    }
+
+    /**
+     * @param files files to delete when the tests end
+     */
+    private void deleteOnExit(String... files) {
+        for (String file : files) {
+            new File(file).deleteOnExit();
+        }
+    }
+}
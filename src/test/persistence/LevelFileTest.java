@@ -0,0 +1,142 @@
+package persistence;
+
+import elem.Goal;
+import elem.LevelElement;
+import elem.Obstacle;
+import model.Level;
+import org.junit.jupiter.api.Test;
+import util.Position;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelFileTest {
+    Level level;
+
+    @Test
+    public void existenceTest() {
+        new LevelFile();
+    }
+
+    @Test
+    public void roundTripTest() {
+        String[] files = {"./data/test/testLevel1.json", "./data/test/testLevel2.json",
+                "./data/level/mainLevel-11.json", "./data/level/mainLevel0.json", "./data/level/mainLevel1.json",
+                "./data/level/mainLevel2.json"};
+        try {
+            for (String file : files) {
+                Level expected = LevelReader.readLevel(file);
+                assertSameLevel(expected, LevelFile.readLevel(ByteBuffer.wrap(toBytes(expected))));
+            }
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void roundTripPropertiesTest() {
+        Level expected = new Level("n\u00e4mespace", -4, new Position(1.25, 2.5), 0.55F, new ArrayList<>(Arrays.asList(
+                new Obstacle(new Position(-0.5, 1E9), 1, 2), new Goal(new Position(3, 4), 5, 6, 7))));
+        expected.setContinuousCollisions(true);
+        expected.setSweptWallResolution(true);
+        expected.setFieldSize(4000, 451);
+        try {
+            level = LevelFile.readLevel(ByteBuffer.wrap(toBytes(expected)));
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+        assertSameLevel(expected, level);
+        assertEquals("n\u00e4mespace", level.getNamespace());
+        assertTrue(level.hasContinuousCollisions());
+        assertTrue(level.hasSweptWallResolution());
+        assertEquals(4000, level.getFieldWidth());
+        assertEquals(7, level.getGoals().get(0).getNextLevelID());
+        assertEquals(-0.5, level.getObstacles().get(0).getPosition().getPosX());
+    }
+
+    @Test
+    public void readWriteFileTest() {
+        try {
+            File file = File.createTempFile("testLevel", LevelFile.EXTENSION);
+            file.deleteOnExit();
+            Level expected = LevelReader.readLevel("./data/test/testLevel1.json");
+            LevelFile.writeLevel(file.getPath(), expected);
+            assertSameLevel(expected, LevelFile.readLevel(file.getPath()));
+            assertTrue(file.length() * 3 < new File("./data/test/testLevel1.json").length());
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    @Test
+    public void wrongFormatTest() {
+        byte[] bytes = new byte[0];
+        try {
+            bytes = toBytes(LevelReader.readLevel("./data/test/testLevel1.json"));
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+        byte[] badMagic = bytes.clone();
+        badMagic[0] = '{';
+        byte[] badVersion = bytes.clone();
+        badVersion[4] = LevelFile.FORMAT_VERSION + 1;
+        byte[] truncated = Arrays.copyOf(bytes, bytes.length - 1);
+        assertThrows(IOException.class, () -> LevelFile.readLevel(ByteBuffer.wrap(badMagic)));
+        assertThrows(IOException.class, () -> LevelFile.readLevel(ByteBuffer.wrap(badVersion)));
+        assertThrows(IOException.class, () -> LevelFile.readLevel(ByteBuffer.wrap(truncated)));
+        assertThrows(IOException.class, () -> LevelFile.readLevel(ByteBuffer.wrap(new byte[3])));
+        assertThrows(IOException.class, () -> LevelFile.readLevel("./data/test/testLevel1.json"));
+    }
+
+    @Test
+    public void fileNotFoundTest() {
+        assertThrows(FileNotFoundException.class, () -> LevelFile.readLevel("./data/thisFileDoesNotExist.frl"));
+    }
+
+    /**
+     * @param level level to write
+     * @return the level's binary level file contents
+     * @throws IOException if an I/O error occurs
+     */
+    private byte[] toBytes(Level level) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        LevelFile.writeLevel(out, level);
+        return out.toByteArray();
+    }
+
+    /**
+     * Asserts that both levels have the same properties and elements, in the same order
+     *
+     * @param expected expected level
+     * @param actual actual level
+     */
+    private void assertSameLevel(Level expected, Level actual) {
+        assertEquals(expected.getNamespace(), actual.getNamespace());
+        assertEquals(expected.getID(), actual.getID());
+        assertEquals(expected.getInitialFrameRate(), actual.getInitialFrameRate());
+        assertEquals(expected.getSpawn().getPosX(), actual.getSpawn().getPosX());
+        assertEquals(expected.getSpawn().getPosY(), actual.getSpawn().getPosY());
+        assertEquals(expected.hasContinuousCollisions(), actual.hasContinuousCollisions());
+        assertEquals(expected.hasSweptWallResolution(), actual.hasSweptWallResolution());
+        assertEquals(expected.getFieldWidth(), actual.getFieldWidth());
+        assertEquals(expected.getFieldHeight(), actual.getFieldHeight());
+        assertEquals(expected.getAllElements().size(), actual.getAllElements().size());
+        for (int i = 0; i < expected.getAllElements().size(); i++) {
+            LevelElement expectedElem = expected.getAllElements().get(i);
+            LevelElement actualElem = actual.getAllElements().get(i);
+            assertEquals(expectedElem.getClass(), actualElem.getClass());
+            assertEquals(expectedElem.getPosition().getPosX(), actualElem.getPosition().getPosX());
+            assertEquals(expectedElem.getPosition().getPosY(), actualElem.getPosition().getPosY());
+            assertEquals(expectedElem.getWidth(), actualElem.getWidth());
+            assertEquals(expectedElem.getHeight(), actualElem.getHeight());
+            assertEquals(expectedElem.getExtraDisplayData(), actualElem.getExtraDisplayData());
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package persistence;
+
+import elem.Goal;
+import elem.LevelElement;
+import model.Level;
+import org.junit.jupiter.api.Test;
+import util.JsonParser;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.StringReader;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LevelReaderTest {
+    Level level;
+
+    @Test
+    public void existenceTest() {
+        new LevelReader();
+    }
+
+    @Test
+    public void readLevelTest() {
+        try {
+            level = LevelReader.readLevel("./data/test/testLevel1.json");
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+
+        assertEquals("test", level.getNamespace());
+        assertEquals(-1, level.getID());
+        assertEquals(17.5, level.getInitialFrameRate());
+        assertEquals(40, level.getSpawn().getPosX());
+        assertEquals(50, level.getSpawn().getPosY());
+        assertEquals(3, level.getObstacles().size());
+        assertEquals(2, level.getWalls().size());
+        assertEquals(2, level.getGoals().size());
+
+        assertEquals(7, level.getAllElements().size());
+        assertEquals(8, level.getAllElements().get(0).getHeight());
+        assertEquals(12, level.getAllElements().get(1).getPosition().getPosX());
+        assertEquals(3, level.getAllElements().get(3).getWidth());
+        assertEquals(9, level.getAllElements().get(4).getPosition().getPosX());
+        assertEquals(33, level.getAllElements().get(6).getPosition().getPosY());
+        assertEquals(3, ((Goal) level.getAllElements().get(6)).getNextLevelID());
+        assertFalse(level.hasContinuousCollisions());
+    }
+
+    @Test
+    public void readLevelMatchesJsonParserTest() {
+        String[] files = {"./data/test/testLevel1.json", "./data/test/testLevel2.json",
+                "./data/level/mainLevel-11.json", "./data/level/mainLevel0.json", "./data/level/mainLevel1.json",
+                "./data/level/mainLevel2.json"};
+        try {
+            for (String file : files) {
+                assertSameLevel(JsonParser.jsonToLevel(JsonReader.readFile(file)), LevelReader.readLevel(file));
+            }
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+    }
+
+    /**
+     * Asserts that both levels have the same properties and elements, in the same order
+     *
+     * @param expected expected level
+     * @param actual actual level
+     */
+    private void assertSameLevel(Level expected, Level actual) {
+        assertEquals(expected.getNamespace(), actual.getNamespace());
+        assertEquals(expected.getID(), actual.getID());
+        assertEquals(expected.getInitialFrameRate(), actual.getInitialFrameRate());
+        assertEquals(expected.getSpawn().getPosX(), actual.getSpawn().getPosX());
+        assertEquals(expected.getSpawn().getPosY(), actual.getSpawn().getPosY());
+        assertEquals(expected.hasContinuousCollisions(), actual.hasContinuousCollisions());
+        assertEquals(expected.hasSweptWallResolution(), actual.hasSweptWallResolution());
+        assertEquals(expected.getFieldWidth(), actual.getFieldWidth());
+        assertEquals(expected.getFieldHeight(), actual.getFieldHeight());
+        assertEquals(expected.getAllElements().size(), actual.getAllElements().size());
+        for (int i = 0; i < expected.getAllElements().size(); i++) {
+            LevelElement expectedElem = expected.getAllElements().get(i);
+            LevelElement actualElem = actual.getAllElements().get(i);
+            assertEquals(expectedElem.getClass(), actualElem.getClass());
+            assertEquals(expectedElem.getPosition().getPosX(), actualElem.getPosition().getPosX());
+            assertEquals(expectedElem.getPosition().getPosY(), actualElem.getPosition().getPosY());
+            assertEquals(expectedElem.getWidth(), actualElem.getWidth());
+            assertEquals(expectedElem.getHeight(), actualElem.getHeight());
+            assertEquals(expectedElem.getExtraDisplayData(), actualElem.getExtraDisplayData());
+        }
+    }
+
+    @Test
+    public void readLevelOptionalPropertiesTest() {
+        String text = "{\"extra\": [1, {\"a\": null}], \"continuousCollisions\": true, \"goals\": [], \"walls\": [],"
+                + " \"fieldSize\": {\"height\": 600, \"width\": 2400}, \"sweptWallResolution\": true,"
+                + " \"obstacles\": [{\"pos\": {\"posX\": 1.5, \"posY\": 2, \"posZ\": 3}, \"width\": 4, \"height\": 5,"
+                + " \"note\": \"x\"}], \"spawn\": {\"posX\": 6, \"posY\": 7}, \"initialFrameRate\": 0.55,"
+                + " \"metadata\": {\"id\": 8, \"namespace\": \"gen\"}}";
+        try {
+            level = LevelReader.readLevel(new JsonStreamReader(new StringReader(text)));
+        } catch (IOException e) {
+            fail("Unexpected IOException caught");
+        }
+        assertEquals("gen", level.getNamespace());
+        assertEquals(8, level.getID());
+        assertEquals(0.55F, level.getInitialFrameRate());
+        assertTrue(level.hasContinuousCollisions());
+        assertTrue(level.hasSweptWallResolution());
+        assertEquals(2400, level.getFieldWidth());
+        assertEquals(600, level.getFieldHeight());
+        assertEquals(1, level.getObstacles().size());
+        assertEquals(1.5, level.getObstacles().get(0).getPosition().getPosX());
+        assertEquals(5, level.getObstacles().get(0).getHeight());
+    }
+
+    @Test
+    public void wrongFormatTest() {
+        assertThrows(IOException.class, () -> LevelReader.readLevel("./data/test/randomTestFile.json"));
+        assertThrows(IOException.class, () -> LevelReader.readLevel("./data/test/testColor1.json"));
+        String missingNextLevelID = "{\"metadata\": {\"namespace\": \"a\", \"id\": 0}, \"initialFrameRate\": 30,"
+                + " \"spawn\": {\"posX\": 1, \"posY\": 1}, \"obstacles\": [], \"walls\": [],"
+                + " \"goals\": [{\"pos\": {\"posX\": 1, \"posY\": 1}, \"width\": 1, \"height\": 1}]}";
+        assertThrows(IOException.class,
+                () -> LevelReader.readLevel(new JsonStreamReader(new StringReader(missingNextLevelID))));
+    }
+
+    @Test
+    public void fileNotFoundTest() {
+        assertThrows(FileNotFoundException.class, () -> LevelReader.readLevel("./data/thisFileDoesNotExist.json"));
+    }
+}
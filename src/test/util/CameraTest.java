@@ -0,0 +1,52 @@
+package util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CameraTest {
+    Camera camera;
+
+    @BeforeEach
+    public void setup() {
+        this.camera = new Camera(950, 450);
+    }
+
+    @Test
+    public void constructorTest() {
+        assertEquals(950, this.camera.getWidth());
+        assertEquals(450, this.camera.getHeight());
+        assertEquals(0, this.camera.getPosX());
+        assertEquals(0, this.camera.getPosY());
+    }
+
+    @Test
+    public void followTest() {
+        this.camera.follow(new Position(2000.75, 1000.5), 5000, 3000);
+        assertEquals(2000 - 475, this.camera.getPosX());
+        assertEquals(1000 - 225, this.camera.getPosY());
+    }
+
+    @Test
+    public void followEdgeTest() {
+        this.camera.follow(new Position(100, 2900), 5000, 3000);
+        assertEquals(0, this.camera.getPosX());
+        assertEquals(3000 - 450, this.camera.getPosY());
+
+        this.camera.follow(new Position(4990, 10), 5000, 3000);
+        assertEquals(5000 - 950, this.camera.getPosX());
+        assertEquals(0, this.camera.getPosY());
+    }
+
+    @Test
+    public void followSmallFieldTest() {
+        // fields no larger than the window never scroll
+        this.camera.follow(new Position(900, 400), 950, 450);
+        assertEquals(0, this.camera.getPosX());
+        assertEquals(0, this.camera.getPosY());
+        this.camera.follow(new Position(300, 200), 600, 300);
+        assertEquals(0, this.camera.getPosX());
+        assertEquals(0, this.camera.getPosY());
+    }
+}
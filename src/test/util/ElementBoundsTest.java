@@ -0,0 +1,92 @@
+package util;
+
+import elem.LevelElement;
+import elem.Obstacle;
+import elem.Wall;
+import model.Player;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.awt.Color;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ElementBoundsTest {
+    Wall wall;
+    Obstacle obst;
+    List<LevelElement> elements;
+    ElementBounds bounds;
+
+    @BeforeEach
+    public void setup() {
+        wall = new Wall(new Position(100, 100), 20, 40); // x E [100, 120], y E [100, 140]
+        obst = new Obstacle(new Position(300, 50), 10, 10); // x E [300, 310], y E [50, 60]
+        elements = new ArrayList<>(Arrays.asList(wall, null, obst));
+        bounds = new ElementBounds(elements);
+    }
+
+    @Test
+    public void constructorTest() {
+        assertEquals(3, bounds.size());
+        assertEquals(0, new ElementBounds(new ArrayList<>()).size());
+    }
+
+    @Test
+    public void isCollidingWithPlayerTest() {
+        Player player = new Player(new Position(0, 0), Color.WHITE);
+        double[][] positions = {{110, 120}, {90, 90}, {89, 120}, {130, 150}, {131, 120}, {305, 55}, {200, 200}};
+        for (double[] pos : positions) {
+            player.setPosition(pos[0], pos[1]);
+            assertEquals(wall.isCollidingWithPlayer(player), bounds.isCollidingWithPlayer(0, pos[0], pos[1]));
+            assertEquals(obst.isCollidingWithPlayer(player), bounds.isCollidingWithPlayer(2, pos[0], pos[1]));
+            assertFalse(bounds.isCollidingWithPlayer(1, pos[0], pos[1]));
+        }
+    }
+
+    @Test
+    public void findFirstCollidingTest() {
+        assertEquals(0, bounds.findFirstColliding(110, 120));
+        assertEquals(2, bounds.findFirstColliding(300 - Player.SIZE, 60 + Player.SIZE));
+        assertEquals(-1, bounds.findFirstColliding(200, 200));
+        assertEquals(-1, new ElementBounds(new ArrayList<>()).findFirstColliding(0, 0));
+    }
+
+    @Test
+    public void kernelTest() {
+        // whichever kernel is loaded must agree with the scalar kernel, including on partial vectors and null elements
+        Random random = new Random(17);
+        List<LevelElement> randomElements = new ArrayList<>();
+        for (int i = 0; i < 203; i++) {
+            randomElements.add(i % 50 == 7 ? null : new Obstacle(new Position(random.nextInt(2000),
+                    random.nextInt(2000)), 4 + random.nextInt(28), 4 + random.nextInt(28)));
+        }
+        ElementBounds randomBounds = new ElementBounds(randomElements);
+        for (int i = 0; i < 500; i++) {
+            double posX = random.nextInt(2100) - 50;
+            double posY = random.nextInt(2100) - 50;
+            assertEquals(randomBounds.findFirstColliding(posX, posY, ElementBounds.SCALAR_KERNEL),
+                    randomBounds.findFirstColliding(posX, posY));
+        }
+        // the given kernel is the one scanning
+        assertEquals(0, randomBounds.findFirstColliding(-1000, -1000,
+                (minX, minY, maxX, maxY, lowX, lowY, highX, highY) -> 0));
+    }
+
+    @Test
+    public void calculateEntryTimeTest() {
+        double[][] paths = {{50, 120, 150, 120}, {110, 0, 110, 200}, {110, 120, 200, 120}, {0, 0, 40, 0},
+                {200, 55, 400, 55}};
+        for (double[] path : paths) {
+            assertEquals(wall.calculateEntryTime(path[0], path[1], path[2], path[3]),
+                    bounds.calculateEntryTime(0, path[0], path[1], path[2], path[3]));
+            assertEquals(obst.calculateEntryTime(path[0], path[1], path[2], path[3]),
+                    bounds.calculateEntryTime(2, path[0], path[1], path[2], path[3]));
+        }
+        assertEquals(0.4, bounds.calculateEntryTime(0, 50, 120, 150, 120), 1e-9);
+        assertEquals(Double.POSITIVE_INFINITY, bounds.calculateEntryTime(0, 110, 120, 200, 120));
+    }
+}
@@ -57,4 +57,63 @@ public class FrameDelayTrackerTest {
         assertEquals(33, this.fdt.getGraphicalFrameDelay());
         assertEquals(0, this.fdt.getMinFrameDelay());
     }
+
+    @Test
+    public void nanosTest() {
+        assertEquals(33_000_000, this.fdt.getClockFrameDelayNanos());
+        assertEquals(66_000_000, this.fdt.getGraphicalFrameDelayNanos());
+        assertEquals(33_000_000, this.fdt.getMinFrameDelayNanos());
+        this.fdt.reduceFrameDelaysNanos(32_999_999);
+        assertEquals(1, this.fdt.getClockFrameDelayNanos());
+        assertEquals(33_000_001, this.fdt.getGraphicalFrameDelayNanos());
+        assertEquals(0, this.fdt.getClockFrameDelay());
+        assertEquals(33, this.fdt.getGraphicalFrameDelay());
+        assertEquals(32_999_999, this.fdt.getElapsedNanos());
+    }
+
+    @Test
+    public void scheduleNextTickTest() {
+        this.fdt.reduceFrameDelays(33);
+        this.fdt.scheduleNextClockTick(30);
+        assertEquals(33_333_333, this.fdt.getClockFrameDelayNanos());
+        this.fdt.reduceFrameDelaysNanos(33_333_333);
+        this.fdt.scheduleNextClockTick(30);
+        assertEquals(33_333_334, this.fdt.getClockFrameDelayNanos());
+
+        // a new frame rate starts counting from the last deadline
+        this.fdt.reduceFrameDelaysNanos(33_333_334);
+        this.fdt.scheduleNextClockTick(3);
+        assertEquals(333_333_333, this.fdt.getClockFrameDelayNanos());
+
+        // setting a delay directly drops the frame rate schedule
+        this.fdt.setClockFrameDelay(5);
+        assertEquals(5_000_000, this.fdt.getClockFrameDelayNanos());
+        this.fdt.reduceFrameDelays(5);
+        this.fdt.scheduleNextClockTick(3);
+        assertEquals(333_333_333, this.fdt.getClockFrameDelayNanos());
+    }
+
+    @Test
+    public void noDriftTest() {
+        // 10^6 clock ticks at 30 FPS, interleaved with graphical ticks at 0.55 FPS
+        this.fdt = new FrameDelayTracker(0, 0);
+        this.fdt.scheduleNextClockTick(30);
+        this.fdt.scheduleNextGraphicalTick(0.55F);
+        long clockTicks = 0;
+        long graphicalTicks = 0;
+        while (clockTicks < 1_000_000) {
+            this.fdt.reduceFrameDelaysNanos(this.fdt.getMinFrameDelayNanos());
+            if (this.fdt.getClockFrameDelayNanos() == 0) {
+                this.fdt.scheduleNextClockTick(30);
+                clockTicks++;
+            }
+            if (this.fdt.getGraphicalFrameDelayNanos() == 0) {
+                this.fdt.scheduleNextGraphicalTick(0.55F);
+                graphicalTicks++;
+            }
+        }
+        assertEquals(Math.round(1_000_000 * 1e9 / 30), this.fdt.getElapsedNanos());
+        assertEquals(33_333_333_333_333L, this.fdt.getElapsedNanos());
+        assertEquals((long) (1_000_000 / 30.0 * 0.55F), graphicalTicks);
+    }
 }
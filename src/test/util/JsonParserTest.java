@@ -10,6 +10,8 @@ import java.awt.*;
 import java.io.IOException;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 public class JsonParserTest {
@@ -69,6 +71,18 @@ public class JsonParserTest {
         assertEquals(3, level.getAllElements().get(3).getWidth());
         assertEquals(9, level.getAllElements().get(4).getPosition().getPosX());
         assertEquals(33, level.getAllElements().get(6).getPosition().getPosY());
+        assertFalse(level.hasContinuousCollisions());
+        assertFalse(level.hasSweptWallResolution());
+        assertTrue(level.hasDefaultFieldSize());
+
+        json.put("continuousCollisions", true);
+        json.put("sweptWallResolution", true);
+        json.put("fieldSize", new JSONObject().put("width", 1900).put("height", 900));
+        level = JsonParser.jsonToLevel(json);
+        assertTrue(level.hasContinuousCollisions());
+        assertTrue(level.hasSweptWallResolution());
+        assertEquals(1900, level.getFieldWidth());
+        assertEquals(900, level.getFieldHeight());
     }
 
     @Test
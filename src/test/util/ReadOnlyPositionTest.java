@@ -0,0 +1,31 @@
+package util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ReadOnlyPositionTest {
+    Position pos;
+
+    @BeforeEach
+    public void setup() {
+        this.pos = new ReadOnlyPosition(1, 5.25);
+    }
+
+    @Test
+    public void constructorTest() {
+        assertEquals(1, this.pos.getPosX());
+        assertEquals(5.25, this.pos.getPosY());
+    }
+
+    @Test
+    public void readOnlyTest() {
+        assertThrows(UnsupportedOperationException.class, () -> this.pos.setPosX(10));
+        assertThrows(UnsupportedOperationException.class, () -> this.pos.setPosY(10));
+        assertThrows(UnsupportedOperationException.class, () -> this.pos.changePosX(0.5));
+        assertThrows(UnsupportedOperationException.class, () -> this.pos.changePosY(0.5));
+        assertEquals(1, this.pos.getPosX());
+        assertEquals(5.25, this.pos.getPosY());
+    }
+}
@@ -0,0 +1,120 @@
+package util;
+
+import elem.LevelElement;
+import elem.Obstacle;
+import elem.Wall;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SpatialGridTest {
+    Wall wall1;
+    Wall wall2;
+    Wall wall3;
+    Wall wall4;
+    SpatialGrid<Wall> grid;
+
+    @BeforeEach
+    public void setup() {
+        wall1 = new Wall(new Position(500, 10), 20, 20); // x E [500, 520], y E [10, 30]
+        wall2 = new Wall(new Position(0, 0), 300, 5); // x E [0, 300], y E [0, 5]
+        wall3 = new Wall(new Position(60, 100), 10, 10); // x E [60, 70], y E [100, 110]
+        wall4 = new Wall(new Position(900, 400), 50, 50); // x E [900, 950], y E [400, 450]
+        grid = new SpatialGrid<>(new ArrayList<>(Arrays.asList(wall1, wall2, wall3, wall4)));
+    }
+
+    @Test
+    public void constructorTest() {
+        assertEquals(4, grid.getElements().size());
+        assertEquals(SpatialGrid.MIN_CELL_SIZE, grid.getCellSize());
+        assertEquals(15 * 8, grid.getCellCount());
+    }
+
+    @Test
+    public void sharedGridTest() {
+        SpatialGrid<Wall> shared = new SpatialGrid<>(grid);
+        assertSame(grid.getElements(), shared.getElements());
+        assertSame(grid.getBounds(), shared.getBounds());
+        assertEquals(grid.getCellSize(), shared.getCellSize());
+        assertEquals(grid.getCellCount(), shared.getCellCount());
+
+        // each grid keeps its own candidates
+        assertEquals(1, grid.query(505, 15, 510, 20));
+        assertEquals(1, shared.query(920, 420, 930, 430));
+        assertEquals(wall1, grid.getCandidate(0));
+        assertEquals(wall4, shared.getCandidate(0));
+    }
+
+    @Test
+    public void querySingleCellTest() {
+        assertEquals(1, grid.query(505, 15, 510, 20));
+        assertEquals(0, grid.getCandidateIndex(0));
+        assertEquals(wall1, grid.getCandidate(0));
+
+        assertEquals(1, grid.query(920, 420, 930, 430));
+        assertEquals(wall4, grid.getCandidate(0));
+
+        assertEquals(0, grid.query(700, 200, 710, 210));
+    }
+
+    @Test
+    public void queryOrderTest() {
+        // spans wall2's cells and wall3's cell: candidates come back in list order, without duplicates
+        assertEquals(2, grid.query(50, 0, 200, 105));
+        assertEquals(1, grid.getCandidateIndex(0));
+        assertEquals(2, grid.getCandidateIndex(1));
+
+        assertEquals(4, grid.query(0, 0, 950, 450));
+        assertEquals(wall1, grid.getCandidate(0));
+        assertEquals(wall2, grid.getCandidate(1));
+        assertEquals(wall3, grid.getCandidate(2));
+        assertEquals(wall4, grid.getCandidate(3));
+    }
+
+    @Test
+    public void queryCellEdgeTest() {
+        // boxes touching an element's edge must still find it
+        assertEquals(1, grid.query(520, 30, 530, 40));
+        assertEquals(wall1, grid.getCandidate(0));
+        assertEquals(1, grid.query(40, 90, 60, 100));
+        assertEquals(wall3, grid.getCandidate(0));
+    }
+
+    @Test
+    public void queryOutsideBoundsTest() {
+        assertEquals(0, grid.query(-100, -100, -50, -50));
+        assertEquals(0, grid.query(1000, 500, 1100, 600));
+        assertEquals(1, grid.query(-100, -100, 10, 10));
+        assertEquals(wall2, grid.getCandidate(0));
+        assertEquals(1, grid.query(940, 440, 2000, 2000));
+        assertEquals(wall4, grid.getCandidate(0));
+    }
+
+    @Test
+    public void emptyAndNullElementTest() {
+        SpatialGrid<LevelElement> emptyGrid = new SpatialGrid<>(new ArrayList<>());
+        assertEquals(1, emptyGrid.getCellCount());
+        assertEquals(0, emptyGrid.query(0, 0, 100, 100));
+
+        List<LevelElement> elements = new ArrayList<>(Arrays.asList(null, new Obstacle(new Position(5, 5), 5, 5)));
+        SpatialGrid<LevelElement> nullGrid = new SpatialGrid<>(elements);
+        assertEquals(1, nullGrid.query(0, 0, 100, 100));
+        assertEquals(1, nullGrid.getCandidateIndex(0));
+    }
+
+    @Test
+    public void cellBudgetTest() {
+        List<Wall> walls = new ArrayList<>();
+        walls.add(new Wall(new Position(0, 0), 1, 1));
+        walls.add(new Wall(new Position(100000, 100000), 1, 1));
+        SpatialGrid<Wall> sparseGrid = new SpatialGrid<>(walls);
+        assertTrue(sparseGrid.getCellCount() <= SpatialGrid.MIN_CELL_BUDGET);
+        assertEquals(1, sparseGrid.query(99990, 99990, 100010, 100010));
+        assertEquals(1, sparseGrid.getCandidateIndex(0));
+    }
+}
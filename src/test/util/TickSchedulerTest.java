@@ -0,0 +1,109 @@
+package util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TickSchedulerTest {
+    long[] time;
+    TickScheduler scheduler;
+
+    @BeforeEach
+    public void setup() {
+        time = new long[]{1000};
+        scheduler = new TickScheduler(3, () -> time[0]);
+    }
+
+    @Test
+    public void constructorTest() {
+        assertEquals(3, scheduler.getMaxCatchUpTicks());
+        assertEquals(0, scheduler.getAccumulator());
+        assertEquals(TickScheduler.DEFAULT_MAX_CATCH_UP_TICKS,
+                new TickScheduler(TickScheduler.DEFAULT_MAX_CATCH_UP_TICKS).getMaxCatchUpTicks());
+    }
+
+    @Test
+    public void consumeTest() {
+        time[0] += 25;
+        assertEquals(75, scheduler.getRemainingTime(100));
+        scheduler.update();
+        assertEquals(25, scheduler.getAccumulator());
+        assertFalse(scheduler.consume(100));
+        assertTrue(scheduler.consume(20));
+        assertEquals(5, scheduler.getAccumulator());
+
+        // late wake-ups are made up for by the next tick
+        time[0] += 110;
+        scheduler.update();
+        assertTrue(scheduler.consume(100));
+        assertEquals(15, scheduler.getAccumulator());
+        assertEquals(85, scheduler.getRemainingTime(100));
+        time[0] += 85;
+        assertEquals(0, scheduler.getRemainingTime(100));
+        scheduler.update();
+        assertTrue(scheduler.consume(100));
+        assertEquals(0, scheduler.getAccumulator());
+    }
+
+    @Test
+    public void catchUpBoundTest() {
+        time[0] += 1000;
+        scheduler.update();
+        assertTrue(scheduler.consume(100));
+        assertTrue(scheduler.consume(100));
+        assertTrue(scheduler.consume(100));
+        // the rest of the backlog is dropped
+        assertFalse(scheduler.consume(100));
+        assertEquals(0, scheduler.getAccumulator());
+
+        time[0] += 250;
+        scheduler.update();
+        assertTrue(scheduler.consume(100));
+        assertTrue(scheduler.consume(100));
+        assertFalse(scheduler.consume(100));
+        assertEquals(50, scheduler.getAccumulator());
+    }
+
+    @Test
+    public void resetTest() {
+        time[0] += 500;
+        scheduler.update();
+        time[0] += 500;
+        scheduler.reset();
+        assertEquals(0, scheduler.getAccumulator());
+        scheduler.update();
+        assertFalse(scheduler.consume(1));
+    }
+
+    @Test
+    public void noDriftTest() {
+        // 10^6 ticks at 30 FPS, with the real time between updates never matching the tick period
+        FrameDelayTracker fdt = new FrameDelayTracker(0, 1_000_000);
+        fdt.scheduleNextClockTick(30);
+        long ticks = 0;
+        while (ticks < 1_000_000) {
+            time[0] += 7_000_001 + (ticks % 13) * 1_000_000;
+            scheduler.update();
+            while (scheduler.consume(fdt.getClockFrameDelayNanos())) {
+                fdt.reduceFrameDelaysNanos(fdt.getClockFrameDelayNanos());
+                fdt.scheduleNextClockTick(30);
+                ticks++;
+            }
+        }
+        // real time and virtual time differ by less than one tick, with no accumulated error
+        assertEquals(time[0] - 1000, fdt.getElapsedNanos() + scheduler.getAccumulator());
+        assertTrue(scheduler.getAccumulator() < 33_333_334);
+        assertEquals(Math.round(ticks * 1e9 / 30), fdt.getElapsedNanos());
+    }
+
+    @Test
+    public void waitForTest() {
+        TickScheduler realScheduler = new TickScheduler(1);
+        long start = System.nanoTime();
+        realScheduler.waitFor(2_000_000);
+        assertTrue(System.nanoTime() - start >= 2_000_000);
+        realScheduler.update();
+        assertTrue(realScheduler.consume(2_000_000));
+    }
+}
@@ -0,0 +1,39 @@
+package util;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * Represents an overlap kernel that checks as many elements at once as the CPU's preferred vector width holds, using
+ * the incubating JDK Vector API
+ * <p>
+ * Needs JDK 16+ with the jdk.incubator.vector module added (--add-modules jdk.incubator.vector) to compile and run;
+ * ElementBounds only loads it when both hold, and falls back to its scalar kernel otherwise
+ */
+public class VectorOverlapKernel implements OverlapKernel {
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    @Override
+    public int findFirstOverlap(double[] minX, double[] minY, double[] maxX, double[] maxY, double lowX, double lowY,
+                                double highX, double highY) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(minX.length); i < bound; i += SPECIES.length()) {
+            VectorMask<Double> overlap = DoubleVector.fromArray(SPECIES, minX, i).compare(VectorOperators.LE, highX)
+                    .and(DoubleVector.fromArray(SPECIES, maxX, i).compare(VectorOperators.GE, lowX))
+                    .and(DoubleVector.fromArray(SPECIES, minY, i).compare(VectorOperators.LE, highY))
+                    .and(DoubleVector.fromArray(SPECIES, maxY, i).compare(VectorOperators.GE, lowY));
+            if (overlap.anyTrue()) {
+                return i + overlap.firstTrue();
+            }
+        }
+        // scalar tail for the elements that do not fill a whole vector
+        for (; i < minX.length; i++) {
+            if (minX[i] <= highX && lowX <= maxX[i] && minY[i] <= highY && lowY <= maxY[i]) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}